@@ -0,0 +1,99 @@
+// Concurrent booking load test for one professional's public storefront.
+//
+// Run it twice against the same build on a staging shared-cpu-1x / 1GB machine, once per thread mode,
+// and compare the booking throughput and latency percentiles k6 prints (see loadtest/README.md):
+//
+//   fly secrets set VIRTUAL_THREADS_ENABLED=false -a <staging app>   (then true)
+//   k6 run -e BASE_URL=https://<staging app>.fly.dev -e USER_ID=<professional id> loadtest/concurrent-bookings.js
+//
+// It creates real bookings and checkouts, so setup refuses the production host.
+// Use a test professional whose offerings have plenty of slot capacity. When an offering asks for
+// an advance payment every booking also calls MercadoPago to create the checkout, which is the
+// blocking outbound call this test is meant to exercise.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PRODUCTION_HOST = 'reservalink.site';
+const USER_ID = __ENV.USER_ID;
+const RATE = Number(__ENV.RATE || 40);
+const DURATION = __ENV.DURATION || '3m';
+
+const rejected = new Counter('bookings_rejected');
+
+export const options = {
+    scenarios: {
+        bookings: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: RATE * 2,
+            maxVUs: RATE * 10,
+            exec: 'book',
+        },
+        browsing: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.BROWSING_VUS || 20),
+            duration: DURATION,
+            exec: 'browse',
+        },
+    },
+    thresholds: {
+        'http_req_duration{name:create booking}': ['p(95)<2000'],
+        'http_req_failed{name:create booking}': ['rate<0.05'],
+    },
+};
+
+export function setup() {
+    if (!USER_ID) {
+        throw new Error('USER_ID is required');
+    }
+    const host = BASE_URL.replace(/^[a-z]+:\/\//, '').split(/[/:]/)[0];
+    if (host === PRODUCTION_HOST || host.endsWith(`.${PRODUCTION_HOST}`)) {
+        throw new Error(`Point BASE_URL at staging, not ${PRODUCTION_HOST}`);
+    }
+    const storefront = http.get(`${BASE_URL}/users/${USER_ID}/storefront`).json();
+    const targets = [];
+    for (const offering of storefront.offerings) {
+        for (const resource of storefront.resourcesByOffering[offering.id] || []) {
+            const page = http.get(`${BASE_URL}/slot-time/offering/${offering.id}/resource/${resource.id}/available-slots?page=0&pageSize=50`).json();
+            page.content.forEach(slot => targets.push({ offeringId: offering.id, resourceId: resource.id, slot }));
+        }
+    }
+    if (targets.length === 0) {
+        throw new Error('The storefront has no available slots to book');
+    }
+    return { targets };
+}
+
+export function book(data) {
+    const target = data.targets[Math.floor(Math.random() * data.targets.length)];
+    const body = {
+        slotTimeId: target.slot.id,
+        recurrenceId: target.slot.recurrenceId,
+        startDateTime: target.slot.startDateTime,
+        email: `load-${__VU}-${__ITER}@example.com`,
+        phoneNumber: `+54911${String(10000000 + Math.floor(Math.random() * 89999999))}`,
+        name: `Load ${__VU}`,
+        quantity: 1,
+    };
+    const response = http.post(`${BASE_URL}/booking`, JSON.stringify(body), {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { name: 'create booking' },
+    });
+    // Slots running out of capacity are expected under load and answered with 409.
+    if (response.status === 409) {
+        rejected.add(1);
+        return;
+    }
+    check(response, { 'booking created': r => r.status === 201 });
+}
+
+export function browse(data) {
+    const target = data.targets[Math.floor(Math.random() * data.targets.length)];
+    http.get(`${BASE_URL}/users/${USER_ID}/storefront`, { tags: { name: 'storefront' } });
+    http.get(`${BASE_URL}/slot-time/offering/${target.offeringId}/resource/${target.resourceId}/available-slots?page=0&pageSize=10`,
+        { tags: { name: 'available slots' } });
+}
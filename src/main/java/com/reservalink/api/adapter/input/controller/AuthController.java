@@ -6,13 +6,17 @@ import com.reservalink.api.adapter.input.controller.request.UserRegistrationRequ
 import com.reservalink.api.adapter.input.controller.response.UserAuthResponse;
 import com.reservalink.api.domain.User;
 import com.reservalink.api.application.service.user.UserService;
+import com.reservalink.api.config.security.AuthCookies;
+import com.reservalink.api.utils.AuthUtils;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -27,11 +31,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final UserService userService;
-    private final ModelMapper modelMapper;
+    private final AuthCookies authCookies;
 
-    public AuthController(UserService userService, ModelMapper modelMapper) {
+    public AuthController(UserService userService, AuthCookies authCookies) {
         this.userService = userService;
-        this.modelMapper = modelMapper;
+        this.authCookies = authCookies;
     }
 
     @PostMapping("/register")
@@ -39,7 +43,10 @@ public class AuthController {
     public UserAuthResponse register(@RequestBody @Valid UserRegistrationRequest userRegistrationRequest) {
         log.info("User registration request received");
         User newUser = userService.register(userRegistrationRequest);
-        return modelMapper.map(newUser, UserAuthResponse.class);
+        return UserAuthResponse.builder()
+                .id(newUser.getId())
+                .email(newUser.getEmail())
+                .build();
     }
 
     @PostMapping("/login")
@@ -47,30 +54,40 @@ public class AuthController {
                                                   HttpServletResponse response) {
         UserAuthResponse authResponse = userService.login(request);
 
-        ResponseCookie cookie = ResponseCookie.from("jwt", authResponse.getToken())
-                .httpOnly(true)
-                .secure(true)
-                .path("/")
-                .maxAge(7 * 24 * 60 * 60)
-                .sameSite("Strict")
-                .build();
-
-        response.addHeader("Set-Cookie", cookie.toString());
+        response.addHeader(HttpHeaders.SET_COOKIE, authCookies.accessToken(authResponse.getToken()));
+        response.addHeader(HttpHeaders.SET_COOKIE, authCookies.refreshToken(authResponse.getRefreshToken()));
         log.info("User {} logged successfully", authResponse.getEmail());
         return ResponseEntity.ok(authResponse);
     }
 
-    @PostMapping("/logout")
-    public ResponseEntity<Void> logout(HttpServletResponse response) {
-        ResponseCookie cookie = ResponseCookie.from("jwt", "")
-                .httpOnly(true)
-                .secure(false)
-                .path("/")
-                .maxAge(0)
-                .sameSite("Strict")
-                .build();
+    @PostMapping("/refresh")
+    public ResponseEntity<UserAuthResponse> refresh(HttpServletRequest request, HttpServletResponse response) {
+        String refreshToken = AuthUtils.getRefreshTokenFromCookies(request);
+        if (refreshToken == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            UserAuthResponse authResponse = userService.refresh(refreshToken);
+            response.addHeader(HttpHeaders.SET_COOKIE, authCookies.accessToken(authResponse.getToken()));
+            return ResponseEntity.ok(authResponse);
+        } catch (JwtException | BadCredentialsException e) {
+            log.info("Refresh token rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
 
-        response.addHeader("Set-Cookie", cookie.toString());
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(HttpServletRequest request, HttpServletResponse response) {
+        String refreshToken = AuthUtils.getRefreshTokenFromCookies(request);
+        if (refreshToken != null) {
+            try {
+                userService.revokeRefreshTokens(refreshToken);
+            } catch (JwtException e) {
+                log.info("Refresh token not revoked on logout: {}", e.getMessage());
+            }
+        }
+        response.addHeader(HttpHeaders.SET_COOKIE, authCookies.clearAccessToken());
+        response.addHeader(HttpHeaders.SET_COOKIE, authCookies.clearRefreshToken());
         log.info("User logged out successfully");
         return ResponseEntity.noContent().build();
     }
@@ -3,6 +3,7 @@ package com.reservalink.api.adapter.input.controller;
 import com.reservalink.api.adapter.input.controller.request.BookingRequest;
 import com.reservalink.api.adapter.input.controller.request.BookingSearchRequest;
 import com.reservalink.api.adapter.input.controller.response.BookingGridResponse;
+import com.reservalink.api.adapter.input.controller.response.BookingGridSliceResponse;
 import com.reservalink.api.adapter.input.controller.response.BookingResponse;
 import com.reservalink.api.application.service.booking.BookingService;
 import jakarta.validation.Valid;
@@ -62,6 +63,14 @@ public class BookingController {
                 .body(response);
     }
 
+    @GetMapping("/user/{userId}/seek")
+    public ResponseEntity<BookingGridSliceResponse> findSlice(@PathVariable UUID userId, @Valid @ModelAttribute BookingSearchRequest bookingSearchRequest) {
+        BookingGridSliceResponse response = bookingService.findBookingGridSlice(userId, bookingSearchRequest);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(response);
+    }
+
     @PatchMapping("/{bookingId}/cancel")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void cancelBooking(@PathVariable UUID bookingId) {
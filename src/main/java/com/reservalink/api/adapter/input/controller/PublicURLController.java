@@ -1,6 +1,7 @@
 package com.reservalink.api.adapter.input.controller;
 
 import com.reservalink.api.application.service.user.UserService;
+import com.reservalink.api.domain.Tenant;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,16 +18,16 @@ public class PublicURLController {
 
     @GetMapping("/servicios/{brandname}")
     public String renderUserOfferingsPage(@PathVariable String brandname) {
-        String userId = null;
+        Tenant tenant;
         try {
-            userId = userService.findUserIdByBrandName(brandname);
-            if (userService.isSubscriptionExpired(userId)) {
+            tenant = userService.findTenantByBrandName(brandname);
+            if (tenant.isSubscriptionExpired()) {
                 return "redirect:/public/404.html";
             }
 
         } catch (UsernameNotFoundException e) {
             return "redirect:/public/404.html";
         }
-        return "redirect:/public/user-offerings.html?userId=" + userId;
+        return "redirect:/public/user-offerings.html?userId=" + tenant.getUserId();
     }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,6 +23,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -78,9 +80,10 @@ public class SlotTimeController {
     public ResponseEntity<Page<SlotTimeResponse>> findAllAvailableSlotTimesByOffering(@NotNull @PathVariable UUID offeringId,
                                                                                       @NotNull @PathVariable UUID resourceId,
                                                                                       @RequestParam(defaultValue = "0") Integer page,
-                                                                                      @RequestParam(defaultValue = "10") Integer pageSize) {
+                                                                                      @RequestParam(defaultValue = "10") Integer pageSize,
+                                                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime after) {
         Pageable pageable = PageRequest.of(page, pageSize);
-        Page<SlotTimeResponse> response = slotTimeService.findAllAvailableSlotTimesByOfferingAndResourceId(offeringId, resourceId, pageable);
+        Page<SlotTimeResponse> response = slotTimeService.findAllAvailableSlotTimesByOfferingAndResourceId(offeringId, resourceId, after, pageable);
         return ResponseEntity.ok(response);
     }
 }
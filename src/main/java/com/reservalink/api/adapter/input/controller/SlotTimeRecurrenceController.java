@@ -0,0 +1,55 @@
+package com.reservalink.api.adapter.input.controller;
+
+import com.reservalink.api.adapter.input.controller.request.SlotTimeRecurrenceRequest;
+import com.reservalink.api.adapter.input.controller.response.SlotTimeRecurrenceResponse;
+import com.reservalink.api.application.service.booking.SlotTimeRecurrenceService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/slot-time/recurrence")
+public class SlotTimeRecurrenceController {
+
+    private final SlotTimeRecurrenceService slotTimeRecurrenceService;
+
+    public SlotTimeRecurrenceController(SlotTimeRecurrenceService slotTimeRecurrenceService) {
+        this.slotTimeRecurrenceService = slotTimeRecurrenceService;
+    }
+
+    @PostMapping
+    public ResponseEntity<SlotTimeRecurrenceResponse> create(@Valid @RequestBody SlotTimeRecurrenceRequest request) {
+        SlotTimeRecurrenceResponse response = slotTimeRecurrenceService.create(request);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(response);
+    }
+
+    @GetMapping("/offering/{offeringId}/resource/{resourceId}")
+    public ResponseEntity<List<SlotTimeRecurrenceResponse>> findAllByOfferingIdAndResourceId(@NotNull @PathVariable UUID offeringId,
+                                                                                            @NotNull @PathVariable String resourceId) {
+        return ResponseEntity.ok(slotTimeRecurrenceService.findAllByOfferingIdAndResourceId(offeringId, resourceId));
+    }
+
+    @DeleteMapping("/{recurrenceId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@NotNull @PathVariable UUID recurrenceId) {
+        log.info("New request to delete the following slot recurrence: {}", recurrenceId);
+        slotTimeRecurrenceService.delete(recurrenceId);
+        log.info("Slot recurrence deleted successfully");
+    }
+}
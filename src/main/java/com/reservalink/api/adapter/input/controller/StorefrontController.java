@@ -0,0 +1,47 @@
+package com.reservalink.api.adapter.input.controller;
+
+import com.reservalink.api.adapter.input.controller.response.StorefrontResponse;
+import com.reservalink.api.application.service.offering.Storefront;
+import com.reservalink.api.application.service.offering.StorefrontService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Everything the public booking page needs to render a brand in one response: offerings,
+ * categories in use and the resources with availability per offering. Slots stay on their own
+ * endpoint since they change with every booking.
+ */
+@RestController
+@RequestMapping("/users/{userId}/storefront")
+public class StorefrontController {
+
+    private final StorefrontService storefrontService;
+    private final CacheControl cacheControl;
+
+    public StorefrontController(StorefrontService storefrontService,
+                                @Value("${storefront.http.max-age:PT30S}") Duration maxAge) {
+        this.storefrontService = storefrontService;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().mustRevalidate();
+    }
+
+    /**
+     * Spring answers a matching If-None-Match with 304 and no body, so a revalidation costs only a
+     * cache lookup.
+     */
+    @GetMapping
+    public ResponseEntity<StorefrontResponse> find(@PathVariable UUID userId) {
+        Storefront storefront = storefrontService.findByUserId(userId);
+        return ResponseEntity.ok()
+                .eTag(storefront.etag())
+                .cacheControl(cacheControl)
+                .body(storefront.response());
+    }
+}
@@ -8,7 +8,6 @@ import com.reservalink.api.domain.User;
 import com.reservalink.api.application.service.user.UserService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,11 +27,9 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
-    private final ModelMapper modelMapper;
 
-    public UserController(UserService userService, ModelMapper modelMapper) {
+    public UserController(UserService userService) {
         this.userService = userService;
-        this.modelMapper = modelMapper;
     }
 
     @GetMapping("/{userId}")
@@ -56,7 +53,13 @@ public class UserController {
     @GetMapping("/{userId}/subscription")
     public ResponseEntity<SubscriptionResponse> findUserSubscription(@PathVariable UUID userId) {
         SubscriptionEntity subscriptionEntity = userService.findUserSubscription(userId);
-        return ResponseEntity.ok().body(modelMapper.map(subscriptionEntity, SubscriptionResponse.class));
+        return ResponseEntity.ok().body(SubscriptionResponse.builder()
+                .id(subscriptionEntity.getId())
+                .expired(subscriptionEntity.isExpired())
+                .creationDateTime(subscriptionEntity.getCreationDateTime())
+                .expiration(subscriptionEntity.getExpiration())
+                .checkoutLink(subscriptionEntity.getCheckoutLink())
+                .build());
     }
 
     @PatchMapping("/reset-password")
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 
@@ -31,4 +32,8 @@ public class BookingRequest {
 
     @NotNull
     private Integer quantity;
+
+    private String recurrenceId;
+
+    private LocalDateTime startDateTime;
 }
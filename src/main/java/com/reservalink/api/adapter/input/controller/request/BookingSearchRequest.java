@@ -16,9 +16,12 @@ public class BookingSearchRequest {
     private Integer pageNumber = 0;
     private Integer pageSize = 10;
     private String clientName;
+    private String search;
     private LocalDate startDate;
     private String month;
+    private Integer year;
     private String offeringId;
     private String resourceId;
     private LocalDate fromDate;
+    private String cursor;
 }
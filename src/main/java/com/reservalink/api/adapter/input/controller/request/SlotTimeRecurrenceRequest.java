@@ -0,0 +1,50 @@
+package com.reservalink.api.adapter.input.controller.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class SlotTimeRecurrenceRequest {
+
+    @NotNull
+    private UUID offeringId;
+
+    @NotNull
+    private String resourceId;
+
+    @NotEmpty
+    private Set<DayOfWeek> daysOfWeek;
+
+    @NotNull
+    private LocalTime startTime;
+
+    @NotNull
+    private LocalTime endTime;
+
+    @NotNull
+    @Min(5)
+    private Integer slotDurationMinutes;
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "Price must be greater than 0")
+    private Double price;
+
+    @NotNull
+    private LocalDate validFrom;
+
+    private LocalDate validUntil;
+}
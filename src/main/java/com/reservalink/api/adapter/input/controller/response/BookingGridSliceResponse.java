@@ -0,0 +1,22 @@
+package com.reservalink.api.adapter.input.controller.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class BookingGridSliceResponse {
+
+    private List<BookingGridResponse> content;
+
+    /**
+     * Cursor to pass to get the following rows, null on the last slice.
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,28 @@
+package com.reservalink.api.adapter.input.controller.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class SlotTimeRecurrenceResponse {
+    private String id;
+    private String offeringId;
+    private String resourceId;
+    private Set<DayOfWeek> daysOfWeek;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Integer slotDurationMinutes;
+    private Double price;
+    private LocalDate validFrom;
+    private LocalDate validUntil;
+}
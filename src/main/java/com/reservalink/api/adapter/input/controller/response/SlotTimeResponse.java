@@ -20,4 +20,5 @@ public class SlotTimeResponse {
     private Integer capacityAvailable;
     private Integer maxCapacity;
     private Boolean enabled;
+    private String recurrenceId;
 }
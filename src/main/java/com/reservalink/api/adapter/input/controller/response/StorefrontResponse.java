@@ -0,0 +1,24 @@
+package com.reservalink.api.adapter.input.controller.response;
+
+import com.reservalink.api.domain.OfferingCategory;
+import com.reservalink.api.domain.Resource;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class StorefrontResponse {
+
+    private List<OfferingResponse> offerings;
+
+    private List<OfferingCategory> categories;
+
+    private Map<String, List<Resource>> resourcesByOffering;
+}
@@ -1,5 +1,6 @@
 package com.reservalink.api.adapter.input.controller.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,4 +14,6 @@ public class UserAuthResponse {
     private String id;
     private String email;
     private String token;
+    @JsonIgnore
+    private String refreshToken;
 }
@@ -1,6 +1,7 @@
 package com.reservalink.api.adapter.input.scheduler;
 
 import com.reservalink.api.application.service.booking.BookingReminderService;
+import com.reservalink.api.config.persistence.Workload;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -15,8 +16,8 @@ public class BookingJob {
         this.bookingReminderService = bookingReminderService;
     }
 
-    @Scheduled(cron = "0 0/15 * * * *")
+    @Scheduled(cron = "${booking.reminders.cron:0 0/15 * * * *}")
     public void sendBookingReminders() {
-        bookingReminderService.sendReminders();
+        Workload.runAsJob(bookingReminderService::sendReminders);
     }
 }
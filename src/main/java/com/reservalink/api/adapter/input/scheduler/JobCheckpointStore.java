@@ -0,0 +1,54 @@
+package com.reservalink.api.adapter.input.scheduler;
+
+import com.reservalink.api.adapter.output.repository.JobCheckpointRepository;
+import com.reservalink.api.adapter.output.repository.entity.JobCheckpointEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Keyset checkpoints for chunked jobs. A run is identified by job name and run key (usually the
+ * run date); a checkpoint from an older run key is ignored so every new run starts from the beginning.
+ */
+@Component
+public class JobCheckpointStore {
+
+    static final String START = "";
+
+    private final JobCheckpointRepository jobCheckpointRepository;
+
+    public JobCheckpointStore(JobCheckpointRepository jobCheckpointRepository) {
+        this.jobCheckpointRepository = jobCheckpointRepository;
+    }
+
+    /**
+     * Returns the key to resume after, or empty when this run already completed.
+     */
+    public Optional<String> resume(String jobName, String runKey) {
+        Optional<JobCheckpointEntity> checkpoint = jobCheckpointRepository.findById(jobName)
+                .filter(existing -> existing.getRunKey().equals(runKey));
+        if (checkpoint.isEmpty()) {
+            return Optional.of(START);
+        }
+        return checkpoint.get().isCompleted() ? Optional.empty() : Optional.of(checkpoint.get().getLastId());
+    }
+
+    public void save(String jobName, String runKey, String lastId) {
+        write(jobName, runKey, lastId, false);
+    }
+
+    public void complete(String jobName, String runKey, String lastId) {
+        write(jobName, runKey, lastId, true);
+    }
+
+    private void write(String jobName, String runKey, String lastId, boolean completed) {
+        jobCheckpointRepository.save(JobCheckpointEntity.builder()
+                .jobName(jobName)
+                .runKey(runKey)
+                .lastId(lastId)
+                .completed(completed)
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -1,134 +1,146 @@
 package com.reservalink.api.adapter.input.scheduler;
 
-import com.reservalink.api.adapter.output.repository.entity.SubscriptionEntity;
 import com.reservalink.api.adapter.output.repository.entity.UserEntity;
-import com.reservalink.api.adapter.output.repository.BookingRepository;
-import com.reservalink.api.adapter.output.repository.SubscriptionRepository;
 import com.reservalink.api.adapter.output.repository.UserRepository;
+import com.reservalink.api.application.output.SubscriptionRepositoryPort;
 import com.reservalink.api.application.service.notification.NotificationService;
+import com.reservalink.api.application.service.user.SubscriptionStateChangedEvent;
+import com.reservalink.api.config.persistence.Workload;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Subscription jobs work in chunks, one transaction each, so memory and lock time stay bounded
+ * whatever the number of tenants. Expiry is set based and its own filter is the cursor; the
+ * notification passes walk users in keyset order by user id and checkpoint the last id of every
+ * chunk, so a run restarted on the same day resumes after it.
+ */
 @Slf4j
 @Component
 public class SubscriptionJob {
 
-    private final SubscriptionRepository subscriptionRepository;
     private final UserRepository userRepository;
+    private final SubscriptionRepositoryPort subscriptionRepositoryPort;
     private final NotificationService notificationService;
-
-    public SubscriptionJob(SubscriptionRepository subscriptionRepository, UserRepository userRepository, BookingRepository bookingRepository, NotificationService notificationService) {
-        this.subscriptionRepository = subscriptionRepository;
+    private final JobCheckpointStore jobCheckpointStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int chunkSize;
+
+    public SubscriptionJob(UserRepository userRepository, NotificationService notificationService,
+                           SubscriptionRepositoryPort subscriptionRepositoryPort, JobCheckpointStore jobCheckpointStore,
+                           ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                           @Value("${subscription.job.chunk-size:500}") int chunkSize) {
         this.userRepository = userRepository;
         this.notificationService = notificationService;
+        this.subscriptionRepositoryPort = subscriptionRepositoryPort;
+        this.jobCheckpointStore = jobCheckpointStore;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
     }
 
     @Scheduled(cron = "0 0 20 * * *")
-    @Transactional(rollbackFor = Exception.class)
     public void checkForDueSubscriptions() {
-        log.info("STARTING EXPIRED SUBSCRIPTIONS BATCH PROCESS");
-        List<UserEntity> dueUserEntities = userRepository
-                .findBySubscriptionEntity_EnabledTrueAndSubscriptionEntity_ExpiredFalseAndSubscriptionEntity_ExpirationBefore(
-                        LocalDateTime.now());
-
-        if (dueUserEntities.isEmpty()) {
-            log.info("No subscriptions expired found. Cron job skipped");
-            return;
-        }
+        Workload.runAsJob(this::expireDueSubscriptions);
+    }
 
-        log.info("{} subscriptions expired found and will be marked as EXPIRED.", dueUserEntities.size());
-        List<SubscriptionEntity> subscriptionsToUpdate = dueUserEntities.stream()
-                .map(UserEntity::getSubscriptionEntity)
-                .peek(subscription -> subscription.setExpired(Boolean.TRUE))
-                .toList();
+    @Scheduled(cron = "0 30 9 * * *")
+    public void sendExpirationNotifications() {
+        Workload.runAsJob(this::notifyExpirations);
+    }
 
-        subscriptionRepository.saveAllAndFlush(subscriptionsToUpdate);
+    private void expireDueSubscriptions() {
+        log.info("STARTING EXPIRED SUBSCRIPTIONS BATCH PROCESS");
+        LocalDateTime now = LocalDateTime.now();
+
+        int expired = 0;
+        List<String> subscriptionIds;
+        do {
+            subscriptionIds = subscriptionRepositoryPort.expireDue(now, chunkSize);
+            if (subscriptionIds.isEmpty()) {
+                break;
+            }
+            expired += subscriptionIds.size();
+
+            List<String> expiredIds = subscriptionIds;
+            try {
+                List<UserEntity> users = readOnlyTransactionTemplate.execute(status -> userRepository.findBySubscriptionIdIn(expiredIds));
+                eventPublisher.publishEvent(new SubscriptionStateChangedEvent(users.stream().map(UserEntity::getEmail).toList()));
+                notificationService.sendSubscriptionExpired(users);
+            } catch (Exception e) {
+                log.error("Unexpected error sending subscription expired notifications", e);
+            }
+        } while (subscriptionIds.size() == chunkSize);
 
-        try {
-            notificationService.sendSubscriptionExpired(dueUserEntities);
-        } catch (Exception e) {
-            log.error("Unexpected error sending subscription expired notifications", e);
+        if (expired == 0) {
+            log.info("No subscriptions expired found.");
         }
-
-        log.info("FINISHED EXPIRED SUBSCRIPTIONS BATCH PROCESS");
+        log.info("FINISHED EXPIRED SUBSCRIPTIONS BATCH PROCESS. {} subscriptions marked as EXPIRED.", expired);
     }
 
-    @Scheduled(cron = "0 30 9 * * *")
-    @Transactional(rollbackFor = Exception.class)
-    public void sendExpirationNotifications() {
+    private void notifyExpirations() {
         log.info("Running cron job to send subscription expired notifications");
         final LocalDate today = LocalDate.now();
-
-        LocalDateTime startOf3DaysFuture = today.plusDays(3).atStartOfDay();
-        LocalDateTime endOf3DaysFuture = LocalDateTime.of(today.plusDays(3), LocalTime.MAX);
-
-        LocalDateTime startOfTomorrow = today.plusDays(1).atStartOfDay();
-        LocalDateTime endOfTomorrow = LocalDateTime.of(today.plusDays(1), LocalTime.MAX);
-
-        LocalDateTime startOf3DaysAgo = today.minusDays(3).atStartOfDay();
-        LocalDateTime endOf3DaysAgo = LocalDateTime.of(today.minusDays(3), LocalTime.MAX);
-
-        LocalDateTime startOf5DaysAgo = today.minusDays(5).atStartOfDay();
-        LocalDateTime endOf5DaysAgo = LocalDateTime.of(today.minusDays(5), LocalTime.MAX);
+        final String runKey = today.toString();
 
         try {
-            List<UserEntity> expiringIn3Days = userRepository
-                    .findBySubscriptionEntity_EnabledTrueAndSubscriptionEntity_ExpiredFalseAndSubscriptionEntity_ExpirationBetween(
-                            startOf3DaysFuture, endOf3DaysFuture);
-
-            List<UserEntity> expiringTomorrow = userRepository
-                    .findBySubscriptionEntity_EnabledTrueAndSubscriptionEntity_ExpiredFalseAndSubscriptionEntity_ExpirationBetween(
-                            startOfTomorrow, endOfTomorrow);
-
-            List<UserEntity> expired3DaysAgo = userRepository
-                    .findBySubscriptionEntity_EnabledTrueAndSubscriptionEntity_ExpiredTrueAndSubscriptionEntity_ExpirationBetween(
-                            startOf3DaysAgo, endOf3DaysAgo);
-
-            List<UserEntity> expired5DaysAgo = userRepository
-                    .findBySubscriptionEntity_EnabledTrueAndSubscriptionEntity_ExpiredTrueAndSubscriptionEntity_ExpirationBetween(
-                            startOf5DaysAgo, endOf5DaysAgo);
-
-
-            Map<Integer, List<UserEntity>> subscriptionAboutToExpireMap =
-                    Stream.of(
-                                    Map.entry(3, expiringIn3Days),
-                                    Map.entry(1, expiringTomorrow)
-                            )
-                            .filter(e -> e.getValue() != null && !e.getValue().isEmpty())
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-            Map<Integer, List<UserEntity>> subscriptionExpiredMap =
-                    Stream.of(
-                                    Map.entry(3, expired3DaysAgo),
-                                    Map.entry(5, expired5DaysAgo)
-                            )
-                            .filter(e -> e.getValue() != null && !e.getValue().isEmpty())
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-
-            if (!subscriptionAboutToExpireMap.isEmpty()) {
-                notificationService.sendAboutToExpire(subscriptionAboutToExpireMap);
-            }
-
-            if (!subscriptionExpiredMap.isEmpty()) {
-                notificationService.sendRecoverExpired(subscriptionExpiredMap);
-            }
+            notifyInChunks("subscription-about-to-expire-3", runKey, false, today.plusDays(3),
+                    users -> notificationService.sendAboutToExpire(Map.of(3, users)));
+            notifyInChunks("subscription-about-to-expire-1", runKey, false, today.plusDays(1),
+                    users -> notificationService.sendAboutToExpire(Map.of(1, users)));
+            notifyInChunks("subscription-recover-expired-3", runKey, true, today.minusDays(3),
+                    users -> notificationService.sendRecoverExpired(Map.of(3, users)));
+            notifyInChunks("subscription-recover-expired-5", runKey, true, today.minusDays(5),
+                    users -> notificationService.sendRecoverExpired(Map.of(5, users)));
             log.info("Cron job ran successfully");
         } catch (Exception e) {
             log.error("Unexpected error sending notifications to subscriptions about to expire and to recover expired ones", e);
         }
-
     }
 
-
+    private void notifyInChunks(String jobName, String runKey, boolean expired, LocalDate expirationDay,
+                                Consumer<List<UserEntity>> sender) {
+        Optional<String> resumeAfter = jobCheckpointStore.resume(jobName, runKey);
+        if (resumeAfter.isEmpty()) {
+            log.info("{} already completed for {}, skipping", jobName, runKey);
+            return;
+        }
+        LocalDateTime from = expirationDay.atStartOfDay();
+        LocalDateTime to = LocalDateTime.of(expirationDay, LocalTime.MAX);
+
+        String afterId = resumeAfter.get();
+        int notified = 0;
+        List<UserEntity> chunk;
+        do {
+            String cursor = afterId;
+            chunk = readOnlyTransactionTemplate.execute(status ->
+                    userRepository.findSubscriptionExpirationChunk(expired, from, to, cursor, PageRequest.of(0, chunkSize)));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            sender.accept(chunk);
+            afterId = chunk.getLast().getId();
+            notified += chunk.size();
+            jobCheckpointStore.save(jobName, runKey, afterId);
+        } while (chunk.size() == chunkSize);
+
+        jobCheckpointStore.complete(jobName, runKey, afterId);
+        log.info("{} notified {} users", jobName, notified);
+    }
 }
@@ -2,7 +2,9 @@ package com.reservalink.api.adapter.output.providers;
 
 import com.reservalink.api.application.dto.WhatsappAppointmentReminderRequest;
 import com.reservalink.api.application.output.WhatsAppClientPort;
+import com.reservalink.api.config.http.HttpClientConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -22,7 +24,7 @@ public class MetaClientAdapter implements WhatsAppClientPort {
 
     public MetaClientAdapter(@Value("${meta.whatsapp.number-id}") String numberId,
                              @Value("${meta.whatsapp.token}") String token,
-                             RestTemplate restTemplate
+                             @Qualifier(HttpClientConfig.META) RestTemplate restTemplate
     ) {
         this.restTemplate = restTemplate;
         this.url = "https://graph.facebook.com/v22.0/" + numberId + "/messages";
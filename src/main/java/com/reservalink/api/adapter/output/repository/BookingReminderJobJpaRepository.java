@@ -3,15 +3,113 @@ package com.reservalink.api.adapter.output.repository;
 import com.reservalink.api.adapter.output.repository.entity.BookingReminderJobEntity;
 import com.reservalink.api.domain.BookingReminderJobStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface BookingReminderJobJpaRepository extends JpaRepository<BookingReminderJobEntity, String> {
 
-    List<BookingReminderJobEntity> findTop100ByStatusInAndTriggerDatetimeLessThanEqualOrderByTriggerDatetimeAsc(List<BookingReminderJobStatus> status, LocalDateTime triggerDatetime);
+    @Query(value = """
+            SELECT id
+            FROM booking_reminder_job
+            WHERE status IN (:statuses)
+              AND trigger_datetime <= :now
+              AND (lease_expires_at IS NULL OR lease_expires_at <= :now)
+            ORDER BY trigger_datetime
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<String> lockClaimableIds(@Param("statuses") Collection<String> statuses,
+                                  @Param("now") LocalDateTime now,
+                                  @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT id
+            FROM booking_reminder_job
+            WHERE id IN (:ids)
+              AND status IN (:statuses)
+              AND trigger_datetime <= :now
+              AND (lease_expires_at IS NULL OR lease_expires_at <= :now)
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<String> lockClaimableIdsIn(@Param("ids") Collection<String> ids,
+                                    @Param("statuses") Collection<String> statuses,
+                                    @Param("now") LocalDateTime now);
+
+    List<BookingReminderJobEntity> findByStatusInAndTriggerDatetimeBetween(Collection<BookingReminderJobStatus> statuses, LocalDateTime from, LocalDateTime until);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE BookingReminderJobEntity j
+            SET j.leaseOwner = :owner,
+                j.leaseExpiresAt = :leaseExpiresAt
+            WHERE j.id IN :ids
+              AND j.status IN :statuses
+              AND (j.leaseExpiresAt IS NULL OR j.leaseExpiresAt <= :now)
+            """)
+    int acquireLease(@Param("ids") Collection<String> ids,
+                     @Param("statuses") Collection<BookingReminderJobStatus> statuses,
+                     @Param("owner") String owner,
+                     @Param("now") LocalDateTime now,
+                     @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    @Query("""
+            SELECT j
+            FROM BookingReminderJobEntity j
+            WHERE j.id IN :ids
+              AND j.leaseOwner = :owner
+            ORDER BY j.triggerDatetime
+            """)
+    List<BookingReminderJobEntity> findLeasedBy(@Param("ids") Collection<String> ids, @Param("owner") String owner);
 
     List<BookingReminderJobEntity> findAllByEnabledTrueAndBooking_IdAndStatusIn(String bookingId, List<BookingReminderJobStatus> statusList);
-}
\ No newline at end of file
+
+    @Query("""
+            SELECT MIN(j.triggerDatetime)
+            FROM BookingReminderJobEntity j
+            WHERE j.status IN :statuses
+              AND j.triggerDatetime <= :triggerDatetime
+            """)
+    LocalDateTime findOldestTrigger(@Param("statuses") List<BookingReminderJobStatus> statuses,
+                                    @Param("triggerDatetime") LocalDateTime triggerDatetime);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE BookingReminderJobEntity j
+            SET j.status = :status,
+                j.processedAt = :processedAt,
+                j.leaseOwner = NULL,
+                j.leaseExpiresAt = NULL
+            WHERE j.id IN :ids
+              AND j.leaseOwner = :owner
+            """)
+    int updateStatusByIdIn(@Param("ids") Collection<String> ids,
+                           @Param("owner") String owner,
+                           @Param("status") BookingReminderJobStatus status,
+                           @Param("processedAt") LocalDateTime processedAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE BookingReminderJobEntity j
+            SET j.status = :status,
+                j.reAttempts = j.reAttempts + 1,
+                j.triggerDatetime = :nextTrigger,
+                j.leaseOwner = NULL,
+                j.leaseExpiresAt = NULL
+            WHERE j.id IN :ids
+              AND j.leaseOwner = :owner
+            """)
+    int updateRetryByIdIn(@Param("ids") Collection<String> ids,
+                          @Param("owner") String owner,
+                          @Param("status") BookingReminderJobStatus status,
+                          @Param("nextTrigger") LocalDateTime nextTrigger);
+}
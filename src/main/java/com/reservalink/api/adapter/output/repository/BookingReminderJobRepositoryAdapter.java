@@ -8,8 +8,11 @@ import com.reservalink.api.domain.BookingReminderJob;
 import com.reservalink.api.domain.BookingReminderJobStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +22,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BookingReminderJobRepositoryAdapter implements BookingReminderJobRepositoryPort {
 
+    private static final List<BookingReminderJobStatus> ELIGIBLE_STATUSES = List.of(BookingReminderJobStatus.PENDING, BookingReminderJobStatus.RETRY);
+
     private final BookingReminderJobJpaRepository repository;
     private final BookingReminderJobMapper bookingReminderJobMapper;
 
@@ -41,28 +46,62 @@ public class BookingReminderJobRepositoryAdapter implements BookingReminderJobRe
     }
 
     @Override
-    public List<BookingReminderJob> findEligibleReminders(LocalDateTime triggerTime) {
-        return repository
-                .findTop100ByStatusInAndTriggerDatetimeLessThanEqualOrderByTriggerDatetimeAsc(List.of(BookingReminderJobStatus.PENDING,BookingReminderJobStatus.RETRY), triggerTime)
+    @Transactional
+    public List<BookingReminderJob> claimEligibleReminders(String owner, LocalDateTime now, Duration leaseDuration, int limit) {
+        return lease(repository.lockClaimableIds(eligibleStatusNames(), now, limit), owner, now, leaseDuration);
+    }
+
+    @Override
+    @Transactional
+    public List<BookingReminderJob> claimReminders(String owner, Collection<String> jobIds, LocalDateTime now, Duration leaseDuration) {
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        return lease(repository.lockClaimableIdsIn(jobIds, eligibleStatusNames(), now), owner, now, leaseDuration);
+    }
+
+    @Override
+    public List<BookingReminderJob> findUpcomingReminders(LocalDateTime from, LocalDateTime until) {
+        return repository.findByStatusInAndTriggerDatetimeBetween(ELIGIBLE_STATUSES, from, until)
                 .stream()
                 .map(bookingReminderJobMapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    private List<BookingReminderJob> lease(List<String> ids, String owner, LocalDateTime now, Duration leaseDuration) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        repository.acquireLease(ids, ELIGIBLE_STATUSES, owner, now, now.plus(leaseDuration));
+        return repository.findLeasedBy(ids, owner)
+                .stream()
+                .map(bookingReminderJobMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> eligibleStatusNames() {
+        return ELIGIBLE_STATUSES.stream().map(Enum::name).toList();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestEligibleTrigger(LocalDateTime triggerTime) {
+        return Optional.ofNullable(repository.findOldestTrigger(ELIGIBLE_STATUSES, triggerTime));
+    }
+
     @Override
-    public void updateStatus(String jobId, BookingReminderJobStatus status, LocalDateTime processedAt) {
-        BookingReminderJobEntity entity = repository.findById(jobId).orElseThrow();
-        entity.setStatus(status);
-        entity.setProcessedAt(processedAt);
-        repository.saveAndFlush(entity);
+    public int updateStatuses(String owner, Collection<String> jobIds, BookingReminderJobStatus status, LocalDateTime processedAt) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        return repository.updateStatusByIdIn(jobIds, owner, status, processedAt);
     }
 
     @Override
-    public void updateRetry(String jobId) {
-        BookingReminderJobEntity entity = repository.findById(jobId).orElseThrow();
-        entity.setStatus(BookingReminderJobStatus.RETRY);
-        entity.setReAttempts(entity.getReAttempts() + 1);
-        repository.saveAndFlush(entity);
+    public int scheduleRetries(String owner, Collection<String> jobIds, LocalDateTime nextTrigger) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        return repository.updateRetryByIdIn(jobIds, owner, BookingReminderJobStatus.RETRY, nextTrigger);
     }
 
     @Override
@@ -1,14 +1,16 @@
 package com.reservalink.api.adapter.output.repository;
 
 import com.reservalink.api.adapter.output.repository.entity.BookingEntity;
+import com.reservalink.api.domain.BookingGridRow;
+import com.reservalink.api.domain.ResourceInterval;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -16,33 +18,178 @@ import java.util.Optional;
 @Repository
 public interface BookingRepository extends JpaRepository<BookingEntity, String> {
 
+    /**
+     * The booking grid, searched through the booking FULLTEXT index. A numeric search also matches the
+     * booking number, which is read by {@link #findBookingGridByNumber} instead of an OR here that
+     * would keep MySQL from using the index.
+     */
+    @Query(value = """
+            SELECT new com.reservalink.api.domain.BookingGridRow(b.id, b.email, b.name, b.phoneNumber,
+                   st.startDateTime, st.endDateTime, b.status, st.price, o.advancePaymentPercentage, o.name,
+                   b.quantity, r.name, r.lastName, b.bookingNumber)
+            FROM BookingEntity b
+            INNER JOIN b.slotTimeEntity st
+            INNER JOIN st.offeringEntity o
+            INNER JOIN st.resourceEntity r
+            WHERE o.userEntity.id = :userId
+              AND b.status IN ('CONFIRMED', 'CANCELLED')
+              AND (:from IS NULL OR st.startDateTime >= :from)
+              AND (:to IS NULL OR st.startDateTime < :to)
+              AND (:month IS NULL OR month(st.startDateTime) = :month)
+              AND (:offeringId IS NULL OR o.id = :offeringId)
+              AND (:resourceId IS NULL OR r.id = :resourceId)
+              AND (:search IS NULL OR match_against(b.name, b.email, b.phoneNumber, :search) > 0)
+            ORDER BY st.startDateTime DESC, b.id DESC
+            """,
+            countQuery = """
+            SELECT COUNT(b)
+            FROM BookingEntity b
+            INNER JOIN b.slotTimeEntity st
+            INNER JOIN st.offeringEntity o
+            WHERE o.userEntity.id = :userId
+              AND b.status IN ('CONFIRMED', 'CANCELLED')
+              AND (:from IS NULL OR st.startDateTime >= :from)
+              AND (:to IS NULL OR st.startDateTime < :to)
+              AND (:month IS NULL OR month(st.startDateTime) = :month)
+              AND (:offeringId IS NULL OR o.id = :offeringId)
+              AND (:resourceId IS NULL OR st.resourceEntity.id = :resourceId)
+              AND (:search IS NULL OR match_against(b.name, b.email, b.phoneNumber, :search) > 0)
+            """)
+    Page<BookingGridRow> findBookingGrid(
+            @Param("userId") String userId,
+            @Param("search") String search,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("month") Integer month,
+            @Param("offeringId") String offeringId,
+            @Param("resourceId") String resourceId,
+            Pageable pageable
+    );
+
+    /**
+     * Seek variant of the grid: the rows that follow (afterStartDateTime, afterId) in the grid
+     * order, without a count.
+     */
+    @Query("""
+            SELECT new com.reservalink.api.domain.BookingGridRow(b.id, b.email, b.name, b.phoneNumber,
+                   st.startDateTime, st.endDateTime, b.status, st.price, o.advancePaymentPercentage, o.name,
+                   b.quantity, r.name, r.lastName, b.bookingNumber)
+            FROM BookingEntity b
+            INNER JOIN b.slotTimeEntity st
+            INNER JOIN st.offeringEntity o
+            INNER JOIN st.resourceEntity r
+            WHERE o.userEntity.id = :userId
+              AND b.status IN ('CONFIRMED', 'CANCELLED')
+              AND (:from IS NULL OR st.startDateTime >= :from)
+              AND (:to IS NULL OR st.startDateTime < :to)
+              AND (:month IS NULL OR month(st.startDateTime) = :month)
+              AND (:offeringId IS NULL OR o.id = :offeringId)
+              AND (:resourceId IS NULL OR r.id = :resourceId)
+              AND (:search IS NULL OR match_against(b.name, b.email, b.phoneNumber, :search) > 0)
+              AND (:afterStartDateTime IS NULL
+                   OR st.startDateTime < :afterStartDateTime
+                   OR (st.startDateTime = :afterStartDateTime AND b.id < :afterId))
+            ORDER BY st.startDateTime DESC, b.id DESC
+            """)
+    List<BookingGridRow> findBookingGridAfter(
+            @Param("userId") String userId,
+            @Param("search") String search,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("month") Integer month,
+            @Param("offeringId") String offeringId,
+            @Param("resourceId") String resourceId,
+            @Param("afterStartDateTime") LocalDateTime afterStartDateTime,
+            @Param("afterId") String afterId,
+            Pageable pageable
+    );
+
+    /**
+     * The booking number branch of a numeric grid search: rows with that number that the search text
+     * does not already match, so its rows and total add up with {@link #findBookingGrid} without duplicates.
+     */
+    @Query(value = """
+            SELECT new com.reservalink.api.domain.BookingGridRow(b.id, b.email, b.name, b.phoneNumber,
+                   st.startDateTime, st.endDateTime, b.status, st.price, o.advancePaymentPercentage, o.name,
+                   b.quantity, r.name, r.lastName, b.bookingNumber)
+            FROM BookingEntity b
+            INNER JOIN b.slotTimeEntity st
+            INNER JOIN st.offeringEntity o
+            INNER JOIN st.resourceEntity r
+            WHERE o.userEntity.id = :userId
+              AND b.status IN ('CONFIRMED', 'CANCELLED')
+              AND b.bookingNumber = :bookingNumber
+              AND match_against(b.name, b.email, b.phoneNumber, :search) = 0
+              AND (:from IS NULL OR st.startDateTime >= :from)
+              AND (:to IS NULL OR st.startDateTime < :to)
+              AND (:month IS NULL OR month(st.startDateTime) = :month)
+              AND (:offeringId IS NULL OR o.id = :offeringId)
+              AND (:resourceId IS NULL OR r.id = :resourceId)
+            ORDER BY st.startDateTime DESC, b.id DESC
+            """,
+            countQuery = """
+            SELECT COUNT(b)
+            FROM BookingEntity b
+            INNER JOIN b.slotTimeEntity st
+            INNER JOIN st.offeringEntity o
+            WHERE o.userEntity.id = :userId
+              AND b.status IN ('CONFIRMED', 'CANCELLED')
+              AND b.bookingNumber = :bookingNumber
+              AND match_against(b.name, b.email, b.phoneNumber, :search) = 0
+              AND (:from IS NULL OR st.startDateTime >= :from)
+              AND (:to IS NULL OR st.startDateTime < :to)
+              AND (:month IS NULL OR month(st.startDateTime) = :month)
+              AND (:offeringId IS NULL OR o.id = :offeringId)
+              AND (:resourceId IS NULL OR st.resourceEntity.id = :resourceId)
+            """)
+    Page<BookingGridRow> findBookingGridByNumber(
+            @Param("userId") String userId,
+            @Param("bookingNumber") Integer bookingNumber,
+            @Param("search") String search,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("month") Integer month,
+            @Param("offeringId") String offeringId,
+            @Param("resourceId") String resourceId,
+            Pageable pageable
+    );
+
+    /**
+     * Seek variant of {@link #findBookingGridByNumber}, in the same order as {@link #findBookingGridAfter}.
+     */
     @Query("""
-            SELECT b
+            SELECT new com.reservalink.api.domain.BookingGridRow(b.id, b.email, b.name, b.phoneNumber,
+                   st.startDateTime, st.endDateTime, b.status, st.price, o.advancePaymentPercentage, o.name,
+                   b.quantity, r.name, r.lastName, b.bookingNumber)
             FROM BookingEntity b
             INNER JOIN b.slotTimeEntity st
             INNER JOIN st.offeringEntity o
             INNER JOIN st.resourceEntity r
-            WHERE (
-                :clientName IS NULL OR
-                LOWER(b.name) LIKE LOWER(CONCAT('%', :clientName, '%'))
-            )
-              AND (:startDate IS NULL OR DATE(st.startDateTime) = :startDate)
-              AND (:fromDate IS NULL OR DATE(st.startDateTime) >= :fromDate)
-              AND (:month IS NULL OR FUNCTION('DATE_FORMAT', st.startDateTime, '%m') = :month)
+            WHERE o.userEntity.id = :userId
+              AND b.status IN ('CONFIRMED', 'CANCELLED')
+              AND b.bookingNumber = :bookingNumber
+              AND match_against(b.name, b.email, b.phoneNumber, :search) = 0
+              AND (:from IS NULL OR st.startDateTime >= :from)
+              AND (:to IS NULL OR st.startDateTime < :to)
+              AND (:month IS NULL OR month(st.startDateTime) = :month)
               AND (:offeringId IS NULL OR o.id = :offeringId)
-              AND (o.userEntity.id = :userId)
-              AND (b.status IN ('CONFIRMED', 'CANCELLED'))
-              AND (:resourceId IS NULL OR r.id = :resourceId )
-            ORDER BY st.startDateTime DESC
+              AND (:resourceId IS NULL OR r.id = :resourceId)
+              AND (:afterStartDateTime IS NULL
+                   OR st.startDateTime < :afterStartDateTime
+                   OR (st.startDateTime = :afterStartDateTime AND b.id < :afterId))
+            ORDER BY st.startDateTime DESC, b.id DESC
             """)
-    Page<BookingEntity> findBookingGrid(
+    List<BookingGridRow> findBookingGridByNumberAfter(
             @Param("userId") String userId,
-            @Param("clientName") String clientName,
-            @Param("startDate") LocalDate startDate,
-            @Param("month") String month,
+            @Param("bookingNumber") Integer bookingNumber,
+            @Param("search") String search,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("month") Integer month,
             @Param("offeringId") String offeringId,
             @Param("resourceId") String resourceId,
-            @Param("fromDate") LocalDate fromDate,
+            @Param("afterStartDateTime") LocalDateTime afterStartDateTime,
+            @Param("afterId") String afterId,
             Pageable pageable
     );
 
@@ -89,6 +236,15 @@ public interface BookingRepository extends JpaRepository<BookingEntity, String>
             @Param("newEnd") LocalDateTime newEnd
     );
 
+    @Query("""
+                SELECT new com.reservalink.api.domain.ResourceInterval(b.id, st.offeringEntity.id, st.startDateTime, st.endDateTime)
+                FROM BookingEntity b
+                JOIN b.slotTimeEntity st
+                WHERE st.resourceEntity.id = :resourceId
+                  AND b.status = 'CONFIRMED'
+                  AND st.endDateTime >= :from
+            """)
+    List<ResourceInterval> findConfirmedBookingIntervalsByResourceId(@Param("resourceId") String resourceId, @Param("from") LocalDateTime from);
 
     @Query("""
             SELECT COUNT(b)
@@ -102,10 +258,15 @@ public interface BookingRepository extends JpaRepository<BookingEntity, String>
             """)
     Integer getIncomingBookingsCountByResourceId(@Param("resourceId") String resourceId, @Param("now") LocalDateTime now);
 
+    @EntityGraph(BookingEntity.REMINDER_GRAPH)
     Optional<BookingEntity> findByIdAndEnabledTrue(String id);
 
+    @EntityGraph(BookingEntity.REMINDER_GRAPH)
     List<BookingEntity> findAllByIdInAndEnabledTrue(List<String> bookingIds);
 
+    @EntityGraph(BookingEntity.NOTIFICATION_GRAPH)
+    Optional<BookingEntity> findWithSlotTimeById(String id);
+
     @Query("""
                 SELECT COALESCE(MAX(b.bookingNumber), 0)
                 FROM BookingEntity b
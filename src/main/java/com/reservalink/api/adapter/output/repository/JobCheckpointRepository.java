@@ -0,0 +1,9 @@
+package com.reservalink.api.adapter.output.repository;
+
+import com.reservalink.api.adapter.output.repository.entity.JobCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpointEntity, String> {
+}
@@ -0,0 +1,106 @@
+package com.reservalink.api.adapter.output.repository;
+
+import com.reservalink.api.adapter.output.repository.entity.NotificationOutboxEntity;
+import com.reservalink.api.domain.NotificationOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxJpaRepository extends JpaRepository<NotificationOutboxEntity, String> {
+
+    @Query(value = """
+            SELECT id
+            FROM notification_outbox
+            WHERE status = 'PENDING'
+              AND next_attempt_at <= :now
+              AND (lease_expires_at IS NULL OR lease_expires_at <= :now)
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<String> lockDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE NotificationOutboxEntity o
+            SET o.leaseOwner = :owner,
+                o.leaseExpiresAt = :leaseExpiresAt
+            WHERE o.id IN :ids
+              AND o.status = :status
+              AND (o.leaseExpiresAt IS NULL OR o.leaseExpiresAt <= :now)
+            """)
+    int acquireLease(@Param("ids") Collection<String> ids,
+                     @Param("status") NotificationOutboxStatus status,
+                     @Param("owner") String owner,
+                     @Param("now") LocalDateTime now,
+                     @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    @Query("""
+            SELECT o
+            FROM NotificationOutboxEntity o
+            WHERE o.id IN :ids
+              AND o.leaseOwner = :owner
+            ORDER BY o.nextAttemptAt
+            """)
+    List<NotificationOutboxEntity> findLeasedBy(@Param("ids") Collection<String> ids, @Param("owner") String owner);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE NotificationOutboxEntity o
+            SET o.status = :status,
+                o.processedAt = :processedAt,
+                o.leaseOwner = NULL,
+                o.leaseExpiresAt = NULL
+            WHERE o.id = :id
+              AND o.leaseOwner = :owner
+            """)
+    int updateStatus(@Param("id") String id,
+                     @Param("owner") String owner,
+                     @Param("status") NotificationOutboxStatus status,
+                     @Param("processedAt") LocalDateTime processedAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE NotificationOutboxEntity o
+            SET o.attempts = o.attempts + 1,
+                o.nextAttemptAt = :nextAttemptAt,
+                o.lastError = :lastError,
+                o.leaseOwner = NULL,
+                o.leaseExpiresAt = NULL
+            WHERE o.id = :id
+              AND o.leaseOwner = :owner
+            """)
+    int updateRetry(@Param("id") String id,
+                    @Param("owner") String owner,
+                    @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                    @Param("lastError") String lastError);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE NotificationOutboxEntity o
+            SET o.status = :status,
+                o.attempts = o.attempts + 1,
+                o.processedAt = :processedAt,
+                o.lastError = :lastError,
+                o.leaseOwner = NULL,
+                o.leaseExpiresAt = NULL
+            WHERE o.id = :id
+              AND o.leaseOwner = :owner
+            """)
+    int updateFailure(@Param("id") String id,
+                      @Param("owner") String owner,
+                      @Param("status") NotificationOutboxStatus status,
+                      @Param("processedAt") LocalDateTime processedAt,
+                      @Param("lastError") String lastError);
+}
@@ -0,0 +1,62 @@
+package com.reservalink.api.adapter.output.repository;
+
+import com.reservalink.api.adapter.output.repository.mapper.NotificationOutboxMapper;
+import com.reservalink.api.application.output.NotificationOutboxRepositoryPort;
+import com.reservalink.api.domain.NotificationOutboxMessage;
+import com.reservalink.api.domain.NotificationOutboxStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxRepositoryAdapter implements NotificationOutboxRepositoryPort {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NotificationOutboxJpaRepository repository;
+    private final NotificationOutboxMapper notificationOutboxMapper;
+
+    @Override
+    public NotificationOutboxMessage save(NotificationOutboxMessage message) {
+        return notificationOutboxMapper.toDomain(repository.save(notificationOutboxMapper.toEntity(message)));
+    }
+
+    @Override
+    @Transactional
+    public List<NotificationOutboxMessage> claimDue(String owner, LocalDateTime now, Duration leaseDuration, int limit) {
+        List<String> ids = repository.lockDueIds(now, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        repository.acquireLease(ids, NotificationOutboxStatus.PENDING, owner, now, now.plus(leaseDuration));
+        return repository.findLeasedBy(ids, owner)
+                .stream()
+                .map(notificationOutboxMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void markSent(String messageId, String owner, LocalDateTime processedAt) {
+        repository.updateStatus(messageId, owner, NotificationOutboxStatus.SENT, processedAt);
+    }
+
+    @Override
+    public void scheduleRetry(String messageId, String owner, LocalDateTime nextAttemptAt, String lastError) {
+        repository.updateRetry(messageId, owner, nextAttemptAt, truncate(lastError));
+    }
+
+    @Override
+    public void markDead(String messageId, String owner, LocalDateTime processedAt, String lastError) {
+        repository.updateFailure(messageId, owner, NotificationOutboxStatus.DEAD, processedAt, truncate(lastError));
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
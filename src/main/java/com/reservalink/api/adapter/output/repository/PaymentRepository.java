@@ -2,10 +2,17 @@ package com.reservalink.api.adapter.output.repository;
 
 import com.reservalink.api.adapter.output.repository.entity.BookingPaymentEntity;
 import com.reservalink.api.adapter.output.repository.entity.Payment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, String> {
     Optional<BookingPaymentEntity> findByExternalId(String externalId);
+
+    @EntityGraph(BookingPaymentEntity.CONFIRMATION_GRAPH)
+    @Query("SELECT bp FROM BookingPaymentEntity bp WHERE bp.externalId = :externalId")
+    Optional<BookingPaymentEntity> findWithBookingByExternalId(@Param("externalId") String externalId);
 }
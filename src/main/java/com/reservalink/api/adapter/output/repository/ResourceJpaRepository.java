@@ -11,15 +11,63 @@ import java.util.List;
 public interface ResourceJpaRepository extends JpaRepository<ResourceEntity, String> {
     List<ResourceEntity> findAllByEnabledTrueAndUserEntity_Id(String userId);
 
+    /**
+     * Resources with a free stored slot of the offering or an enabled recurrence that has not ended,
+     * since a resource scheduled only through recurrences has no stored slot until its first booking.
+     */
     @Query("""
-                SELECT DISTINCT re
+                SELECT re
                 FROM ResourceEntity re
-                JOIN SlotTimeEntity st ON st.resourceEntity = re
                 WHERE re.userEntity.id = :userId
-                  AND st.offeringEntity.id = :offeringId
-                  AND st.enabled = true
                   AND re.enabled = true
-                  AND st.capacityAvailable <> 0
+                  AND (EXISTS (
+                          SELECT st.id
+                          FROM SlotTimeEntity st
+                          WHERE st.resourceEntity = re
+                            AND st.offeringEntity.id = :offeringId
+                            AND st.enabled = true
+                            AND st.capacityAvailable <> 0
+                      )
+                      OR EXISTS (
+                          SELECT r.id
+                          FROM SlotTimeRecurrenceEntity r
+                          WHERE r.resourceEntity = re
+                            AND r.offeringEntity.id = :offeringId
+                            AND r.enabled = true
+                            AND (r.validUntil IS NULL OR r.validUntil >= CURRENT_DATE)
+                      ))
             """)
     List<ResourceEntity> findAllByEnabledTrueAndUserIdAndOfferingId(String userId, String offeringId);
+
+    @Query("""
+                SELECT o.id AS offeringId, re AS resource
+                FROM ResourceEntity re, OfferingEntity o
+                WHERE re.userEntity.id = :userId
+                  AND o.userEntity.id = :userId
+                  AND re.enabled = true
+                  AND (EXISTS (
+                          SELECT st.id
+                          FROM SlotTimeEntity st
+                          WHERE st.resourceEntity = re
+                            AND st.offeringEntity = o
+                            AND st.enabled = true
+                            AND st.capacityAvailable <> 0
+                      )
+                      OR EXISTS (
+                          SELECT r.id
+                          FROM SlotTimeRecurrenceEntity r
+                          WHERE r.resourceEntity = re
+                            AND r.offeringEntity = o
+                            AND r.enabled = true
+                            AND (r.validUntil IS NULL OR r.validUntil >= CURRENT_DATE)
+                      ))
+                ORDER BY o.id, re.id
+            """)
+    List<OfferingResourceView> findAllAvailableByUserIdGroupedByOffering(String userId);
+
+    interface OfferingResourceView {
+        String getOfferingId();
+
+        ResourceEntity getResource();
+    }
 }
\ No newline at end of file
@@ -3,29 +3,31 @@ package com.reservalink.api.adapter.output.repository;
 import com.reservalink.api.domain.Resource;
 import com.reservalink.api.application.output.ResourceRepositoryPort;
 import com.reservalink.api.adapter.output.repository.entity.ResourceEntity;
-import com.reservalink.api.adapter.output.repository.entity.UserEntity;
-import org.modelmapper.ModelMapper;
+import com.reservalink.api.adapter.output.repository.mapper.ResourceRepositoryMapper;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class ResourceRepositoryAdapter implements ResourceRepositoryPort {
 
     private final ResourceJpaRepository resourceJpaRepository;
-    private final ModelMapper modelMapper;
+    private final ResourceRepositoryMapper resourceRepositoryMapper;
 
-    public ResourceRepositoryAdapter(ResourceJpaRepository resourceJpaRepository, ModelMapper modelMapper) {
+    public ResourceRepositoryAdapter(ResourceJpaRepository resourceJpaRepository, ResourceRepositoryMapper resourceRepositoryMapper) {
         this.resourceJpaRepository = resourceJpaRepository;
-        this.modelMapper = modelMapper;
+        this.resourceRepositoryMapper = resourceRepositoryMapper;
     }
 
     @Override
     public List<Resource> findAllByUserId(String userId) {
         return resourceJpaRepository.findAllByEnabledTrueAndUserEntity_Id(userId)
                 .stream()
-                .map(entity -> modelMapper.map(entity, Resource.class))
+                .map(resourceRepositoryMapper::toDomain)
                 .toList();
     }
 
@@ -37,20 +39,16 @@ public class ResourceRepositoryAdapter implements ResourceRepositoryPort {
 
     @Override
     public Resource findResourceDomainById(String resourceId) {
-        return resourceJpaRepository.findById(resourceId).map(e -> modelMapper.map(e, Resource.class))
+        return resourceJpaRepository.findById(resourceId).map(resourceRepositoryMapper::toDomain)
                 .orElseThrow(() -> new IllegalArgumentException("Resource id not found"));
     }
 
     @Override
     public Resource create(Resource resource) {
-        ResourceEntity entity = modelMapper.map(resource, ResourceEntity.class);
+        ResourceEntity entity = resourceRepositoryMapper.toEntity(resource);
         entity.setEnabled(true);
-        UserEntity userRef = new UserEntity();
-        userRef.setId(resource.getUserId());
-        entity.setUserEntity(userRef);
-        entity.setEmail(resource.getEmail());
         ResourceEntity saved = resourceJpaRepository.save(entity);
-        return modelMapper.map(saved, Resource.class);
+        return resourceRepositoryMapper.toDomain(saved);
     }
 
     @Override
@@ -61,7 +59,7 @@ public class ResourceRepositoryAdapter implements ResourceRepositoryPort {
         entity.setLastName(resource.getLastName());
         entity.setIsDefault(resource.getIsDefault());
         entity.setEmail(resource.getEmail());
-        return modelMapper.map(resourceJpaRepository.save(entity), Resource.class);
+        return resourceRepositoryMapper.toDomain(resourceJpaRepository.save(entity));
     }
 
 
@@ -69,10 +67,18 @@ public class ResourceRepositoryAdapter implements ResourceRepositoryPort {
     public List<Resource> findAllByUserIdAndOfferingId(String userId, String offeringId) {
         return resourceJpaRepository.findAllByEnabledTrueAndUserIdAndOfferingId(userId, offeringId)
                 .stream()
-                .map(entity -> modelMapper.map(entity, Resource.class))
+                .map(resourceRepositoryMapper::toDomain)
                 .toList();
     }
 
+    @Override
+    public Map<String, List<Resource>> findAllAvailableByUserIdGroupedByOffering(String userId) {
+        return resourceJpaRepository.findAllAvailableByUserIdGroupedByOffering(userId)
+                .stream()
+                .collect(Collectors.groupingBy(ResourceJpaRepository.OfferingResourceView::getOfferingId,
+                        LinkedHashMap::new,
+                        Collectors.mapping(view -> resourceRepositoryMapper.toDomain(view.getResource()), Collectors.toList())));
+    }
 
     @Override
     public void delete(String resourceId) {
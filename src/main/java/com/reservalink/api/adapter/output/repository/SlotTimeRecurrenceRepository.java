@@ -0,0 +1,35 @@
+package com.reservalink.api.adapter.output.repository;
+
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeRecurrenceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SlotTimeRecurrenceRepository extends JpaRepository<SlotTimeRecurrenceEntity, String> {
+
+    List<SlotTimeRecurrenceEntity> findByOfferingEntityIdAndResourceEntityIdAndEnabledTrue(String offeringId, String resourceId);
+
+    Optional<SlotTimeRecurrenceEntity> findByIdAndEnabledTrue(String id);
+
+    @Modifying
+    @Query("""
+                UPDATE SlotTimeRecurrenceEntity r
+                SET r.enabled = false
+                WHERE r.offeringEntity.id = :offeringId
+                  AND r.enabled = true
+            """)
+    void disableByOfferingId(@Param("offeringId") String offeringId);
+
+    @Modifying
+    @Query("""
+                UPDATE SlotTimeRecurrenceEntity r
+                SET r.enabled = false
+                WHERE r.resourceEntity.id = :resourceId
+                  AND r.enabled = true
+            """)
+    void disableByResourceId(@Param("resourceId") String resourceId);
+}
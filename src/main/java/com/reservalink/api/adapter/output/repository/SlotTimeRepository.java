@@ -1,8 +1,10 @@
 package com.reservalink.api.adapter.output.repository;
 
 import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import com.reservalink.api.domain.ResourceInterval;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Collection;
 import java.util.Optional;
 
 
@@ -26,12 +29,14 @@ public interface SlotTimeRepository extends JpaRepository<SlotTimeEntity, String
     @Query("""
             SELECT COUNT(s) > 0 FROM SlotTimeEntity s
             WHERE s.offeringEntity.id = :offeringId
+              AND s.resourceEntity.id = :resourceId
               AND s.enabled = true
               AND s.startDateTime < :endDateTime
               AND s.endDateTime > :startDateTime
               AND s.id <> :slotTimeId
             """)
     boolean existsOverlappingSlot(@Param("offeringId") String offeringId,
+                                  @Param("resourceId") String resourceId,
                                   @Param("slotTimeId") String slotTimeId,
                                   @Param("startDateTime") LocalDateTime startDateTime,
                                   @Param("endDateTime") LocalDateTime endDateTime);
@@ -62,7 +67,75 @@ public interface SlotTimeRepository extends JpaRepository<SlotTimeEntity, String
             Pageable pageable
     );
 
-    List<SlotTimeEntity> findByOfferingEntityIdAndResourceEntityIdAndEnabledTrue(String offeringId, String resourceId);
+    @Query("""
+                SELECT st
+                FROM SlotTimeEntity st
+                WHERE st.offeringEntity.id = :offeringId
+                  AND st.resourceEntity.id = :resourceId
+                  AND st.enabled = true
+                  AND st.endDateTime >= :now
+                  AND st.capacityAvailable > 0
+                  AND st.id NOT IN :excludedSlotIds
+                ORDER BY st.startDateTime ASC
+            """)
+    Page<SlotTimeEntity> findAvailableSlotTimesExcluding(
+            @Param("offeringId") String offeringId,
+            @Param("resourceId") String resourceId,
+            @Param("now") LocalDateTime now,
+            @Param("excludedSlotIds") Collection<String> excludedSlotIds,
+            Pageable pageable
+    );
+
+    Page<SlotTimeEntity> findAllByOfferingEntityIdAndResourceEntityIdAndEnabledTrueAndEndDateTimeGreaterThanEqualAndCapacityAvailableGreaterThanOrderByStartDateTimeAsc(
+            String offeringId,
+            String resourceId,
+            LocalDateTime now,
+            Integer capacityAvailable,
+            Pageable pageable
+    );
+
+    @Query("""
+                SELECT st
+                FROM SlotTimeEntity st
+                WHERE st.offeringEntity.id = :offeringId
+                  AND st.resourceEntity.id = :resourceId
+                  AND st.enabled = true
+                  AND st.endDateTime >= :now
+                  AND st.startDateTime > :after
+                  AND st.capacityAvailable > 0
+                ORDER BY st.startDateTime ASC
+            """)
+    List<SlotTimeEntity> findAvailableSlotTimesStartingAfter(
+            @Param("offeringId") String offeringId,
+            @Param("resourceId") String resourceId,
+            @Param("now") LocalDateTime now,
+            @Param("after") LocalDateTime after,
+            Pageable pageable
+    );
+
+    @Query("""
+                SELECT new com.reservalink.api.domain.ResourceInterval(st.id, st.offeringEntity.id, st.startDateTime, st.endDateTime)
+                FROM SlotTimeEntity st
+                WHERE st.resourceEntity.id = :resourceId
+                  AND st.enabled = true
+                  AND st.endDateTime >= :from
+            """)
+    List<ResourceInterval> findSlotIntervalsByResourceId(@Param("resourceId") String resourceId, @Param("from") LocalDateTime from);
+
+    @Query("""
+                SELECT new com.reservalink.api.domain.ResourceInterval(st.id, st.offeringEntity.id, st.startDateTime, st.endDateTime)
+                FROM SlotTimeEntity st
+                WHERE st.offeringEntity.id = :offeringId
+                  AND st.resourceEntity.id = :resourceId
+                  AND st.enabled = true
+                  AND st.startDateTime < :windowEnd
+                  AND st.endDateTime > :windowStart
+                ORDER BY st.startDateTime ASC
+            """)
+    List<ResourceInterval> findSlotIntervalsInWindow(@Param("offeringId") String offeringId,
+                                                     @Param("resourceId") String resourceId,
+                                                     @Param("windowStart") LocalDateTime windowStart,
+                                                     @Param("windowEnd") LocalDateTime windowEnd);
 
     @Modifying
     @Query("""
@@ -74,4 +147,43 @@ public interface SlotTimeRepository extends JpaRepository<SlotTimeEntity, String
     void deleteByResourceId(@Param("resourceId") String resourceId);
 
     Optional<SlotTimeEntity> findByIdAndEnabledTrue(String id);
+
+    @EntityGraph(SlotTimeEntity.BOOKING_CREATE_GRAPH)
+    Optional<SlotTimeEntity> findByRecurrenceIdAndStartDateTime(String recurrenceId, LocalDateTime startDateTime);
+
+    @EntityGraph(SlotTimeEntity.BOOKING_CREATE_GRAPH)
+    Optional<SlotTimeEntity> findWithOfferingAndResourceById(String id);
+
+    /**
+     * Occurrences of the given recurrences that already have a row, enabled or not. The interval id
+     * carries the recurrence id.
+     */
+    @Query("""
+                SELECT new com.reservalink.api.domain.ResourceInterval(st.recurrenceId, st.offeringEntity.id, st.startDateTime, st.endDateTime)
+                FROM SlotTimeEntity st
+                WHERE st.recurrenceId IN :recurrenceIds
+                  AND st.startDateTime >= :from
+                  AND st.startDateTime < :to
+            """)
+    List<ResourceInterval> findMaterializedOccurrences(@Param("recurrenceIds") Collection<String> recurrenceIds,
+                                                       @Param("from") LocalDateTime from,
+                                                       @Param("to") LocalDateTime to);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE SlotTimeEntity st
+                SET st.capacityAvailable = st.capacityAvailable - :quantity
+                WHERE st.id = :slotTimeId
+                  AND st.enabled = true
+                  AND st.capacityAvailable >= :quantity
+            """)
+    int reserveCapacity(@Param("slotTimeId") String slotTimeId, @Param("quantity") Integer quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE SlotTimeEntity st
+                SET st.capacityAvailable = st.capacityAvailable + :quantity
+                WHERE st.id = :slotTimeId
+            """)
+    int releaseCapacity(@Param("slotTimeId") String slotTimeId, @Param("quantity") Integer quantity);
 }
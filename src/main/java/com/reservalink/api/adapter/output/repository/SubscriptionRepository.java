@@ -2,10 +2,15 @@ package com.reservalink.api.adapter.output.repository;
 
 import com.reservalink.api.adapter.output.repository.entity.SubscriptionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface SubscriptionRepository extends JpaRepository<SubscriptionEntity, String> {
 
@@ -17,4 +22,33 @@ public interface SubscriptionRepository extends JpaRepository<SubscriptionEntity
             "WHERE b.id = :bookingId " +
             "AND s.expired = false")
     String findSubscriptionIdByBookingId(@Param("bookingId") String bookingId);
+
+    @Query(value = """
+            SELECT id
+            FROM subscription
+            WHERE enabled = TRUE
+              AND expired = FALSE
+              AND expiration < :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<String> lockDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE SubscriptionEntity s
+            SET s.expired = true, s.modificationTimestamp = :now
+            WHERE s.id IN :ids AND s.expired = false
+            """)
+    int markExpired(@Param("ids") Collection<String> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO subscription_audit (id, rev, revtype, expired, creation_date_time, expiration, checkout_link)
+            SELECT id, :rev, 1, expired, creation_date_time, expiration, checkout_link
+            FROM subscription
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    int insertAuditRevision(@Param("ids") Collection<String> ids, @Param("rev") int rev);
 }
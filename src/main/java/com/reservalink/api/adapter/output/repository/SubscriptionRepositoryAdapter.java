@@ -3,17 +3,25 @@ package com.reservalink.api.adapter.output.repository;
 import com.reservalink.api.adapter.output.repository.entity.SubscriptionEntity;
 import com.reservalink.api.application.output.SubscriptionRepositoryPort;
 import com.reservalink.api.domain.Subscription;
+import jakarta.persistence.EntityManager;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.DefaultRevisionEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Component
 public class SubscriptionRepositoryAdapter implements SubscriptionRepositoryPort {
 
     private final SubscriptionRepository jpaRepository;
+    private final EntityManager entityManager;
 
-    public SubscriptionRepositoryAdapter(SubscriptionRepository jpaRepository) {
+    public SubscriptionRepositoryAdapter(SubscriptionRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -41,6 +49,26 @@ public class SubscriptionRepositoryAdapter implements SubscriptionRepositoryPort
         return jpaRepository.findSubscriptionIdByBookingId(bookingId);
     }
 
+    /**
+     * One locked id read, one UPDATE and one INSERT ... SELECT into subscription_audit under a single
+     * Envers revision, instead of loading and dirty-checking every entity. MySQL has no UPDATE ... RETURNING,
+     * so the locked id list is what is handed back for the notification fan-out.
+     */
+    @Override
+    @Transactional
+    public List<String> expireDue(LocalDateTime now, int limit) {
+        List<String> ids = jpaRepository.lockDueIds(now, limit);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        jpaRepository.markExpired(ids, now);
+        DefaultRevisionEntity revision = AuditReaderFactory.get(entityManager)
+                .getCurrentRevision(DefaultRevisionEntity.class, true);
+        entityManager.flush();
+        jpaRepository.insertAuditRevision(ids, revision.getId());
+        return ids;
+    }
+
     private Subscription toDomain(SubscriptionEntity entity) {
         if (entity == null) {
             return null;
@@ -2,12 +2,16 @@ package com.reservalink.api.adapter.output.repository;
 
 import com.reservalink.api.adapter.output.repository.entity.SubscriptionEntity;
 import com.reservalink.api.adapter.output.repository.entity.UserEntity;
+import com.reservalink.api.domain.Tenant;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,15 +22,30 @@ public interface UserRepository extends JpaRepository<UserEntity, String> {
     @Query("SELECT u.id FROM UserEntity u JOIN brandEntity b WHERE b.name = :brandName")
     String findUserIdByBrandName(@Param("brandName") String brandName);
 
-    List<UserEntity> findBySubscriptionEntity_EnabledTrueAndSubscriptionEntity_ExpiredFalseAndSubscriptionEntity_ExpirationBetween(LocalDateTime startOf3DaysFuture, LocalDateTime endOf3DaysFuture);
+    @Query("SELECT new com.reservalink.api.domain.Tenant(u.id, u.email, s.expired) " +
+            "FROM UserEntity u JOIN u.brandEntity b JOIN u.subscriptionEntity s WHERE b.name = :brandName")
+    Optional<Tenant> findTenantByBrandName(@Param("brandName") String brandName);
 
-    List<UserEntity> findBySubscriptionEntity_EnabledTrueAndSubscriptionEntity_ExpiredTrueAndSubscriptionEntity_ExpirationBetween(LocalDateTime startOf3DaysAgo, LocalDateTime endOf3DaysAgo);
+    @Query("SELECT u FROM UserEntity u JOIN FETCH u.subscriptionEntity s LEFT JOIN FETCH u.brandEntity " +
+            "WHERE s.enabled = true AND s.expired = :expired " +
+            "AND s.expiration >= :from AND s.expiration <= :to " +
+            "AND u.id > :afterId ORDER BY u.id")
+    List<UserEntity> findSubscriptionExpirationChunk(@Param("expired") boolean expired,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to,
+                                                     @Param("afterId") String afterId,
+                                                     Pageable pageable);
 
-    List<UserEntity> findBySubscriptionEntity_EnabledTrueAndSubscriptionEntity_ExpiredFalseAndSubscriptionEntity_ExpirationBefore(
-            LocalDateTime dateTime);
+    @Query("SELECT u FROM UserEntity u JOIN FETCH u.subscriptionEntity s LEFT JOIN FETCH u.brandEntity " +
+            "WHERE s.id IN :subscriptionIds")
+    List<UserEntity> findBySubscriptionIdIn(@Param("subscriptionIds") Collection<String> subscriptionIds);
 
     @Query("SELECT u.subscriptionEntity FROM UserEntity u WHERE u.id = :userId AND u.enabled = true")
     Optional<SubscriptionEntity> findByUserIdAndEnabledTrue(String userId);
 
     Optional<UserEntity> findBySubscriptionEntity_IdAndEnabledTrue(String userSubscriptionId);
+
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :userId")
+    int incrementTokenVersion(@Param("userId") String userId);
 }
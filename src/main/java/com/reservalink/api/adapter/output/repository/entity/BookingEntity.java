@@ -3,10 +3,15 @@ package com.reservalink.api.adapter.output.repository.entity;
 import com.reservalink.api.domain.BookingStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -25,12 +30,38 @@ import org.hibernate.envers.Audited;
 @Setter
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "booking")
+@Table(name = "booking", indexes = {
+        @Index(name = "idx_booking_slot_time_status", columnList = "slot_time_id, status"),
+        @Index(name = "idx_booking_phone_number", columnList = "phone_number")
+})
+@NamedEntityGraph(name = BookingEntity.NOTIFICATION_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "slotTimeEntity", subgraph = "slotTime"),
+        subgraphs = {
+                @NamedSubgraph(name = "slotTime", attributeNodes = {
+                        @NamedAttributeNode(value = "offeringEntity", subgraph = "offering"),
+                        @NamedAttributeNode("resourceEntity")
+                }),
+                @NamedSubgraph(name = "offering", attributeNodes = @NamedAttributeNode("userEntity"))
+        })
+@NamedEntityGraph(name = BookingEntity.REMINDER_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "slotTimeEntity", subgraph = "slotTime"),
+        subgraphs = @NamedSubgraph(name = "slotTime", attributeNodes = @NamedAttributeNode("offeringEntity")))
 @Audited
 @AuditTable(value="booking_audit")
 public class BookingEntity extends PersistentObject {
 
-    @ManyToOne
+    /**
+     * Slot, offering, professional and resource: everything the booking e-mails render.
+     */
+    public static final String NOTIFICATION_GRAPH = "Booking.notification";
+
+    /**
+     * Slot and offering, enough to map the booking to the domain for reminder scheduling and sending.
+     */
+    public static final String REMINDER_GRAPH = "Booking.reminder";
+
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "slot_time_id", nullable = false)
     private SlotTimeEntity slotTimeEntity;
 
@@ -4,6 +4,9 @@ import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -19,8 +22,23 @@ import lombok.experimental.SuperBuilder;
 @EqualsAndHashCode(callSuper = true)
 @Entity
 @DiscriminatorValue("BOOKING")
+@NamedEntityGraph(name = BookingPaymentEntity.CONFIRMATION_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "bookingEntity", subgraph = "booking"),
+        subgraphs = {
+                @NamedSubgraph(name = "booking", attributeNodes = @NamedAttributeNode(value = "slotTimeEntity", subgraph = "slotTime")),
+                @NamedSubgraph(name = "slotTime", attributeNodes = {
+                        @NamedAttributeNode(value = "offeringEntity", subgraph = "offering"),
+                        @NamedAttributeNode("resourceEntity")
+                }),
+                @NamedSubgraph(name = "offering", attributeNodes = @NamedAttributeNode("userEntity"))
+        })
 public class BookingPaymentEntity extends Payment {
 
+    /**
+     * The booking with its slot, offering, professional and resource: what confirming a paid booking reads and notifies.
+     */
+    public static final String CONFIRMATION_GRAPH = "BookingPayment.confirmation";
+
     @ManyToOne
     @JoinColumn(name = "booking_id")
     private BookingEntity bookingEntity;
@@ -50,4 +50,10 @@ public class BookingReminderJobEntity extends PersistentObject {
     @Column(name = "re_attempts")
     private Integer reAttempts;
 
+    @Column(name = "lease_owner")
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
 }
\ No newline at end of file
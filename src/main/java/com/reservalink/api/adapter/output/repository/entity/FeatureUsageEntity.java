@@ -3,6 +3,7 @@ package com.reservalink.api.adapter.output.repository.entity;
 import com.reservalink.api.domain.FeatureStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.JoinColumn;
@@ -23,7 +24,9 @@ import lombok.experimental.SuperBuilder;
 @Setter
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "feature_usage")
+@Table(name = "feature_usage", indexes = {
+        @Index(name = "idx_feature_usage_subscription_status", columnList = "subscription_id, feature_status")
+})
 public class FeatureUsageEntity extends PersistentObject {
 
     @ManyToOne
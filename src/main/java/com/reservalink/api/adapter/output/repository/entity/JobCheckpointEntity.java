@@ -0,0 +1,42 @@
+package com.reservalink.api.adapter.output.repository.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last key processed by a chunked job for a given run, so a restarted run resumes after it.
+ */
+@Entity
+@Table(name = "job_checkpoint")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCheckpointEntity {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "run_key", nullable = false)
+    private String runKey;
+
+    @Column(name = "last_id", nullable = false, length = 36)
+    private String lastId;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -2,9 +2,15 @@ package com.reservalink.api.adapter.output.repository.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -23,12 +29,27 @@ import java.time.LocalDateTime;
 @Setter
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "slot_time")
+@Table(name = "slot_time", indexes = {
+        @Index(name = "idx_slot_time_resource_start", columnList = "resource_id, start_date_time"),
+        @Index(name = "idx_slot_time_offering_enabled_end", columnList = "offering_id, enabled, end_date_time")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_slot_time_recurrence_start", columnNames = {"recurrence_id", "start_date_time"}))
+@NamedEntityGraph(name = SlotTimeEntity.BOOKING_CREATE_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "offeringEntity", subgraph = "offering"),
+                @NamedAttributeNode("resourceEntity")
+        },
+        subgraphs = @NamedSubgraph(name = "offering", attributeNodes = @NamedAttributeNode("userEntity")))
 @Audited
 @AuditTable(value="slot_time_audit")
 public class SlotTimeEntity extends PersistentObject {
 
-    @ManyToOne
+    /**
+     * Offering, professional and resource, read while creating a booking, its checkout and its e-mails.
+     */
+    public static final String BOOKING_CREATE_GRAPH = "SlotTime.bookingCreate";
+
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "offering_id", nullable = false)
     private OfferingEntity offeringEntity;
 
@@ -47,7 +68,11 @@ public class SlotTimeEntity extends PersistentObject {
     @Column(name = "max_capacity")
     private Integer maxCapacity;
 
-    @ManyToOne
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "resource_id", nullable = false)
     private ResourceEntity resourceEntity;
+
+    @Column(name = "recurrence_id")
+    private String recurrenceId;
 }
@@ -0,0 +1,56 @@
+package com.reservalink.api.adapter.output.repository.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Getter
+@Setter
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "slot_time_recurrence")
+public class SlotTimeRecurrenceEntity extends PersistentObject {
+
+    @ManyToOne
+    @JoinColumn(name = "offering_id", nullable = false)
+    private OfferingEntity offeringEntity;
+
+    @ManyToOne
+    @JoinColumn(name = "resource_id", nullable = false)
+    private ResourceEntity resourceEntity;
+
+    @Column(name = "days_of_week", nullable = false)
+    private String daysOfWeek;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    @Column(name = "slot_duration_minutes", nullable = false)
+    private Integer slotDurationMinutes;
+
+    @Column(name = "price")
+    private Double price;
+
+    @Column(name = "valid_from", nullable = false)
+    private LocalDate validFrom;
+
+    @Column(name = "valid_until")
+    private LocalDate validUntil;
+}
@@ -2,6 +2,7 @@ package com.reservalink.api.adapter.output.repository.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -20,7 +21,9 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @EqualsAndHashCode(callSuper = true)
-@Table(name = "subscription")
+@Table(name = "subscription", indexes = {
+        @Index(name = "idx_subscription_expired_expiration", columnList = "expired, enabled, expiration")
+})
 @Entity
 @Audited
 @AuditTable(value="subscription_audit")
@@ -9,6 +9,7 @@ import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,6 +17,7 @@ import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.envers.AuditTable;
 import org.hibernate.envers.Audited;
+import org.hibernate.envers.NotAudited;
 
 @Entity
 @Table(name = "user", uniqueConstraints = {
@@ -53,4 +55,10 @@ public class UserEntity extends PersistentObject {
     @OneToOne(cascade = CascadeType.ALL)
     @JoinColumn(name = "subscription_id")
     private SubscriptionEntity subscriptionEntity;
+
+    // Refresh tokens carry the version they were issued with; bumping it revokes all of them
+    @NotAudited
+    @Builder.Default
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
 }
@@ -0,0 +1,75 @@
+package com.reservalink.api.adapter.output.repository.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservalink.api.adapter.output.repository.entity.NotificationOutboxEntity;
+import com.reservalink.api.application.service.notification.NotificationTarget;
+import com.reservalink.api.domain.NotificationOutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxMapper {
+
+    private static final TypeReference<Map<String, String>> ARGS_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    public NotificationOutboxEntity toEntity(NotificationOutboxMessage message) {
+        return NotificationOutboxEntity.builder()
+                .id(message.getId())
+                .enabled(true)
+                .aggregateId(message.getAggregateId())
+                .channel(message.getChannel())
+                .motive(message.getMotive())
+                .recipientEmail(message.getTarget() != null ? message.getTarget().getEmail() : null)
+                .recipientPhone(message.getTarget() != null ? message.getTarget().getPhone() : null)
+                .payload(writeArgs(message.getArgs()))
+                .status(message.getStatus())
+                .attempts(message.getAttempts())
+                .nextAttemptAt(message.getNextAttemptAt())
+                .build();
+    }
+
+    public NotificationOutboxMessage toDomain(NotificationOutboxEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return NotificationOutboxMessage.builder()
+                .id(entity.getId())
+                .aggregateId(entity.getAggregateId())
+                .channel(entity.getChannel())
+                .motive(entity.getMotive())
+                .target(NotificationTarget.builder()
+                        .email(entity.getRecipientEmail())
+                        .phone(entity.getRecipientPhone())
+                        .build())
+                .args(readArgs(entity.getPayload()))
+                .status(entity.getStatus())
+                .attempts(entity.getAttempts())
+                .nextAttemptAt(entity.getNextAttemptAt())
+                .build();
+    }
+
+    private String writeArgs(Map<String, String> args) {
+        try {
+            return objectMapper.writeValueAsString(args != null ? args : Map.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Notification args could not be serialized", e);
+        }
+    }
+
+    private Map<String, String> readArgs(String payload) {
+        try {
+            return objectMapper.readValue(payload, ARGS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Notification payload could not be read", e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.reservalink.api.adapter.output.repository.mapper;
+
+import com.reservalink.api.adapter.output.repository.entity.ResourceEntity;
+import com.reservalink.api.adapter.output.repository.entity.UserEntity;
+import com.reservalink.api.domain.Resource;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ResourceRepositoryMapper {
+
+    public Resource toDomain(ResourceEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return Resource.builder()
+                .id(entity.getId())
+                .userId(entity.getUserEntity() != null ? entity.getUserEntity().getId() : null)
+                .name(entity.getName())
+                .lastName(entity.getLastName())
+                .isDefault(entity.getIsDefault())
+                .enabled(entity.getEnabled())
+                .email(entity.getEmail())
+                .build();
+    }
+
+    public ResourceEntity toEntity(Resource domain) {
+        if (domain == null) {
+            return null;
+        }
+        return ResourceEntity.builder()
+                .id(domain.getId())
+                .name(domain.getName())
+                .lastName(domain.getLastName())
+                .isDefault(domain.getIsDefault())
+                .enabled(domain.getEnabled())
+                .email(domain.getEmail())
+                .userEntity(UserEntity.builder().id(domain.getUserId()).build())
+                .build();
+    }
+}
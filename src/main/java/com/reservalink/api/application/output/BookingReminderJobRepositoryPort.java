@@ -3,18 +3,43 @@ package com.reservalink.api.application.output;
 import com.reservalink.api.domain.BookingReminderJob;
 import com.reservalink.api.domain.BookingReminderJobStatus;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface BookingReminderJobRepositoryPort {
 
     BookingReminderJob save(BookingReminderJob job);
 
-    List<BookingReminderJob> findEligibleReminders(LocalDateTime triggerTime);
+    /**
+     * Leases up to limit due jobs to the owner. Jobs leased by another owner are skipped until their lease expires.
+     */
+    List<BookingReminderJob> claimEligibleReminders(String owner, LocalDateTime now, Duration leaseDuration, int limit);
 
-    void updateStatus(String jobId, BookingReminderJobStatus status, LocalDateTime processedAt);
+    /**
+     * Leases the given jobs to the owner, skipping the ones that are not due, already processed or leased by another owner.
+     */
+    List<BookingReminderJob> claimReminders(String owner, Collection<String> jobIds, LocalDateTime now, Duration leaseDuration);
 
-    void updateRetry(String jobId);
+    /**
+     * Returns the eligible jobs triggering within [from, until]. Overdue jobs are left to the poller.
+     */
+    List<BookingReminderJob> findUpcomingReminders(LocalDateTime from, LocalDateTime until);
+
+    Optional<LocalDateTime> findOldestEligibleTrigger(LocalDateTime triggerTime);
+
+    /**
+     * Moves the jobs still leased by the owner to the given status and releases their lease.
+     * Returns the number of jobs updated; jobs whose lease expired and went to another owner are left alone.
+     */
+    int updateStatuses(String owner, Collection<String> jobIds, BookingReminderJobStatus status, LocalDateTime processedAt);
+
+    /**
+     * Reschedules the jobs still leased by the owner for another attempt and releases their lease.
+     */
+    int scheduleRetries(String owner, Collection<String> jobIds, LocalDateTime nextTrigger);
 
     List<BookingReminderJob> findByBookingIdAndStatusIn(String bookingId, List<BookingReminderJobStatus> statusList);
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package com.reservalink.api.application.output;
+
+import com.reservalink.api.domain.NotificationOutboxMessage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepositoryPort {
+
+    NotificationOutboxMessage save(NotificationOutboxMessage message);
+
+    /**
+     * Leases up to limit pending messages that are due. Messages leased by another owner are skipped until their lease expires.
+     */
+    List<NotificationOutboxMessage> claimDue(String owner, LocalDateTime now, Duration leaseDuration, int limit);
+
+    /**
+     * The updates below only apply while owner still holds the lease of the message.
+     */
+    void markSent(String messageId, String owner, LocalDateTime processedAt);
+
+    void scheduleRetry(String messageId, String owner, LocalDateTime nextAttemptAt, String lastError);
+
+    void markDead(String messageId, String owner, LocalDateTime processedAt, String lastError);
+}
@@ -4,6 +4,7 @@ import com.reservalink.api.adapter.output.repository.entity.ResourceEntity;
 import com.reservalink.api.domain.Resource;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ResourceRepositoryPort {
@@ -21,4 +22,6 @@ public interface ResourceRepositoryPort {
     Resource findResourceDomainById(String resourceId);
 
     List<Resource> findAllByUserIdAndOfferingId(String userId, String offeringId);
+
+    Map<String, List<Resource>> findAllAvailableByUserIdGroupedByOffering(String userId);
 }
\ No newline at end of file
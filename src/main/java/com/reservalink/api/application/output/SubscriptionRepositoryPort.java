@@ -2,6 +2,8 @@ package com.reservalink.api.application.output;
 
 import com.reservalink.api.domain.Subscription;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface SubscriptionRepositoryPort {
@@ -10,4 +12,9 @@ public interface SubscriptionRepositoryPort {
     Subscription update(Subscription subscription);
 
     String findActiveSubscriptionIdByBookingId(String bookingId);
+
+    /**
+     * Marks up to limit subscriptions that expired before now as expired and returns their ids.
+     */
+    List<String> expireDue(LocalDateTime now, int limit);
 }
\ No newline at end of file
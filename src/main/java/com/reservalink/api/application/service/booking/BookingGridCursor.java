@@ -0,0 +1,40 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.exception.BusinessErrorCodes;
+import com.reservalink.api.exception.BusinessRuleException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Position of the last row returned by the booking grid, as an opaque URL safe token.
+ */
+record BookingGridCursor(LocalDateTime startDateTime, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    String encode() {
+        String raw = startDateTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static BookingGridCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw invalid(cursor);
+            }
+            return new BookingGridCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    private static BusinessRuleException invalid(String cursor) {
+        return new BusinessRuleException(BusinessErrorCodes.INVALID_SEARCH_FILTER.name(), Map.of("cursor", cursor));
+    }
+}
@@ -0,0 +1,243 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.application.output.BookingReminderJobRepositoryPort;
+import com.reservalink.api.application.output.BookingRepositoryPort;
+import com.reservalink.api.application.output.SubscriptionRepositoryPort;
+import com.reservalink.api.application.service.feature.FeatureLifecycleService;
+import com.reservalink.api.application.service.notification.NotificationChannel;
+import com.reservalink.api.application.service.notification.NotificationService;
+import com.reservalink.api.domain.Booking;
+import com.reservalink.api.domain.BookingReminderJob;
+import com.reservalink.api.domain.BookingReminderJobStatus;
+import com.reservalink.api.domain.BookingStatus;
+import com.reservalink.api.domain.FeatureName;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Drains due reminder jobs in batches. Each batch is leased to this node, so several nodes can
+ * drain the queue in parallel and jobs of a crashed node are claimed again once the lease expires.
+ * Sends of a batch run on virtual threads, bounded per channel, and the resulting status
+ * transitions are written back with one UPDATE per status.
+ */
+@Slf4j
+@Component
+public class BookingReminderDispatcher {
+
+    private final BookingReminderJobRepositoryPort reminderRepository;
+    private final BookingRepositoryPort bookingRepositoryPort;
+    private final NotificationService notificationService;
+    private final FeatureLifecycleService featureLifecycleService;
+    private final SubscriptionRepositoryPort subscriptionRepositoryPort;
+    private final MeterRegistry meterRegistry;
+
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration leaseDuration;
+    private final String nodeId;
+    private final Map<NotificationChannel, Semaphore> channelPermits = new EnumMap<>(NotificationChannel.class);
+
+    private final AtomicLong queueLagSeconds = new AtomicLong();
+    private final Timer runTimer;
+    private final Timer triggerLatency;
+
+    public BookingReminderDispatcher(BookingReminderJobRepositoryPort reminderRepository,
+                                     BookingRepositoryPort bookingRepositoryPort,
+                                     NotificationService notificationService,
+                                     FeatureLifecycleService featureLifecycleService,
+                                     SubscriptionRepositoryPort subscriptionRepositoryPort,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${booking.reminders.batch-size:200}") int batchSize,
+                                     @Value("${booking.reminders.max-batches-per-run:50}") int maxBatchesPerRun,
+                                     @Value("${booking.reminders.max-attempts:3}") int maxAttempts,
+                                     @Value("${booking.reminders.retry-delay:PT15M}") Duration retryDelay,
+                                     @Value("${booking.reminders.lease-duration:PT10M}") Duration leaseDuration,
+                                     @Value("${booking.reminders.node-id:${FLY_MACHINE_ID:${HOSTNAME:}}}") String nodeId,
+                                     @Value("${booking.reminders.concurrency.email:8}") int emailConcurrency,
+                                     @Value("${booking.reminders.concurrency.whatsapp:4}") int whatsappConcurrency) {
+        this.reminderRepository = reminderRepository;
+        this.bookingRepositoryPort = bookingRepositoryPort;
+        this.notificationService = notificationService;
+        this.featureLifecycleService = featureLifecycleService;
+        this.subscriptionRepositoryPort = subscriptionRepositoryPort;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.leaseDuration = leaseDuration;
+        this.nodeId = ObjectUtils.isEmpty(nodeId) ? UUID.randomUUID().toString() : nodeId;
+        this.channelPermits.put(NotificationChannel.EMAIL, new Semaphore(emailConcurrency));
+        this.channelPermits.put(NotificationChannel.WHATSAPP, new Semaphore(whatsappConcurrency));
+        this.runTimer = meterRegistry.timer("booking.reminders.dispatch.run");
+        this.triggerLatency = Timer.builder("booking.reminders.trigger.latency")
+                .description("Delay between the reminder trigger time and the send")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        meterRegistry.gauge("booking.reminders.queue.lag.seconds", queueLagSeconds);
+    }
+
+    public void dispatchDue() {
+        long startNanos = System.nanoTime();
+        int dispatched = 0;
+        int batches = 0;
+
+        while (batches < maxBatchesPerRun) {
+            List<BookingReminderJob> jobs = reminderRepository.claimEligibleReminders(nodeId, LocalDateTime.now(), leaseDuration, batchSize);
+            if (jobs.isEmpty()) {
+                break;
+            }
+            batches++;
+            dispatched += dispatch(jobs);
+            if (jobs.size() < batchSize) {
+                break;
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        runTimer.record(elapsed);
+        LocalDateTime now = LocalDateTime.now();
+        long lag = reminderRepository.findOldestEligibleTrigger(now)
+                .map(oldest -> Duration.between(oldest, now).toSeconds())
+                .orElse(0L);
+        queueLagSeconds.set(lag);
+
+        if (dispatched > 0) {
+            double perSecond = dispatched / Math.max(elapsed.toMillis() / 1000.0, 0.001);
+            log.info("Dispatched {} reminders in {} batches, {} ms ({} per second). Queue lag: {} s.",
+                    dispatched, batches, elapsed.toMillis(), String.format("%.1f", perSecond), lag);
+        } else {
+            log.debug("No reminders to send. Queue lag: {} s.", lag);
+        }
+    }
+
+    /**
+     * Claims and sends the given jobs, ignoring the ones another node already holds or processed.
+     */
+    public int dispatchById(Collection<String> jobIds) {
+        return dispatch(reminderRepository.claimReminders(nodeId, jobIds, LocalDateTime.now(), leaseDuration));
+    }
+
+    public int dispatch(List<BookingReminderJob> jobs) {
+        if (jobs.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Booking> bookingsById = bookingRepositoryPort.findAllByIds(jobs.stream().map(BookingReminderJob::getBookingId).toList())
+                .stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+
+        Map<BookingReminderJobStatus, Queue<String>> transitions = new ConcurrentHashMap<>();
+        Queue<String> retries = new ConcurrentLinkedQueue<>();
+        Map<String, ReentrantLock> subscriptionLocks = new ConcurrentHashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (BookingReminderJob job : jobs) {
+                executor.submit(() -> {
+                    BookingReminderJobStatus outcome = process(job, bookingsById.get(job.getBookingId()), subscriptionLocks);
+                    if (outcome == BookingReminderJobStatus.SENT && job.getTriggerDatetime() != null) {
+                        triggerLatency.record(Duration.between(job.getTriggerDatetime(), LocalDateTime.now()));
+                    }
+                    if (outcome == BookingReminderJobStatus.RETRY) {
+                        retries.add(job.getId());
+                    } else {
+                        transitions.computeIfAbsent(outcome, status -> new ConcurrentLinkedQueue<>()).add(job.getId());
+                    }
+                    Counter.builder("booking.reminders.processed")
+                            .tag("channel", job.getNotificationChannel().name())
+                            .tag("status", outcome.name())
+                            .register(meterRegistry)
+                            .increment();
+                });
+            }
+        }
+
+        int updated = reminderRepository.scheduleRetries(nodeId, List.copyOf(retries), now.plus(retryDelay));
+        for (Map.Entry<BookingReminderJobStatus, Queue<String>> transition : transitions.entrySet()) {
+            updated += reminderRepository.updateStatuses(nodeId, List.copyOf(transition.getValue()), transition.getKey(), now);
+        }
+        if (updated < jobs.size()) {
+            log.warn("Lease expired for {} of {} reminders before their status was saved, another node owns them now.",
+                    jobs.size() - updated, jobs.size());
+        }
+        return jobs.size();
+    }
+
+    private BookingReminderJobStatus process(BookingReminderJob job, Booking booking, Map<String, ReentrantLock> subscriptionLocks) {
+        NotificationChannel channel = job.getNotificationChannel();
+        Semaphore permits = channelPermits.get(channel);
+        try {
+            permits.acquire();
+            try {
+                if (booking == null || booking.getStatus() != BookingStatus.CONFIRMED) {
+                    log.info("Job {} cancelled: Booking invalid or not confirmed.", job.getId());
+                    return BookingReminderJobStatus.CANCELLED;
+                }
+
+                String subId = subscriptionRepositoryPort.findActiveSubscriptionIdByBookingId(booking.getId());
+                if (ObjectUtils.isEmpty(subId)) {
+                    log.warn("Job {} skipped: No active subscription found for professional.", job.getId());
+                    return BookingReminderJobStatus.CANCELLED;
+                }
+
+                if (NotificationChannel.WHATSAPP != channel) {
+                    notificationService.sendBookingReminder(booking, channel);
+                    return BookingReminderJobStatus.SENT;
+                }
+
+                // Quota check, send and consumption must not interleave for the same subscription
+                ReentrantLock lock = subscriptionLocks.computeIfAbsent(subId, id -> new ReentrantLock());
+                lock.lock();
+                try {
+                    if (!featureLifecycleService.canUse(subId, FeatureName.WHATSAPP_NOTIFICATIONS)) {
+                        log.warn("WhatsApp skipped for Job {}: Quota exceeded.", job.getId());
+                        return BookingReminderJobStatus.CANCELLED;
+                    }
+                    notificationService.sendBookingReminder(booking, channel);
+                    featureLifecycleService.consume(subId, FeatureName.WHATSAPP_NOTIFICATIONS);
+                    return BookingReminderJobStatus.SENT;
+                } finally {
+                    lock.unlock();
+                }
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BookingReminderJobStatus.RETRY;
+        } catch (Exception e) {
+            log.error("Failed to process {} reminder for Job ID: {}.", channel, job.getId(), e);
+            if (job.getReAttempts() + 1 <= maxAttempts) {
+                log.warn("Updating retry for job {}", job.getId());
+                return BookingReminderJobStatus.RETRY;
+            }
+            log.warn("Max attempts reached for job {}. Marking as FAILED", job.getId());
+            return BookingReminderJobStatus.FAILED;
+        }
+    }
+}
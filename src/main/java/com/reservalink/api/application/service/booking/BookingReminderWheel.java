@@ -0,0 +1,158 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.application.output.BookingReminderJobRepositoryPort;
+import com.reservalink.api.config.persistence.Workload;
+import com.reservalink.api.domain.BookingReminderJob;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the reminders due within the horizon in a timing wheel and dispatches them as soon as
+ * they are due, instead of waiting for the next poll. The wheel only holds ids: it is rebuilt
+ * from booking_reminder_job on startup and refilled periodically, and every fired id is claimed
+ * again in the database before sending, so the table stays the source of truth.
+ */
+@Slf4j
+@Component
+public class BookingReminderWheel {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 64;
+    private static final int LEVELS = 3;
+
+    private final BookingReminderJobRepositoryPort reminderRepository;
+    private final BookingReminderDispatcher dispatcher;
+    private final boolean enabled;
+    private final Duration horizon;
+    private final int batchSize;
+    private final TimingWheel wheel = new TimingWheel(TICK_MILLIS, WHEEL_SIZE, LEVELS, System.currentTimeMillis());
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("reminder-wheel").daemon().factory());
+
+    public BookingReminderWheel(BookingReminderJobRepositoryPort reminderRepository,
+                                BookingReminderDispatcher dispatcher,
+                                @Value("${booking.reminders.wheel.enabled:true}") boolean enabled,
+                                @Value("${booking.reminders.wheel.horizon:PT3H}") Duration horizon,
+                                @Value("${booking.reminders.batch-size:200}") int batchSize) {
+        this.reminderRepository = reminderRepository;
+        this.dispatcher = dispatcher;
+        this.enabled = enabled;
+        this.horizon = horizon;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        refill();
+        ticker.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS / 4, TimeUnit.MILLISECONDS);
+        log.info("Reminder wheel started with {} reminders due within {}.", size(), horizon);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.reminders.wheel.refill-interval:PT5M}",
+            initialDelayString = "${booking.reminders.wheel.refill-interval:PT5M}")
+    public void refill() {
+        if (!enabled) {
+            return;
+        }
+        Workload.runAsJob(() -> {
+            // Overdue jobs belong to the poller, the wheel only tracks what is still ahead
+            LocalDateTime now = LocalDateTime.now();
+            List<BookingReminderJob> upcoming = reminderRepository.findUpcomingReminders(now, now.plus(horizon));
+            synchronized (wheel) {
+                upcoming.forEach(job -> wheel.schedule(job.getId(), toEpochMillis(job.getTriggerDatetime())));
+            }
+            log.debug("Reminder wheel refilled with {} upcoming reminders.", upcoming.size());
+        });
+    }
+
+    /**
+     * Adds a freshly saved reminder to the wheel once the surrounding transaction commits.
+     * Reminders beyond the horizon are left to a later refill.
+     */
+    public void schedule(BookingReminderJob job) {
+        if (!enabled || job.getId() == null || job.getTriggerDatetime() == null
+                || job.getTriggerDatetime().isAfter(LocalDateTime.now().plus(horizon))) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(job);
+                }
+            });
+        } else {
+            add(job);
+        }
+    }
+
+    public void cancel(String jobId) {
+        synchronized (wheel) {
+            wheel.remove(jobId);
+        }
+    }
+
+    public int size() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    private void add(BookingReminderJob job) {
+        synchronized (wheel) {
+            wheel.schedule(job.getId(), toEpochMillis(job.getTriggerDatetime()));
+        }
+    }
+
+    private void tick() {
+        try {
+            List<String> due;
+            synchronized (wheel) {
+                due = wheel.advance(System.currentTimeMillis());
+            }
+            if (!due.isEmpty()) {
+                Thread.ofVirtual().name("reminder-wheel-dispatch").start(() -> Workload.runAsJob(() -> dispatch(due)));
+            }
+        } catch (Exception e) {
+            log.error("Reminder wheel tick failed.", e);
+        }
+    }
+
+    void dispatch(List<String> jobIds) {
+        for (int from = 0; from < jobIds.size(); from += batchSize) {
+            List<String> batch = jobIds.subList(from, Math.min(from + batchSize, jobIds.size()));
+            try {
+                dispatcher.dispatchById(batch);
+            } catch (Exception e) {
+                log.error("Failed to dispatch {} reminders from the wheel, the poller will pick them up.", batch.size(), e);
+            }
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+    }
+}
@@ -3,6 +3,7 @@ package com.reservalink.api.application.service.booking;
 import com.reservalink.api.adapter.input.controller.request.BookingRequest;
 import com.reservalink.api.adapter.input.controller.request.BookingSearchRequest;
 import com.reservalink.api.adapter.input.controller.response.BookingGridResponse;
+import com.reservalink.api.adapter.input.controller.response.BookingGridSliceResponse;
 import com.reservalink.api.adapter.input.controller.response.BookingResponse;
 import com.reservalink.api.adapter.output.repository.BookingRepository;
 import com.reservalink.api.adapter.output.repository.PaymentRepository;
@@ -15,18 +16,30 @@ import com.reservalink.api.application.output.BookingRepositoryPort;
 import com.reservalink.api.application.service.notification.NotificationService;
 import com.reservalink.api.application.service.payment.PaymentService;
 import com.reservalink.api.application.validator.PhoneNumberValidator;
+import com.reservalink.api.domain.BookingGridRow;
 import com.reservalink.api.domain.BookingStatus;
 import com.reservalink.api.domain.PaymentStatus;
 import com.reservalink.api.exception.BusinessErrorCodes;
 import com.reservalink.api.exception.BusinessRuleException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -34,40 +47,68 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    private static final Comparator<BookingGridRow> GRID_ORDER = Comparator.comparing(BookingGridRow::getStartDateTime)
+            .thenComparing(BookingGridRow::getId)
+            .reversed();
 
     private final BookingRepository bookingRepository;
     private final SlotTimeRepository slotTimeRepository;
-    private final ModelMapper modelMapper;
     private final NotificationService notificationService;
     private final PaymentService paymentService;
     private final PaymentRepository bookingPaymentRepository;
     private final PhoneNumberValidator phoneNumberValidator;
     private final BookingReminderService bookingReminderService;
     private final BookingRepositoryPort bookingRepositoryPort;
+    private final ResourceAvailabilityIndex resourceAvailabilityIndex;
+    private final SlotTimeRecurrenceService slotTimeRecurrenceService;
+    private final TransactionTemplate transactionTemplate;
 
 
     @Override
     public BookingResponse create(BookingRequest bookingRequest, Boolean isAdmin) throws Exception {
-        SlotTimeEntity slotTimeEntity = slotTimeRepository.findById(bookingRequest.getSlotTimeId().toString())
-                .orElseThrow(() -> new IllegalArgumentException("The SlotTimeId: " + bookingRequest.getSlotTimeId() + " does not exists"));
+        String slotTimeId = resolveSlotTimeId(bookingRequest);
+        BookingEntity bookingEntity = transactionTemplate.execute(status -> placeBooking(slotTimeId, bookingRequest, isAdmin));
+        if (bookingEntity.getStatus() != BookingStatus.PENDING) {
+            return BookingResponse.builder()
+                    .id(bookingEntity.getId())
+                    .build();
+        }
+
+        // The checkout is created once the pending booking is committed, so no connection waits on MercadoPago
+        try {
+            String checkoutURL = paymentService.createBookingCheckoutURL(bookingEntity, bookingRequest.getQuantity());
+            return BookingResponse.builder()
+                    .checkoutURL(checkoutURL)
+                    .build();
+        } catch (RuntimeException e) {
+            log.warn("Checkout creation failed for booking {}. Cancelling it", bookingEntity.getId());
+            transactionTemplate.executeWithoutResult(status -> bookingRepository.findById(bookingEntity.getId())
+                    .ifPresent(pending -> pending.setStatus(BookingStatus.CANCELLED)));
+            throw e;
+        }
+    }
+
+    private BookingEntity placeBooking(String slotTimeId, BookingRequest bookingRequest, Boolean isAdmin) {
+        SlotTimeEntity slotTimeEntity = slotTimeRepository.findWithOfferingAndResourceById(slotTimeId)
+                .orElseThrow(() -> new IllegalArgumentException("The SlotTimeId: " + slotTimeId + " does not exists"));
 
         String cleanPhoneNumber = phoneNumberValidator.formatAndValidate(bookingRequest.getPhoneNumber());
 
         ResourceEntity resourceEntity = slotTimeEntity.getResourceEntity();
 
-        boolean isResourceBusy = bookingRepository.existsOverlappingBookingForResource(
+        boolean isResourceBusy = resourceAvailabilityIndex.existsOverlappingBooking(
                 resourceEntity.getId(),
                 slotTimeEntity.getOfferingEntity().getId(),
-                slotTimeEntity.getEndDateTime(),
-                slotTimeEntity.getStartDateTime()
+                slotTimeEntity.getStartDateTime(),
+                slotTimeEntity.getEndDateTime()
         );
 
         if (isResourceBusy) {
             throw new BusinessRuleException(BusinessErrorCodes.RESOURCE_NOT_AVAILABLE.name());
         }
 
-        Integer newCapacity = slotTimeEntity.getCapacityAvailable() - bookingRequest.getQuantity();
-        if (newCapacity < 0){
+        // Rejects full slots before a paid booking is sent to checkout; the conditional reserve UPDATE is still the real guard
+        if (slotTimeEntity.getCapacityAvailable() < bookingRequest.getQuantity()) {
             log.warn("No capacity available for slotTimeId: {}. Booking creation ignored for {}", bookingRequest.getSlotTimeId(), bookingRequest.getEmail());
             throw new BusinessRuleException(BusinessErrorCodes.NO_CAPACITY_AVAILABLE.name());
         }
@@ -87,32 +128,36 @@ public class BookingServiceImpl implements BookingService {
         if (paymentRequired(slotTimeEntity) && !isAdmin) {
             log.info("Creating new Booking with required payment");
             bookingEntity.setStatus(BookingStatus.PENDING);
-            BookingEntity bookingEntitySaved = bookingRepository.saveAndFlush(bookingEntity);
-            String checkoutURL = paymentService.createBookingCheckoutURL(bookingEntitySaved, bookingRequest.getQuantity());
-
-            return BookingResponse.builder()
-                    .checkoutURL(checkoutURL)
-                    .build();
+            return bookingRepository.save(bookingEntity);
         } else {
             log.info("Creating new Booking without required payment");
-            slotTimeEntity.setCapacityAvailable(newCapacity);
-            slotTimeRepository.saveAndFlush(slotTimeEntity);
+            if (!reserveCapacity(slotTimeEntity, bookingRequest.getQuantity())) {
+                log.warn("No capacity available for slotTimeId: {}. Booking creation ignored for {}", bookingRequest.getSlotTimeId(), bookingRequest.getEmail());
+                throw new BusinessRuleException(BusinessErrorCodes.NO_CAPACITY_AVAILABLE.name());
+            }
 
             bookingEntity.setStatus(BookingStatus.CONFIRMED);
             bookingEntity = bookingRepository.save(bookingEntity);
+            resourceAvailabilityIndex.invalidate(resourceEntity.getId());
             bookingReminderService.scheduleReminder(bookingRepositoryPort.findById(bookingEntity.getId()).orElseThrow());
         }
 
-        sendBookingConfirmedNotifications(bookingEntity);
-        return modelMapper.map(bookingEntity, BookingResponse.class);
+        notificationService.sendBookingConfirmed(bookingEntity);
+        return bookingEntity;
     }
 
-    private void sendBookingConfirmedNotifications(BookingEntity bookingEntity) {
-        try {
-            notificationService.sendBookingConfirmed(bookingEntity);
-        } catch (Exception e) {
-            log.warn("Unexpected error sending new booking notifications.");
+    /**
+     * A virtual occurrence is materialized in a transaction of its own before the booking one opens.
+     */
+    private String resolveSlotTimeId(BookingRequest bookingRequest) {
+        if (bookingRequest.getRecurrenceId() != null && bookingRequest.getStartDateTime() != null) {
+            return slotTimeRecurrenceService.materialize(bookingRequest.getRecurrenceId(), bookingRequest.getStartDateTime()).getId();
         }
+        return bookingRequest.getSlotTimeId().toString();
+    }
+
+    private boolean reserveCapacity(SlotTimeEntity slotTimeEntity, Integer quantity) {
+        return slotTimeRepository.reserveCapacity(slotTimeEntity.getId(), quantity) > 0;
     }
 
     private boolean paymentRequired(SlotTimeEntity slotTimeEntity) {
@@ -123,45 +168,223 @@ public class BookingServiceImpl implements BookingService {
     @Override
     public Page<BookingGridResponse> findBookingGrid(UUID userId, BookingSearchRequest bookingSearchRequest) {
         Pageable pageable = PageRequest.of(bookingSearchRequest.getPageNumber(), bookingSearchRequest.getPageSize());
+        StartRange range = StartRange.of(bookingSearchRequest);
+        SearchTerm search = SearchTerm.of(bookingSearchRequest);
+
+        if (search.bookingNumber() == null) {
+            return bookingRepository.findBookingGrid(
+                    userId.toString(),
+                    search.text(),
+                    range.from(),
+                    range.to(),
+                    range.monthOfAnyYear(),
+                    bookingSearchRequest.getOfferingId(),
+                    bookingSearchRequest.getResourceId(),
+                    pageable
+            ).map(BookingServiceImpl::toGridResponse);
+        }
 
-        Page<BookingEntity> bookingPage = bookingRepository.findBookingGrid(
+        // A numeric term reads the text matches and the booking number matches separately; both come
+        // in grid order and do not overlap, so the page is cut from the first pageEnd rows of each.
+        Pageable head = PageRequest.of(0, (int) pageable.getOffset() + pageable.getPageSize());
+        Page<BookingGridRow> textMatches = bookingRepository.findBookingGrid(
                 userId.toString(),
-                bookingSearchRequest.getClientName(),
-                bookingSearchRequest.getStartDate(),
-                bookingSearchRequest.getMonth(),
+                search.text(),
+                range.from(),
+                range.to(),
+                range.monthOfAnyYear(),
                 bookingSearchRequest.getOfferingId(),
                 bookingSearchRequest.getResourceId(),
-                bookingSearchRequest.getFromDate(),
-                pageable
+                head
         );
+        Page<BookingGridRow> numberMatches = bookingRepository.findBookingGridByNumber(
+                userId.toString(),
+                search.bookingNumber(),
+                search.text(),
+                range.from(),
+                range.to(),
+                range.monthOfAnyYear(),
+                bookingSearchRequest.getOfferingId(),
+                bookingSearchRequest.getResourceId(),
+                head
+        );
+        List<BookingGridResponse> content = mergeInGridOrder(textMatches.getContent(), numberMatches.getContent()).stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(BookingServiceImpl::toGridResponse)
+                .toList();
+        return new PageImpl<>(content, pageable, textMatches.getTotalElements() + numberMatches.getTotalElements());
+    }
 
-        return bookingPage.map(b -> {
-                    Double amountPaid = null;
-                    Integer advancePaymentPercentage = b.getSlotTimeEntity().getOfferingEntity().getAdvancePaymentPercentage();
-                    if (b.getSlotTimeEntity().getPrice() != null && advancePaymentPercentage != null && advancePaymentPercentage > 0) {
-                        amountPaid = b.getSlotTimeEntity().getPrice() * (b.getSlotTimeEntity().getOfferingEntity().getAdvancePaymentPercentage() / 100.0);
-                    }
-                    return BookingGridResponse.builder()
-                            .id(b.getId())
-                            .clientName(b.getName())
-                            .clientPhone(b.getPhoneNumber())
-                            .clientEmail(b.getEmail())
-                            .startDateTime(b.getSlotTimeEntity().getStartDateTime())
-                            .endDateTime(b.getSlotTimeEntity().getEndDateTime())
-                            .serviceName(b.getSlotTimeEntity().getOfferingEntity().getName())
-                            .paid(amountPaid)
-                            .status(b.getStatus())
-                            .quantity(b.getQuantity())
-                            .resourceName(b.getSlotTimeEntity().getResourceEntity().getName() + " " + b.getSlotTimeEntity().getResourceEntity().getLastName())
-                            .bookingNumber(b.getBookingNumber())
-                            .build();
-                }
+    @Override
+    public BookingGridSliceResponse findBookingGridSlice(UUID userId, BookingSearchRequest bookingSearchRequest) {
+        int pageSize = bookingSearchRequest.getPageSize();
+        StartRange range = StartRange.of(bookingSearchRequest);
+        SearchTerm search = SearchTerm.of(bookingSearchRequest);
+        BookingGridCursor after = bookingSearchRequest.getCursor() == null ? null : BookingGridCursor.decode(bookingSearchRequest.getCursor());
+
+        List<BookingGridRow> rows = bookingRepository.findBookingGridAfter(
+                userId.toString(),
+                search.text(),
+                range.from(),
+                range.to(),
+                range.monthOfAnyYear(),
+                bookingSearchRequest.getOfferingId(),
+                bookingSearchRequest.getResourceId(),
+                after == null ? null : after.startDateTime(),
+                after == null ? null : after.id(),
+                PageRequest.of(0, pageSize + 1)
         );
+        if (search.bookingNumber() != null) {
+            rows = mergeInGridOrder(rows, bookingRepository.findBookingGridByNumberAfter(
+                    userId.toString(),
+                    search.bookingNumber(),
+                    search.text(),
+                    range.from(),
+                    range.to(),
+                    range.monthOfAnyYear(),
+                    bookingSearchRequest.getOfferingId(),
+                    bookingSearchRequest.getResourceId(),
+                    after == null ? null : after.startDateTime(),
+                    after == null ? null : after.id(),
+                    PageRequest.of(0, pageSize + 1)
+            ));
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<BookingGridRow> slice = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            BookingGridRow last = slice.get(slice.size() - 1);
+            nextCursor = new BookingGridCursor(last.getStartDateTime(), last.getId()).encode();
+        }
+        return BookingGridSliceResponse.builder()
+                .content(slice.stream().map(BookingServiceImpl::toGridResponse).toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    static List<BookingGridRow> mergeInGridOrder(List<BookingGridRow> first, List<BookingGridRow> second) {
+        List<BookingGridRow> merged = new ArrayList<>(first.size() + second.size());
+        merged.addAll(first);
+        merged.addAll(second);
+        merged.sort(GRID_ORDER);
+        return merged;
+    }
+
+    private static BookingGridResponse toGridResponse(BookingGridRow row) {
+        Double amountPaid = null;
+        Integer advancePaymentPercentage = row.getAdvancePaymentPercentage();
+        if (row.getPrice() != null && advancePaymentPercentage != null && advancePaymentPercentage > 0) {
+            amountPaid = row.getPrice() * (advancePaymentPercentage / 100.0);
+        }
+        return BookingGridResponse.builder()
+                .id(row.getId())
+                .clientName(row.getName())
+                .clientPhone(row.getPhoneNumber())
+                .clientEmail(row.getEmail())
+                .startDateTime(row.getStartDateTime())
+                .endDateTime(row.getEndDateTime())
+                .serviceName(row.getOfferingName())
+                .paid(amountPaid)
+                .status(row.getStatus())
+                .quantity(row.getQuantity())
+                .resourceName(row.getResourceName() + " " + row.getResourceLastName())
+                .bookingNumber(row.getBookingNumber())
+                .build();
+    }
+
+    /**
+     * Free text search over client name, email and phone, answered by the booking FULLTEXT index.
+     * A numeric term also matches the booking number exactly, through a separate query. clientName
+     * is still accepted for callers that do not send search. Terms shorter than the index ngram
+     * size are ignored.
+     */
+    record SearchTerm(String text, Integer bookingNumber) {
+
+        private static final int MIN_LENGTH = 2;
+        private static final int MAX_BOOKING_NUMBER_DIGITS = 9;
+
+        static SearchTerm of(BookingSearchRequest request) {
+            String raw = request.getSearch() != null ? request.getSearch() : request.getClientName();
+            if (raw == null) {
+                return new SearchTerm(null, null);
+            }
+            String text = raw.replace("\"", " ").trim();
+            if (text.length() < MIN_LENGTH) {
+                return new SearchTerm(null, null);
+            }
+            Integer bookingNumber = null;
+            if (text.length() <= MAX_BOOKING_NUMBER_DIGITS && text.chars().allMatch(Character::isDigit)) {
+                bookingNumber = Integer.valueOf(text);
+            }
+            return new SearchTerm(text, bookingNumber);
+        }
+    }
+
+    /**
+     * The date filters of the grid folded into one half open range over the slot start, so the
+     * query compares the column itself instead of DATE() or DATE_FORMAT() of it. A month with a
+     * year, or a year alone, narrows the range. A month without a year matches that month of any
+     * year, which cannot be expressed as a range and is filtered on MONTH() instead.
+     */
+    record StartRange(LocalDateTime from, LocalDateTime to, Integer monthOfAnyYear) {
+
+        static StartRange of(BookingSearchRequest request) {
+            LocalDateTime from = null;
+            LocalDateTime to = null;
+            Integer monthOfAnyYear = null;
+            if (request.getStartDate() != null) {
+                from = request.getStartDate().atStartOfDay();
+                to = request.getStartDate().plusDays(1).atStartOfDay();
+            }
+            if (request.getFromDate() != null) {
+                from = latest(from, request.getFromDate().atStartOfDay());
+            }
+            Month month = request.getMonth() != null ? month(request.getMonth()) : null;
+            if (request.getYear() != null) {
+                Year year = year(request.getYear());
+                LocalDateTime yearFrom = month != null ? year.atMonth(month).atDay(1).atStartOfDay() : year.atDay(1).atStartOfDay();
+                LocalDateTime yearTo = month != null ? year.atMonth(month).plusMonths(1).atDay(1).atStartOfDay() : year.plusYears(1).atDay(1).atStartOfDay();
+                from = latest(from, yearFrom);
+                to = earliest(to, yearTo);
+            } else if (month != null) {
+                monthOfAnyYear = month.getValue();
+            }
+            return new StartRange(from, to, monthOfAnyYear);
+        }
+
+        private static Month month(String value) {
+            try {
+                return Month.of(Integer.parseInt(value.trim()));
+            } catch (NumberFormatException | DateTimeException e) {
+                throw invalid("month", value);
+            }
+        }
+
+        private static Year year(int value) {
+            if (value < 1 || value > 9999) {
+                throw invalid("year", value);
+            }
+            return Year.of(value);
+        }
+
+        private static BusinessRuleException invalid(String field, Object value) {
+            return new BusinessRuleException(BusinessErrorCodes.INVALID_SEARCH_FILTER.name(), Map.of(field, value));
+        }
+
+        private static LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+            return current == null || candidate.isAfter(current) ? candidate : current;
+        }
+
+        private static LocalDateTime earliest(LocalDateTime current, LocalDateTime candidate) {
+            return current == null || candidate.isBefore(current) ? candidate : current;
+        }
     }
 
     @Override
     public void cancelBooking(UUID bookingId) {
-        BookingEntity bookingEntityToCancel = bookingRepository.findById(bookingId.toString()).orElseThrow(
+        BookingEntity bookingEntityToCancel = bookingRepository.findWithSlotTimeById(bookingId.toString()).orElseThrow(
                 () -> new IllegalArgumentException("The booking to cancel does not exists")
         );
         SlotTimeEntity slotTimeEntity = bookingEntityToCancel.getSlotTimeEntity();
@@ -170,18 +393,15 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("The booking to cancel is already cancelled or is related with invalid slot");
         }
 
-        slotTimeEntity.setCapacityAvailable(slotTimeEntity.getCapacityAvailable() + bookingEntityToCancel.getQuantity());
+        if (BookingStatus.CONFIRMED.equals(bookingEntityToCancel.getStatus())) {
+            slotTimeRepository.releaseCapacity(slotTimeEntity.getId(), bookingEntityToCancel.getQuantity());
+        }
 
         bookingEntityToCancel.setStatus(BookingStatus.CANCELLED);
-
-        slotTimeRepository.saveAndFlush(slotTimeEntity);
         bookingRepository.saveAndFlush(bookingEntityToCancel);
+        resourceAvailabilityIndex.invalidate(slotTimeEntity.getResourceEntity().getId());
         bookingReminderService.cancelReminders(bookingId.toString());
-        try {
-            notificationService.sendBookingCancelled(bookingEntityToCancel);
-        } catch (Exception e) {
-            log.warn("Unexpected error sending booking cancelled notifications.");
-        }
+        notificationService.sendBookingCancelled(bookingEntityToCancel);
     }
 
     private static boolean isValidStateToCancel(SlotTimeEntity slotTimeEntity, BookingEntity bookingEntityToCancel) {
@@ -191,29 +411,58 @@ public class BookingServiceImpl implements BookingService {
     @Override
     public void confirmBooking(String externalPaymentId) {
         BookingPaymentEntity bookingPaymentEntity = bookingPaymentRepository
-                .findByExternalId(externalPaymentId)
+                .findWithBookingByExternalId(externalPaymentId)
                 .orElseThrow(() -> new RuntimeException("Payment not found for reference: " + externalPaymentId));
         if (bookingPaymentEntity.getPaymentStatus().equals(PaymentStatus.COMPLETED)
-                && !bookingPaymentEntity.getBookingEntity().getStatus().equals(BookingStatus.CONFIRMED)) {
+                && bookingPaymentEntity.getBookingEntity().getStatus().equals(BookingStatus.PENDING)) {
             BookingEntity bookingEntity = bookingPaymentEntity.getBookingEntity();
             SlotTimeEntity slotTimeEntity = bookingEntity.getSlotTimeEntity();
 
-            int quantityBooked = bookingEntity.getQuantity();
-            int available = slotTimeEntity.getCapacityAvailable();
-
-            slotTimeEntity.setCapacityAvailable(available - quantityBooked);
-            slotTimeRepository.save(slotTimeEntity);
+            if (!reserveCapacity(slotTimeEntity, bookingEntity.getQuantity())) {
+                log.warn("No capacity left on slotTimeId: {} to confirm the paid booking: {}. Cancelling the booking and refunding payment {}.",
+                        slotTimeEntity.getId(), bookingEntity.getId(), externalPaymentId);
+                bookingEntity.setStatus(BookingStatus.CANCELLED);
+                bookingRepository.save(bookingEntity);
+                notificationService.sendBookingCancelled(bookingEntity);
+                refundAfterCommit(bookingPaymentEntity);
+                return;
+            }
 
             bookingEntity.setStatus(BookingStatus.CONFIRMED);
             bookingRepository.save(bookingEntity);
+            resourceAvailabilityIndex.invalidate(slotTimeEntity.getResourceEntity().getId());
 
             bookingReminderService.scheduleReminder(bookingRepositoryPort.findById(bookingEntity.getId()).orElseThrow());
-            sendBookingConfirmedNotifications(bookingEntity);
+            notificationService.sendBookingConfirmed(bookingEntity);
+        } else if (bookingPaymentEntity.getPaymentStatus().equals(PaymentStatus.COMPLETED)
+                && bookingPaymentEntity.getBookingEntity().getStatus().equals(BookingStatus.CANCELLED)) {
+            // MercadoPago retries the webhook while the refund of a cancelled booking keeps failing
+            log.warn("Payment {} is still approved for the cancelled booking: {}. Refunding it.",
+                    externalPaymentId, bookingPaymentEntity.getBookingEntity().getId());
+            refundAfterCommit(bookingPaymentEntity);
         } else {
             log.warn("Payment was not completed successfully for the externalPaymentId: {}. The booking was not confirmed.", externalPaymentId);
         }
     }
 
+    /**
+     * Refunds once the cancellation has committed, so the MercadoPago calls hold neither the
+     * connection nor the slot row lock. A failed refund fails the webhook, whose retry refunds again
+     * under the same idempotency key.
+     */
+    private void refundAfterCommit(BookingPaymentEntity bookingPaymentEntity) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    paymentService.refundBookingPayment(bookingPaymentEntity);
+                }
+            });
+        } else {
+            paymentService.refundBookingPayment(bookingPaymentEntity);
+        }
+    }
+
     private Integer resolveBookingNumber(String phoneNumber, String userId) {
         return bookingRepositoryPort.findMaxBookingNumberByPhoneNumberAndUserId(phoneNumber, userId) + 1;
     }
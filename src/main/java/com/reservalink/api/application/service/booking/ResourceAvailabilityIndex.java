@@ -0,0 +1,257 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.adapter.output.repository.BookingRepository;
+import com.reservalink.api.adapter.output.repository.SlotTimeRepository;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import com.reservalink.api.domain.ResourceInterval;
+import com.reservalink.api.utils.CacheEviction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory per resource index of future confirmed bookings and enabled slots, used to answer
+ * overlap checks without querying the database. Snapshots are rebuilt lazily after a write
+ * invalidates them or when the TTL elapses. Inside a transaction the checks run the SQL queries,
+ * which read what that transaction sees, as they all do when booking.availability-index.enabled=false.
+ */
+@Slf4j
+@Component
+public class ResourceAvailabilityIndex {
+
+    // Past this many blocked slots the NOT IN list costs more than the overlap check in SQL
+    static final int MAX_EXCLUDED_SLOT_IDS = 500;
+
+    private final SlotTimeRepository slotTimeRepository;
+    private final BookingRepository bookingRepository;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    public ResourceAvailabilityIndex(SlotTimeRepository slotTimeRepository,
+                                     BookingRepository bookingRepository,
+                                     @Value("${booking.availability-index.enabled:true}") boolean enabled,
+                                     @Value("${booking.availability-index.ttl:PT5M}") Duration ttl) {
+        this.slotTimeRepository = slotTimeRepository;
+        this.bookingRepository = bookingRepository;
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public boolean existsOverlappingBooking(String resourceId, String excludedOfferingId, LocalDateTime start, LocalDateTime end) {
+        if (useSqlQueries()) {
+            return bookingRepository.existsOverlappingBookingForResource(resourceId, excludedOfferingId, start, end);
+        }
+        return snapshot(resourceId).bookingsByOffering().entrySet().stream()
+                .filter(entry -> !entry.getKey().equals(excludedOfferingId))
+                .anyMatch(entry -> entry.getValue().overlaps(start, end, null));
+    }
+
+    /**
+     * Whether another enabled slot of the offering on the same resource overlaps the interval.
+     */
+    public boolean existsOverlappingSlot(String resourceId, String offeringId, String excludedSlotId, LocalDateTime start, LocalDateTime end) {
+        if (useSqlQueries()) {
+            return slotTimeRepository.existsOverlappingSlot(offeringId, resourceId, excludedSlotId, start, end);
+        }
+        IntervalSet slots = snapshot(resourceId).slotsByOffering().get(offeringId);
+        return slots != null && slots.overlaps(start, end, excludedSlotId);
+    }
+
+    public Page<SlotTimeEntity> findAvailableSlotTimes(String offeringId, String resourceId, LocalDateTime now, Pageable pageable) {
+        if (useSqlQueries()) {
+            return slotTimeRepository.findAllAvailableSlotTimesByOfferingAndResourceId(offeringId, resourceId, now, pageable);
+        }
+        Set<String> blockedSlotIds = findBlockedSlotIds(resourceId, offeringId);
+        if (blockedSlotIds.size() > MAX_EXCLUDED_SLOT_IDS) {
+            return slotTimeRepository.findAllAvailableSlotTimesByOfferingAndResourceId(offeringId, resourceId, now, pageable);
+        }
+        if (blockedSlotIds.isEmpty()) {
+            return slotTimeRepository.findAllByOfferingEntityIdAndResourceEntityIdAndEnabledTrueAndEndDateTimeGreaterThanEqualAndCapacityAvailableGreaterThanOrderByStartDateTimeAsc(
+                    offeringId, resourceId, now, 0, pageable);
+        }
+        return slotTimeRepository.findAvailableSlotTimesExcluding(offeringId, resourceId, now, blockedSlotIds, pageable);
+    }
+
+    /**
+     * Up to limit available slots of the offering starting after the cursor. The slots are read in
+     * start order from the cursor, so the cost does not grow with the number of slots already
+     * shown. Without a cursor this is the first page.
+     */
+    public List<SlotTimeEntity> findAvailableSlotTimesAfter(String offeringId, String resourceId, LocalDateTime now,
+                                                            LocalDateTime after, int limit) {
+        if (after == null) {
+            return findAvailableSlotTimes(offeringId, resourceId, now, PageRequest.of(0, limit)).getContent();
+        }
+        List<SlotTimeEntity> available = new ArrayList<>();
+        LocalDateTime cursor = after;
+        List<SlotTimeEntity> batch;
+        do {
+            batch = slotTimeRepository.findAvailableSlotTimesStartingAfter(offeringId, resourceId, now, cursor, PageRequest.of(0, limit));
+            for (SlotTimeEntity slot : batch) {
+                if (available.size() < limit
+                        && !existsOverlappingBooking(resourceId, offeringId, slot.getStartDateTime(), slot.getEndDateTime())) {
+                    available.add(slot);
+                }
+            }
+            if (!batch.isEmpty()) {
+                cursor = batch.getLast().getStartDateTime();
+            }
+        } while (available.size() < limit && batch.size() == limit);
+        return available;
+    }
+
+    /**
+     * Slots of the offering that overlap a confirmed booking of another offering on the same resource.
+     */
+    public Set<String> findBlockedSlotIds(String resourceId, String offeringId) {
+        Snapshot snapshot = snapshot(resourceId);
+        IntervalSet slots = snapshot.slotsByOffering().get(offeringId);
+        if (slots == null) {
+            return Set.of();
+        }
+        Set<String> blocked = new HashSet<>();
+        for (ResourceInterval slot : slots.intervals()) {
+            boolean overlapped = snapshot.bookingsByOffering().entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(offeringId))
+                    .anyMatch(entry -> entry.getValue().overlaps(slot.getStartDateTime(), slot.getEndDateTime(), null));
+            if (overlapped) {
+                blocked.add(slot.getId());
+            }
+        }
+        return blocked;
+    }
+
+    public void invalidate(String resourceId) {
+        CacheEviction.evictNowAndAfterCompletion(resourceId, this::evict);
+    }
+
+    private boolean useSqlQueries() {
+        return !enabled || TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private void evict(String resourceId) {
+        versions.compute(resourceId, (id, version) -> {
+            snapshots.remove(id);
+            return version == null ? 1L : version + 1;
+        });
+    }
+
+    private Snapshot snapshot(String resourceId) {
+        Snapshot current = snapshots.get(resourceId);
+        long now = System.nanoTime();
+        if (current != null && now - current.loadedAt() < ttlNanos) {
+            return current;
+        }
+
+        long version = versions.getOrDefault(resourceId, 0L);
+        LocalDateTime from = LocalDateTime.now();
+        Snapshot loaded = new Snapshot(
+                groupByOffering(bookingRepository.findConfirmedBookingIntervalsByResourceId(resourceId, from)),
+                groupByOffering(slotTimeRepository.findSlotIntervalsByResourceId(resourceId, from)),
+                now
+        );
+
+        snapshots.values().removeIf(snapshot -> now - snapshot.loadedAt() >= ttlNanos);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Under REPEATABLE READ the caller's snapshot can miss a booking committed, and its
+            // version bumped, before this load started, so the version check cannot catch it.
+            return loaded;
+        }
+        versions.compute(resourceId, (id, latest) -> {
+            if ((latest == null ? 0L : latest) == version) {
+                snapshots.put(id, loaded);
+            }
+            return latest;
+        });
+        log.debug("Availability snapshot loaded for resource {}", resourceId);
+        return loaded;
+    }
+
+    private static Map<String, IntervalSet> groupByOffering(List<ResourceInterval> intervals) {
+        return intervals.stream()
+                .collect(Collectors.groupingBy(ResourceInterval::getOfferingId,
+                        Collectors.collectingAndThen(Collectors.toList(), IntervalSet::new)));
+    }
+
+    private record Snapshot(Map<String, IntervalSet> bookingsByOffering, Map<String, IntervalSet> slotsByOffering, long loadedAt) {
+    }
+
+    /**
+     * Intervals sorted by start with a running maximum of the end, so the candidates for an overlap
+     * are found by binary search instead of a scan.
+     */
+    static final class IntervalSet {
+        private final List<ResourceInterval> intervals;
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] maxEnds;
+
+        IntervalSet(List<ResourceInterval> source) {
+            this.intervals = source.stream()
+                    .sorted(Comparator.comparing(ResourceInterval::getStartDateTime))
+                    .toList();
+            int size = intervals.size();
+            this.starts = new long[size];
+            this.ends = new long[size];
+            this.maxEnds = new long[size];
+            for (int i = 0; i < size; i++) {
+                starts[i] = toEpochSecond(intervals.get(i).getStartDateTime());
+                ends[i] = toEpochSecond(intervals.get(i).getEndDateTime());
+                maxEnds[i] = i == 0 ? ends[i] : Math.max(maxEnds[i - 1], ends[i]);
+            }
+        }
+
+        List<ResourceInterval> intervals() {
+            return intervals;
+        }
+
+        boolean overlaps(LocalDateTime start, LocalDateTime end, String excludedId) {
+            long queryStart = toEpochSecond(start);
+            long queryEnd = toEpochSecond(end);
+            int i = firstStartNotBefore(queryEnd) - 1;
+            while (i >= 0 && maxEnds[i] > queryStart) {
+                if (ends[i] > queryStart && !intervals.get(i).getId().equals(excludedId)) {
+                    return true;
+                }
+                i--;
+            }
+            return false;
+        }
+
+        private int firstStartNotBefore(long value) {
+            int low = 0;
+            int high = starts.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static long toEpochSecond(LocalDateTime dateTime) {
+            return dateTime.toEpochSecond(ZoneOffset.UTC);
+        }
+    }
+}
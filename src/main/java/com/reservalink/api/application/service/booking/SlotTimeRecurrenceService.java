@@ -0,0 +1,25 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.adapter.input.controller.request.SlotTimeRecurrenceRequest;
+import com.reservalink.api.adapter.input.controller.response.SlotTimeRecurrenceResponse;
+import com.reservalink.api.adapter.input.controller.response.SlotTimeResponse;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface SlotTimeRecurrenceService {
+    @Transactional(rollbackFor = Exception.class)
+    SlotTimeRecurrenceResponse create(SlotTimeRecurrenceRequest request);
+
+    List<SlotTimeRecurrenceResponse> findAllByOfferingIdAndResourceId(UUID offeringId, String resourceId);
+
+    @Transactional(rollbackFor = Exception.class)
+    void delete(UUID recurrenceId);
+
+    List<SlotTimeResponse> findVirtualSlots(String offeringId, String resourceId, LocalDateTime now, LocalDateTime after, int limit);
+
+    SlotTimeEntity materialize(String recurrenceId, LocalDateTime startDateTime);
+}
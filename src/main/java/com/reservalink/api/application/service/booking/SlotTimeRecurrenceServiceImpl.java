@@ -0,0 +1,350 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.adapter.input.controller.request.SlotTimeRecurrenceRequest;
+import com.reservalink.api.adapter.input.controller.response.SlotTimeRecurrenceResponse;
+import com.reservalink.api.adapter.input.controller.response.SlotTimeResponse;
+import com.reservalink.api.adapter.output.repository.OfferingRepository;
+import com.reservalink.api.adapter.output.repository.SlotTimeRecurrenceRepository;
+import com.reservalink.api.adapter.output.repository.SlotTimeRepository;
+import com.reservalink.api.adapter.output.repository.entity.OfferingEntity;
+import com.reservalink.api.adapter.output.repository.entity.ResourceEntity;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeRecurrenceEntity;
+import com.reservalink.api.application.output.ResourceRepositoryPort;
+import com.reservalink.api.application.service.offering.StorefrontCache;
+import com.reservalink.api.domain.ResourceInterval;
+import com.reservalink.api.exception.BusinessErrorCodes;
+import com.reservalink.api.exception.BusinessRuleException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class SlotTimeRecurrenceServiceImpl implements SlotTimeRecurrenceService {
+
+    private static final int EXPANSION_DAYS = 7;
+
+    private final SlotTimeRecurrenceRepository recurrenceRepository;
+    private final SlotTimeRepository slotTimeRepository;
+    private final OfferingRepository offeringRepository;
+    private final ResourceRepositoryPort resourceRepositoryPort;
+    private final ResourceAvailabilityIndex resourceAvailabilityIndex;
+    private final StorefrontCache storefrontCache;
+    private final TransactionTemplate requiresNewTransactionTemplate;
+    private final int horizonDays;
+
+    public SlotTimeRecurrenceServiceImpl(SlotTimeRecurrenceRepository recurrenceRepository,
+                                         SlotTimeRepository slotTimeRepository,
+                                         OfferingRepository offeringRepository,
+                                         ResourceRepositoryPort resourceRepositoryPort,
+                                         ResourceAvailabilityIndex resourceAvailabilityIndex,
+                                         StorefrontCache storefrontCache,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${slot-time.recurrence.horizon-days:60}") int horizonDays) {
+        this.recurrenceRepository = recurrenceRepository;
+        this.slotTimeRepository = slotTimeRepository;
+        this.offeringRepository = offeringRepository;
+        this.resourceRepositoryPort = resourceRepositoryPort;
+        this.resourceAvailabilityIndex = resourceAvailabilityIndex;
+        this.storefrontCache = storefrontCache;
+        this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.horizonDays = horizonDays;
+    }
+
+    @Override
+    public SlotTimeRecurrenceResponse create(SlotTimeRecurrenceRequest request) {
+        if (!request.getStartTime().plusMinutes(request.getSlotDurationMinutes()).isAfter(request.getStartTime())
+                || request.getStartTime().plusMinutes(request.getSlotDurationMinutes()).isAfter(request.getEndTime())) {
+            throw new IllegalArgumentException("The time range must fit at least one slot of the given duration");
+        }
+        if (request.getValidUntil() != null && request.getValidUntil().isBefore(request.getValidFrom())) {
+            throw new IllegalArgumentException("The recurrence ends before it starts");
+        }
+
+        OfferingEntity offeringEntity = offeringRepository.findById(request.getOfferingId().toString())
+                .orElseThrow(() -> new IllegalArgumentException("Offering id not found"));
+        ResourceEntity resourceEntity = resourceRepositoryPort.findById(request.getResourceId())
+                .orElseThrow(() -> new IllegalArgumentException("Resource id not found"));
+
+        boolean overlapped = recurrenceRepository.findByOfferingEntityIdAndResourceEntityIdAndEnabledTrue(offeringEntity.getId(), resourceEntity.getId())
+                .stream()
+                .anyMatch(existing -> overlaps(existing, request));
+        if (overlapped) {
+            log.error("Recurrence creation rejected: overlaps an existing recurrence");
+            throw new BusinessRuleException(BusinessErrorCodes.SLOT_TIME_OVERLAPPED.name());
+        }
+
+        SlotTimeRecurrenceEntity entity = SlotTimeRecurrenceEntity.builder()
+                .enabled(true)
+                .offeringEntity(offeringEntity)
+                .resourceEntity(resourceEntity)
+                .daysOfWeek(request.getDaysOfWeek().stream().map(DayOfWeek::name).sorted().collect(Collectors.joining(",")))
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .slotDurationMinutes(request.getSlotDurationMinutes())
+                .price(request.getPrice())
+                .validFrom(request.getValidFrom())
+                .validUntil(request.getValidUntil())
+                .build();
+
+        log.info("Creating slot recurrence for offering id {} and resource id {}", offeringEntity.getId(), resourceEntity.getId());
+        SlotTimeRecurrenceResponse response = toResponse(recurrenceRepository.save(entity));
+        storefrontCache.invalidate(offeringEntity.getUserEntity().getId());
+        return response;
+    }
+
+    @Override
+    public List<SlotTimeRecurrenceResponse> findAllByOfferingIdAndResourceId(UUID offeringId, String resourceId) {
+        return recurrenceRepository.findByOfferingEntityIdAndResourceEntityIdAndEnabledTrue(offeringId.toString(), resourceId)
+                .stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Override
+    public void delete(UUID recurrenceId) {
+        SlotTimeRecurrenceEntity entity = recurrenceRepository.findByIdAndEnabledTrue(recurrenceId.toString())
+                .orElseThrow(() -> new IllegalArgumentException("The recurrence: " + recurrenceId + " you are trying to delete is not found"));
+        entity.setEnabled(false);
+        recurrenceRepository.save(entity);
+        storefrontCache.invalidate(entity.getOfferingEntity().getUserEntity().getId());
+    }
+
+    /**
+     * Up to limit occurrences of the enabled recurrences of the offering and resource that start
+     * after the cursor, in start order and within the configured horizon. The recurrences are
+     * expanded a few days at a time from the cursor, and expansion stops once the page is filled.
+     * Occurrences that already have a row (booked, or deleted as an exception) are skipped, as well
+     * as the ones overlapping an enabled slot or a booking of another offering on the resource.
+     */
+    @Override
+    public List<SlotTimeResponse> findVirtualSlots(String offeringId, String resourceId, LocalDateTime now, LocalDateTime after, int limit) {
+        List<SlotTimeRecurrenceEntity> recurrences = recurrenceRepository.findByOfferingEntityIdAndResourceEntityIdAndEnabledTrue(offeringId, resourceId);
+        if (recurrences.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDate horizon = now.toLocalDate().plusDays(horizonDays);
+        LocalDate from = (after != null && after.isAfter(now) ? after : now).toLocalDate();
+        List<SlotTimeResponse> slots = new ArrayList<>();
+        while (slots.size() < limit && !from.isAfter(horizon)) {
+            LocalDate to = from.plusDays(EXPANSION_DAYS - 1L).isAfter(horizon) ? horizon : from.plusDays(EXPANSION_DAYS - 1L);
+            slots.addAll(expand(recurrences, offeringId, resourceId, now, after, from, to));
+            from = to.plusDays(1);
+        }
+        return slots.size() > limit ? List.copyOf(slots.subList(0, limit)) : slots;
+    }
+
+    private List<SlotTimeResponse> expand(List<SlotTimeRecurrenceEntity> recurrences, String offeringId, String resourceId,
+                                          LocalDateTime now, LocalDateTime after, LocalDate from, LocalDate to) {
+        LocalDateTime windowStart = from.atStartOfDay();
+        LocalDateTime windowEnd = to.plusDays(1).atStartOfDay();
+        Set<String> materialized = slotTimeRepository.findMaterializedOccurrences(
+                        recurrences.stream().map(SlotTimeRecurrenceEntity::getId).toList(), windowStart, windowEnd)
+                .stream()
+                .map(occurrence -> occurrenceKey(occurrence.getId(), occurrence.getStartDateTime()))
+                .collect(Collectors.toSet());
+        ResourceAvailabilityIndex.IntervalSet existingSlots = new ResourceAvailabilityIndex.IntervalSet(
+                slotTimeRepository.findSlotIntervalsInWindow(offeringId, resourceId, windowStart, windowEnd));
+
+        List<SlotTimeResponse> slots = new ArrayList<>();
+        for (SlotTimeRecurrenceEntity recurrence : recurrences) {
+            for (LocalDateTime start : occurrences(recurrence, from, to)) {
+                LocalDateTime end = start.plusMinutes(recurrence.getSlotDurationMinutes());
+                if (end.isBefore(now)
+                        || (after != null && !start.isAfter(after))
+                        || materialized.contains(occurrenceKey(recurrence.getId(), start))
+                        || existingSlots.overlaps(start, end, null)
+                        || resourceAvailabilityIndex.existsOverlappingBooking(resourceId, offeringId, start, end)) {
+                    continue;
+                }
+                slots.add(SlotTimeResponse.builder()
+                        .id(virtualSlotId(recurrence.getId(), start))
+                        .startDateTime(start)
+                        .endDateTime(end)
+                        .price(recurrence.getPrice())
+                        .capacityAvailable(recurrence.getOfferingEntity().getCapacity())
+                        .maxCapacity(recurrence.getOfferingEntity().getCapacity())
+                        .enabled(true)
+                        .recurrenceId(recurrence.getId())
+                        .build());
+            }
+        }
+        slots.sort(Comparator.comparing(SlotTimeResponse::getStartDateTime));
+        return slots;
+    }
+
+    /**
+     * Returns the slot row of an occurrence, storing it first when it is still virtual. The row is
+     * stored through the entity, so Envers writes its revision, in a transaction of its own: when a
+     * concurrent call stores the same occurrence first, the unique (recurrence_id, start_date_time)
+     * key rejects this insert once that one commits, and the committed row is read in a new
+     * transaction. Concurrent bookings of the same occurrence therefore share one row and its
+     * capacity. Callers materialize before opening their own transaction, so no second connection
+     * is held while it runs.
+     */
+    @Override
+    public SlotTimeEntity materialize(String recurrenceId, LocalDateTime startDateTime) {
+        try {
+            return requiresNewTransactionTemplate.execute(status -> findOrStoreOccurrence(recurrenceId, startDateTime));
+        } catch (DataIntegrityViolationException e) {
+            log.info("Occurrence {} of recurrence {} was materialized concurrently", startDateTime, recurrenceId);
+            return requiresNewTransactionTemplate.execute(status -> findOccurrence(recurrenceId, startDateTime)
+                    .orElseThrow(() -> new IllegalStateException("The occurrence " + startDateTime + " of recurrence " + recurrenceId + " was not stored")));
+        }
+    }
+
+    private SlotTimeEntity findOrStoreOccurrence(String recurrenceId, LocalDateTime startDateTime) {
+        SlotTimeRecurrenceEntity recurrence = recurrenceRepository.findByIdAndEnabledTrue(recurrenceId)
+                .orElseThrow(() -> new IllegalArgumentException("The recurrence: " + recurrenceId + " does not exists"));
+        if (!Boolean.TRUE.equals(recurrence.getOfferingEntity().getEnabled())
+                || !Boolean.TRUE.equals(recurrence.getResourceEntity().getEnabled())) {
+            throw new IllegalArgumentException("The offering or resource of the recurrence: " + recurrenceId + " was deleted");
+        }
+        if (!occursAt(recurrence, startDateTime)) {
+            throw new IllegalArgumentException("The requested time is not an occurrence of the recurrence: " + recurrenceId);
+        }
+
+        Optional<SlotTimeEntity> existing = findOccurrence(recurrenceId, startDateTime);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        String offeringId = recurrence.getOfferingEntity().getId();
+        String resourceId = recurrence.getResourceEntity().getId();
+        LocalDateTime endDateTime = startDateTime.plusMinutes(recurrence.getSlotDurationMinutes());
+        List<ResourceInterval> overlapping = slotTimeRepository.findSlotIntervalsInWindow(offeringId, resourceId, startDateTime, endDateTime);
+        if (!overlapping.isEmpty()) {
+            // The overlapping row can be this very occurrence, committed by a concurrent call since the read above
+            return findOccurrence(recurrenceId, startDateTime)
+                    .orElseThrow(() -> new BusinessRuleException(BusinessErrorCodes.SLOT_TIME_OVERLAPPED.name()));
+        }
+
+        SlotTimeEntity occurrence = slotTimeRepository.saveAndFlush(SlotTimeEntity.builder()
+                .enabled(true)
+                .offeringEntity(recurrence.getOfferingEntity())
+                .resourceEntity(recurrence.getResourceEntity())
+                .recurrenceId(recurrenceId)
+                .startDateTime(startDateTime)
+                .endDateTime(endDateTime)
+                .price(recurrence.getPrice())
+                .capacityAvailable(recurrence.getOfferingEntity().getCapacity())
+                .maxCapacity(recurrence.getOfferingEntity().getCapacity())
+                .build());
+        resourceAvailabilityIndex.invalidate(resourceId);
+        log.info("Materialized occurrence {} of recurrence {}", startDateTime, recurrenceId);
+        return occurrence;
+    }
+
+    /**
+     * The stored row of the occurrence. A disabled row means the occurrence was deleted as an
+     * exception of the recurrence, which is reported as cancelled rather than as full.
+     */
+    private Optional<SlotTimeEntity> findOccurrence(String recurrenceId, LocalDateTime startDateTime) {
+        Optional<SlotTimeEntity> occurrence = slotTimeRepository.findByRecurrenceIdAndStartDateTime(recurrenceId, startDateTime);
+        if (occurrence.isPresent() && !Boolean.TRUE.equals(occurrence.get().getEnabled())) {
+            log.warn("Occurrence {} of recurrence {} was cancelled", startDateTime, recurrenceId);
+            throw new BusinessRuleException(BusinessErrorCodes.OCCURRENCE_CANCELLED.name());
+        }
+        return occurrence;
+    }
+
+    private static List<LocalDateTime> occurrences(SlotTimeRecurrenceEntity recurrence, LocalDate from, LocalDate to) {
+        LocalDate first = recurrence.getValidFrom().isAfter(from) ? recurrence.getValidFrom() : from;
+        LocalDate last = recurrence.getValidUntil() != null && recurrence.getValidUntil().isBefore(to) ? recurrence.getValidUntil() : to;
+        Set<DayOfWeek> days = parseDays(recurrence.getDaysOfWeek());
+        int startMinute = minuteOfDay(recurrence.getStartTime());
+        int endMinute = minuteOfDay(recurrence.getEndTime());
+        int duration = recurrence.getSlotDurationMinutes();
+
+        List<LocalDateTime> result = new ArrayList<>();
+        for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+            if (!days.contains(day.getDayOfWeek())) {
+                continue;
+            }
+            for (int minute = startMinute; minute + duration <= endMinute; minute += duration) {
+                result.add(day.atStartOfDay().plusMinutes(minute));
+            }
+        }
+        return result;
+    }
+
+    private static boolean occursAt(SlotTimeRecurrenceEntity recurrence, LocalDateTime startDateTime) {
+        LocalDate day = startDateTime.toLocalDate();
+        if (day.isBefore(recurrence.getValidFrom())
+                || (recurrence.getValidUntil() != null && day.isAfter(recurrence.getValidUntil()))
+                || !parseDays(recurrence.getDaysOfWeek()).contains(day.getDayOfWeek())
+                || startDateTime.toLocalTime().getSecond() != 0
+                || startDateTime.toLocalTime().getNano() != 0) {
+            return false;
+        }
+        int minute = minuteOfDay(startDateTime.toLocalTime());
+        int startMinute = minuteOfDay(recurrence.getStartTime());
+        int duration = recurrence.getSlotDurationMinutes();
+        return minute >= startMinute
+                && minute + duration <= minuteOfDay(recurrence.getEndTime())
+                && (minute - startMinute) % duration == 0;
+    }
+
+    private static boolean overlaps(SlotTimeRecurrenceEntity existing, SlotTimeRecurrenceRequest request) {
+        boolean sharesDay = parseDays(existing.getDaysOfWeek()).stream().anyMatch(request.getDaysOfWeek()::contains);
+        boolean sharesTime = existing.getStartTime().isBefore(request.getEndTime()) && existing.getEndTime().isAfter(request.getStartTime());
+        boolean sharesPeriod = (existing.getValidUntil() == null || !existing.getValidUntil().isBefore(request.getValidFrom()))
+                && (request.getValidUntil() == null || !request.getValidUntil().isBefore(existing.getValidFrom()));
+        return sharesDay && sharesTime && sharesPeriod;
+    }
+
+    private static Set<DayOfWeek> parseDays(String daysOfWeek) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        Arrays.stream(daysOfWeek.split(",")).map(String::trim).map(DayOfWeek::valueOf).forEach(days::add);
+        return days;
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static String occurrenceKey(String recurrenceId, LocalDateTime startDateTime) {
+        return recurrenceId + "|" + startDateTime;
+    }
+
+    private static String virtualSlotId(String recurrenceId, LocalDateTime startDateTime) {
+        return UUID.nameUUIDFromBytes(occurrenceKey(recurrenceId, startDateTime).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private SlotTimeRecurrenceResponse toResponse(SlotTimeRecurrenceEntity entity) {
+        return SlotTimeRecurrenceResponse.builder()
+                .id(entity.getId())
+                .offeringId(entity.getOfferingEntity().getId())
+                .resourceId(entity.getResourceEntity().getId())
+                .daysOfWeek(parseDays(entity.getDaysOfWeek()))
+                .startTime(entity.getStartTime())
+                .endTime(entity.getEndTime())
+                .slotDurationMinutes(entity.getSlotDurationMinutes())
+                .price(entity.getPrice())
+                .validFrom(entity.getValidFrom())
+                .validUntil(entity.getValidUntil())
+                .build();
+    }
+}
@@ -4,19 +4,23 @@ import com.reservalink.api.adapter.input.controller.request.SlotTimeRequest;
 import com.reservalink.api.adapter.input.controller.response.SlotTimeResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 public interface SlotTimeService {
+    @Transactional(rollbackFor = Exception.class)
     List<SlotTimeResponse> createList(List<SlotTimeRequest> slotTimeRequestList);
 
     Page<SlotTimeResponse> findNextSlotsPageByOfferingId(UUID offeringId, UUID resourceId, Pageable pageable);
 
     SlotTimeResponse update(UUID slotTimeId, SlotTimeRequest slotTimeRequest);
 
+    @Transactional(rollbackFor = Exception.class)
     void delete(UUID slotTimeId);
 
-    Page<SlotTimeResponse> findAllAvailableSlotTimesByOfferingAndResourceId(UUID offeringId, UUID resourceId, Pageable pageable);
+    Page<SlotTimeResponse> findAllAvailableSlotTimesByOfferingAndResourceId(UUID offeringId, UUID resourceId, LocalDateTime after, Pageable pageable);
 
 }
@@ -9,20 +9,25 @@ import com.reservalink.api.adapter.output.repository.entity.OfferingEntity;
 import com.reservalink.api.adapter.output.repository.entity.ResourceEntity;
 import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
 import com.reservalink.api.application.output.ResourceRepositoryPort;
+import com.reservalink.api.application.service.offering.StorefrontCache;
+import com.reservalink.api.domain.ResourceInterval;
 import com.reservalink.api.exception.BusinessErrorCodes;
 import com.reservalink.api.exception.BusinessRuleException;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ObjectUtils;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -31,17 +36,21 @@ public class SlotTimeServiceImpl implements SlotTimeService {
 
     private static final Integer MAX_SLOTS_PER_REQUEST = 500;
     private final SlotTimeRepository slotTimeRepository;
-    private final ModelMapper modelMapper;
     private final OfferingRepository offeringRepository;
     private final BookingRepository bookingRepository;
     private final ResourceRepositoryPort resourceRepositoryPort;
+    private final ResourceAvailabilityIndex resourceAvailabilityIndex;
+    private final SlotTimeRecurrenceService slotTimeRecurrenceService;
+    private final StorefrontCache storefrontCache;
 
-    public SlotTimeServiceImpl(SlotTimeRepository slotTimeRepository, ModelMapper modelMapper, OfferingRepository offeringRepository, BookingRepository bookingRepository, ResourceRepositoryPort resourceRepositoryPort) {
+    public SlotTimeServiceImpl(SlotTimeRepository slotTimeRepository, OfferingRepository offeringRepository, BookingRepository bookingRepository, ResourceRepositoryPort resourceRepositoryPort, ResourceAvailabilityIndex resourceAvailabilityIndex, SlotTimeRecurrenceService slotTimeRecurrenceService, StorefrontCache storefrontCache) {
         this.slotTimeRepository = slotTimeRepository;
-        this.modelMapper = modelMapper;
         this.offeringRepository = offeringRepository;
         this.bookingRepository = bookingRepository;
         this.resourceRepositoryPort = resourceRepositoryPort;
+        this.resourceAvailabilityIndex = resourceAvailabilityIndex;
+        this.slotTimeRecurrenceService = slotTimeRecurrenceService;
+        this.storefrontCache = storefrontCache;
     }
 
     @Override
@@ -79,20 +88,16 @@ public class SlotTimeServiceImpl implements SlotTimeService {
             }
         }
 
-        List<SlotTimeEntity> existingSlots = slotTimeRepository.findByOfferingEntityIdAndResourceEntityIdAndEnabledTrue(offeringId, resourceEntity.getId());
-        for (SlotTimeRequest req : slotTimeRequestList) {
-            for (SlotTimeEntity existing : existingSlots) {
-                boolean overlaps = req.getStartDateTime().isBefore(existing.getEndDateTime()) &&
-                        req.getEndDateTime().isAfter(existing.getStartDateTime());
-                if (overlaps) {
-                    log.error("Creation rejected: slot time overlapped");
-                    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-                    throw new BusinessRuleException(BusinessErrorCodes.SLOT_TIME_OVERLAPPED.name(),
-                            Map.of("startDateTime", req.getStartDateTime().format(formatter), "endDateTime", req.getEndDateTime().format(formatter))
-                    );
-                }
-            }
-        }
+        LocalDateTime windowStart = sorted.get(0).getStartDateTime();
+        LocalDateTime windowEnd = sorted.get(sorted.size() - 1).getEndDateTime();
+        List<ResourceInterval> existingSlots = slotTimeRepository.findSlotIntervalsInWindow(offeringId, resourceEntity.getId(), windowStart, windowEnd);
+        findFirstOverlap(sorted, existingSlots).ifPresent(req -> {
+            log.error("Creation rejected: slot time overlapped");
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+            throw new BusinessRuleException(BusinessErrorCodes.SLOT_TIME_OVERLAPPED.name(),
+                    Map.of("startDateTime", req.getStartDateTime().format(formatter), "endDateTime", req.getEndDateTime().format(formatter))
+            );
+        });
 
         List<SlotTimeEntity> slotTimeEntities = slotTimeRequestList.stream()
                 .map(req -> (SlotTimeEntity) SlotTimeEntity.builder()
@@ -108,18 +113,55 @@ public class SlotTimeServiceImpl implements SlotTimeService {
                 .toList();
 
         List<SlotTimeResponse> result = slotTimeRepository.saveAll(slotTimeEntities).stream()
-                .map(slot -> modelMapper.map(slot, SlotTimeResponse.class))
+                .map(SlotTimeServiceImpl::toResponse)
                 .toList();
+        resourceAvailabilityIndex.invalidate(resourceEntity.getId());
+        storefrontCache.invalidate(offeringEntity.getUserEntity().getId());
 
         log.info("Slots created successfully for offering id {}", offeringEntity.getId());
         return result;
     }
 
+    static SlotTimeResponse toResponse(SlotTimeEntity slot) {
+        return SlotTimeResponse.builder()
+                .id(slot.getId())
+                .startDateTime(slot.getStartDateTime())
+                .endDateTime(slot.getEndDateTime())
+                .price(slot.getPrice())
+                .capacityAvailable(slot.getCapacityAvailable())
+                .maxCapacity(slot.getMaxCapacity())
+                .enabled(slot.getEnabled())
+                .recurrenceId(slot.getRecurrenceId())
+                .build();
+    }
+
+    /**
+     * Sweep over both lists ordered by start. The requests do not overlap each other, so their ends
+     * are ordered too and every existing slot starting before the current request end stays a
+     * candidate for the following requests; only the furthest end among them matters.
+     */
+    static Optional<SlotTimeRequest> findFirstOverlap(List<SlotTimeRequest> sortedRequests, List<ResourceInterval> sortedExisting) {
+        int next = 0;
+        LocalDateTime maxEnd = null;
+        for (SlotTimeRequest req : sortedRequests) {
+            while (next < sortedExisting.size() && sortedExisting.get(next).getStartDateTime().isBefore(req.getEndDateTime())) {
+                LocalDateTime end = sortedExisting.get(next).getEndDateTime();
+                if (maxEnd == null || end.isAfter(maxEnd)) {
+                    maxEnd = end;
+                }
+                next++;
+            }
+            if (maxEnd != null && maxEnd.isAfter(req.getStartDateTime())) {
+                return Optional.of(req);
+            }
+        }
+        return Optional.empty();
+    }
 
     @Override
     public Page<SlotTimeResponse> findNextSlotsPageByOfferingId(UUID offeringId, UUID resourceId, Pageable pageable) {
         return slotTimeRepository.findAllByOfferingEntityIdAndResourceEntityIdAndEnabledTrueAndEndDateTimeGreaterThanEqualOrderByStartDateTimeAsc(offeringId.toString(), resourceId.toString(), LocalDateTime.now(), pageable)
-                .map(slot -> modelMapper.map(slot, SlotTimeResponse.class));
+                .map(SlotTimeServiceImpl::toResponse);
     }
 
     @Override
@@ -133,8 +175,8 @@ public class SlotTimeServiceImpl implements SlotTimeService {
             throw new BusinessRuleException(BusinessErrorCodes.OFFERING_HAS_ACTIVE_BOOKINGS.name(), Map.of("count", incomingBookings));
         }
 
-        if (slotTimeRepository.existsOverlappingSlot(slotTimeRequest.getOfferingId().toString(), slotTimeId.toString(),
-                slotTimeRequest.getStartDateTime(), slotTimeRequest.getEndDateTime())) {
+        if (resourceAvailabilityIndex.existsOverlappingSlot(slotTimeEntity.getResourceEntity().getId(), slotTimeRequest.getOfferingId().toString(),
+                slotTimeId.toString(), slotTimeRequest.getStartDateTime(), slotTimeRequest.getEndDateTime())) {
             log.error("Update rejected: slot time overlapped");
             DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
             throw new BusinessRuleException(BusinessErrorCodes.SLOT_TIME_OVERLAPPED.name(),
@@ -149,7 +191,9 @@ public class SlotTimeServiceImpl implements SlotTimeService {
         slotTimeEntity.setEndDateTime(slotTimeRequest.getEndDateTime());
         slotTimeEntity.setPrice(slotTimeRequest.getPrice());
 
-        return modelMapper.map(slotTimeRepository.save(slotTimeEntity), SlotTimeResponse.class);
+        SlotTimeEntity updated = slotTimeRepository.save(slotTimeEntity);
+        resourceAvailabilityIndex.invalidate(updated.getResourceEntity().getId());
+        return toResponse(updated);
     }
 
     @Override
@@ -166,15 +210,40 @@ public class SlotTimeServiceImpl implements SlotTimeService {
         slotTimeEntity.setEnabled(false);
 
         slotTimeRepository.save(slotTimeEntity);
+        resourceAvailabilityIndex.invalidate(slotTimeEntity.getResourceEntity().getId());
+        storefrontCache.invalidate(slotTimeEntity.getOfferingEntity().getUserEntity().getId());
     }
 
-    public Page<SlotTimeResponse> findAllAvailableSlotTimesByOfferingAndResourceId(UUID offeringId, UUID resourceId, Pageable pageable) {
-        return slotTimeRepository.findAllAvailableSlotTimesByOfferingAndResourceId(offeringId.toString(),
-                        resourceId.toString(),
-                        LocalDateTime.now(),
-                        pageable
-                )
-                .map(slot -> modelMapper.map(slot, SlotTimeResponse.class));
+    /**
+     * Stored slots and the virtual occurrences of the recurrences are both ordered by start, so a
+     * page is the merge of the first slots of each side. With a cursor, the start of the last slot
+     * already shown, both sides are read from it and the page number is ignored, so every page
+     * costs the same as the first. Without one the offset is honoured by reading the slots before
+     * it. When recurrences or a cursor are involved the total only reaches one past the page, which
+     * is enough for hasNext.
+     */
+    public Page<SlotTimeResponse> findAllAvailableSlotTimesByOfferingAndResourceId(UUID offeringId, UUID resourceId, LocalDateTime after, Pageable pageable) {
+        LocalDateTime now = LocalDateTime.now();
+        Pageable page = after == null ? pageable : PageRequest.of(0, pageable.getPageSize());
+        int skip = (int) page.getOffset();
+        int limit = skip + page.getPageSize();
+        List<SlotTimeResponse> virtualSlots = slotTimeRecurrenceService.findVirtualSlots(offeringId.toString(), resourceId.toString(), now, after, limit + 1);
+        if (after == null && virtualSlots.isEmpty()) {
+            return resourceAvailabilityIndex.findAvailableSlotTimes(offeringId.toString(), resourceId.toString(), now, pageable)
+                    .map(SlotTimeServiceImpl::toResponse);
+        }
+
+        List<SlotTimeResponse> merged = new ArrayList<>(resourceAvailabilityIndex
+                .findAvailableSlotTimesAfter(offeringId.toString(), resourceId.toString(), now, after, limit + 1)
+                .stream()
+                .map(SlotTimeServiceImpl::toResponse)
+                .toList());
+        merged.addAll(virtualSlots);
+        merged.sort(Comparator.comparing(SlotTimeResponse::getStartDateTime));
+
+        int from = Math.min(skip, merged.size());
+        int to = Math.min(limit, merged.size());
+        return new PageImpl<>(merged.subList(from, to), page, Math.min(merged.size(), limit + 1L));
     }
 
 }
@@ -0,0 +1,127 @@
+package com.reservalink.api.application.service.booking;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel of ids. Level 0 buckets span one tick and every higher level spans
+ * wheelSize buckets of the level below. Entries are cascaded to lower levels as their bucket
+ * comes due, so scheduling, removal and firing are all constant time. Not thread safe.
+ */
+final class TimingWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final int levels;
+    private final long[] spans;
+    private final List<List<Set<String>>> buckets = new ArrayList<>();
+    private final Map<String, Slot> slots = new HashMap<>();
+    private long currentTick;
+
+    TimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel configuration");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levels = levels;
+        this.spans = new long[levels + 1];
+        for (int level = 0; level <= levels; level++) {
+            spans[level] = level == 0 ? 1 : Math.multiplyExact(spans[level - 1], wheelSize);
+        }
+        for (int level = 0; level < levels; level++) {
+            List<Set<String>> wheel = new ArrayList<>(wheelSize);
+            for (int bucket = 0; bucket < wheelSize; bucket++) {
+                wheel.add(new LinkedHashSet<>());
+            }
+            buckets.add(wheel);
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules the id to fire once the deadline is reached, replacing any previous deadline.
+     * Deadlines in the past fire on the next tick. Returns false, leaving the wheel untouched,
+     * when the deadline is beyond what the wheel can hold.
+     */
+    boolean schedule(String id, long deadlineMillis) {
+        long deadlineTick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        if (deadlineTick - currentTick >= spans[levels]) {
+            return false;
+        }
+        remove(id);
+        place(id, deadlineTick);
+        return true;
+    }
+
+    boolean remove(String id) {
+        Slot slot = slots.remove(id);
+        if (slot == null) {
+            return false;
+        }
+        buckets.get(slot.level()).get(slot.bucket()).remove(id);
+        return true;
+    }
+
+    boolean contains(String id) {
+        return slots.containsKey(id);
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    /**
+     * Moves the wheel forward to the given time and returns the ids whose deadline has been reached.
+     */
+    List<String> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<String> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levels - 1; level >= 1; level--) {
+                if (currentTick % spans[level] == 0) {
+                    cascade(level, bucketIndex(currentTick, level));
+                }
+            }
+            Set<String> due = buckets.get(0).get(bucketIndex(currentTick, 0));
+            for (String id : due) {
+                slots.remove(id);
+                expired.add(id);
+            }
+            due.clear();
+        }
+        return expired;
+    }
+
+    private void cascade(int level, int bucket) {
+        Set<String> source = buckets.get(level).get(bucket);
+        List<String> ids = new ArrayList<>(source);
+        source.clear();
+        for (String id : ids) {
+            place(id, slots.get(id).deadlineTick());
+        }
+    }
+
+    private void place(String id, long deadlineTick) {
+        long delta = Math.max(deadlineTick - currentTick, 0);
+        int level = 0;
+        while (delta >= spans[level + 1]) {
+            level++;
+        }
+        int bucket = bucketIndex(Math.max(deadlineTick, currentTick), level);
+        buckets.get(level).get(bucket).add(id);
+        slots.put(id, new Slot(deadlineTick, level, bucket));
+    }
+
+    private int bucketIndex(long tick, int level) {
+        return (int) ((tick / spans[level]) % wheelSize);
+    }
+
+    private record Slot(long deadlineTick, int level, int bucket) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.reservalink.api.application.service.notification;
+
+import java.util.Map;
+
+public interface NotificationOutboxService {
+
+    /**
+     * Stores the notification in the outbox as part of the current transaction. It is sent by the
+     * outbox worker once the transaction commits, and discarded with it on rollback.
+     */
+    void enqueue(NotificationChannel channel, NotificationMotive motive, NotificationTarget target,
+                 Map<String, String> args, String aggregateId);
+}
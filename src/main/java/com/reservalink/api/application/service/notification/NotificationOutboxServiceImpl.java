@@ -0,0 +1,49 @@
+package com.reservalink.api.application.service.notification;
+
+import com.reservalink.api.application.output.NotificationOutboxRepositoryPort;
+import com.reservalink.api.domain.NotificationOutboxMessage;
+import com.reservalink.api.domain.NotificationOutboxStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+
+    private final NotificationOutboxRepositoryPort outboxRepository;
+    private final NotificationOutboxWorker notificationOutboxWorker;
+
+    @Override
+    public void enqueue(NotificationChannel channel, NotificationMotive motive, NotificationTarget target,
+                        Map<String, String> args, String aggregateId) {
+        outboxRepository.save(NotificationOutboxMessage.builder()
+                .aggregateId(aggregateId)
+                .channel(channel)
+                .motive(motive)
+                .target(target)
+                .args(args)
+                .status(NotificationOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        log.debug("Notification {} queued for {}", motive, aggregateId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificationOutboxWorker.wake();
+                }
+            });
+        } else {
+            notificationOutboxWorker.wake();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.reservalink.api.application.service.notification;
+
+import com.reservalink.api.application.output.NotificationOutboxRepositoryPort;
+import com.reservalink.api.application.service.notification.strategy.NotificationStrategyResolver;
+import com.reservalink.api.config.persistence.Workload;
+import com.reservalink.api.domain.NotificationOutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drains the notification outbox. Messages are claimed in leased batches and sent on virtual
+ * threads, with a semaphore capping the sends in flight. Each message is marked as soon as its
+ * send completes, and only while this node still holds its lease. Failed sends are retried with
+ * exponential backoff and moved to DEAD once the attempts are exhausted.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxWorker {
+
+    private final NotificationOutboxRepositoryPort outboxRepository;
+    private final NotificationStrategyResolver notificationStrategyResolver;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration leaseDuration;
+    private final String nodeId;
+    private final Semaphore permits;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+
+    public NotificationOutboxWorker(NotificationOutboxRepositoryPort outboxRepository,
+                                    NotificationStrategyResolver notificationStrategyResolver,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${notification.outbox.batch-size:50}") int batchSize,
+                                    @Value("${notification.outbox.concurrency:8}") int concurrency,
+                                    @Value("${notification.outbox.max-attempts:6}") int maxAttempts,
+                                    @Value("${notification.outbox.initial-backoff:PT30S}") Duration initialBackoff,
+                                    @Value("${notification.outbox.max-backoff:PT1H}") Duration maxBackoff,
+                                    @Value("${notification.outbox.lease-duration:PT5M}") Duration leaseDuration,
+                                    @Value("${notification.outbox.node-id:${FLY_MACHINE_ID:${HOSTNAME:}}}") String nodeId) {
+        this.outboxRepository = outboxRepository;
+        this.notificationStrategyResolver = notificationStrategyResolver;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.leaseDuration = leaseDuration;
+        this.nodeId = ObjectUtils.isEmpty(nodeId) ? UUID.randomUUID().toString() : nodeId;
+        this.permits = new Semaphore(concurrency);
+    }
+
+    /**
+     * Starts a drain unless one is already running, in which case that drain makes one more pass.
+     */
+    public void wake() {
+        wakeRequested.set(true);
+        if (running.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("notification-outbox").start(() -> Workload.runAsJob(this::run));
+        }
+    }
+
+    /**
+     * Sends a notification that must not be stored in the outbox, such as one carrying a secret,
+     * on a virtual thread under the same permits as the outbox sends. The caller does not wait for
+     * the provider, and a failed send is logged but not retried.
+     */
+    public void sendUnstored(NotificationChannel channel, NotificationMotive motive, NotificationTarget target, Map<String, String> args) {
+        Thread.ofVirtual().name("notification-unstored").start(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                notificationStrategyResolver.resolve(channel).send(target, motive, args).join();
+                count(channel, "SENT");
+            } catch (Exception e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                log.error("Notification {} {} could not be sent and is not retried.", channel, motive, cause);
+                count(channel, "FAILED");
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval:PT30S}")
+    public void poll() {
+        wake();
+    }
+
+    private void run() {
+        do {
+            try {
+                while (wakeRequested.getAndSet(false)) {
+                    drain();
+                }
+            } catch (Exception e) {
+                log.error("Notification outbox drain failed.", e);
+            } finally {
+                running.set(false);
+            }
+        } while (wakeRequested.get() && running.compareAndSet(false, true));
+    }
+
+    int drain() {
+        int processed = 0;
+        List<NotificationOutboxMessage> batch;
+        do {
+            batch = outboxRepository.claimDue(nodeId, LocalDateTime.now(), leaseDuration, batchSize);
+            process(batch);
+            processed += batch.size();
+        } while (batch.size() == batchSize);
+        return processed;
+    }
+
+    void process(List<NotificationOutboxMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (NotificationOutboxMessage message : batch) {
+                permits.acquireUninterruptibly();
+                executor.submit(() -> {
+                    try {
+                        deliver(message);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private void deliver(NotificationOutboxMessage message) {
+        try {
+            notificationStrategyResolver.resolve(message.getChannel())
+                    .send(message.getTarget(), message.getMotive(), message.getArgs())
+                    .join();
+        } catch (Exception e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+            int attempts = message.getAttempts() + 1;
+            if (attempts >= maxAttempts) {
+                log.error("Notification {} {} for {} is dead after {} attempts.", message.getChannel(), message.getMotive(), message.getAggregateId(), attempts, cause);
+                outboxRepository.markDead(message.getId(), nodeId, LocalDateTime.now(), error);
+                count(message.getChannel(), "DEAD");
+            } else {
+                Duration delay = backoff(attempts);
+                log.warn("Notification {} {} for {} failed, retrying in {}: {}", message.getChannel(), message.getMotive(), message.getAggregateId(), delay, error);
+                outboxRepository.scheduleRetry(message.getId(), nodeId, LocalDateTime.now().plus(delay), error);
+                count(message.getChannel(), "RETRY");
+            }
+            return;
+        }
+        outboxRepository.markSent(message.getId(), nodeId, LocalDateTime.now());
+        count(message.getChannel(), "SENT");
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void count(NotificationChannel channel, String outcome) {
+        Counter.builder("notification.outbox.processed")
+                .tag("channel", channel.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
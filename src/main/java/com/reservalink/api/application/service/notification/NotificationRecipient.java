@@ -0,0 +1,6 @@
+package com.reservalink.api.application.service.notification;
+
+import java.util.Map;
+
+public record NotificationRecipient(NotificationTarget target, Map<String, String> args) {
+}
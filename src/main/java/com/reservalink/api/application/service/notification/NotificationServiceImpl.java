@@ -4,7 +4,6 @@ import com.reservalink.api.adapter.output.repository.entity.BookingEntity;
 import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
 import com.reservalink.api.adapter.output.repository.entity.SubscriptionPaymentEntity;
 import com.reservalink.api.adapter.output.repository.entity.UserEntity;
-import com.reservalink.api.application.service.notification.strategy.NotificationStrategy;
 import com.reservalink.api.application.service.notification.strategy.NotificationStrategyResolver;
 import com.reservalink.api.domain.Booking;
 import com.reservalink.api.domain.PaymentStatus;
@@ -16,6 +15,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -26,21 +26,26 @@ import java.util.Map;
 public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationStrategyResolver notificationStrategyResolver;
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationOutboxWorker notificationOutboxWorker;
 
     @Value("${api.base.url}")
     private String baseURL;
 
-    public NotificationServiceImpl(NotificationStrategyResolver notificationStrategyResolver) {
+    public NotificationServiceImpl(NotificationStrategyResolver notificationStrategyResolver,
+                                   NotificationOutboxService notificationOutboxService,
+                                   NotificationOutboxWorker notificationOutboxWorker) {
         this.notificationStrategyResolver = notificationStrategyResolver;
+        this.notificationOutboxService = notificationOutboxService;
+        this.notificationOutboxWorker = notificationOutboxWorker;
     }
 
     @Override
     public void sendBookingConfirmed(BookingEntity bookingEntity) {
-        log.info("Sending email notifications for new booking");
+        log.info("Queueing email notifications for new booking");
         SlotTimeEntity slotTimeEntity = bookingEntity.getSlotTimeEntity();
 
         UserEntity userEntity = slotTimeEntity.getOfferingEntity().getUserEntity();
-        NotificationStrategy notificationStrategy = notificationStrategyResolver.resolve(NotificationChannel.EMAIL);
 
         DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
 
@@ -66,7 +71,7 @@ public class NotificationServiceImpl implements NotificationService {
                 .phone(bookingEntity.getPhoneNumber())
                 .build();
 
-        notificationStrategy.send(target, NotificationMotive.BOOKING_CONFIRMED, clientArgs);
+        notificationOutboxService.enqueue(NotificationChannel.EMAIL, NotificationMotive.BOOKING_CONFIRMED, target, clientArgs, bookingEntity.getId());
 
         Map<String, String> adminArgs = new HashMap<>();
         adminArgs.put("clientName", bookingEntity.getName());
@@ -83,37 +88,27 @@ public class NotificationServiceImpl implements NotificationService {
                 .email(resourceEmail != null ? resourceEmail : userEntity.getEmail())
                 .build();
 
-        notificationStrategy.send(targetUser, NotificationMotive.ADMIN_BOOKING_CONFIRMED, adminArgs);
+        notificationOutboxService.enqueue(NotificationChannel.EMAIL, NotificationMotive.ADMIN_BOOKING_CONFIRMED, targetUser, adminArgs, bookingEntity.getId());
     }
 
     @Override
     public void sendSubscriptionExpired(List<UserEntity> userEntityList) {
-        NotificationStrategy strategy = notificationStrategyResolver.resolve(NotificationChannel.EMAIL);
-        userEntityList.forEach(user -> {
-            try {
-                NotificationTarget target = NotificationTarget.builder()
-                        .email(user.getEmail())
-                        .build();
-                strategy.send(target, NotificationMotive.SUBSCRIPTION_EXPIRED,
-                        Map.of(
-                                "name", user.getName(),
-                                "recoverSubscriptionLink", user.getSubscriptionEntity().getCheckoutLink(),
-                                "currentMonth", LocalDate.now().getMonth()
-                                        .getDisplayName(TextStyle.FULL, new Locale("es", "ES"))
-                                        .toUpperCase(Locale.ROOT)
-                        )
-
-                );
-            } catch (Exception e) {
-                log.warn("Subscription Expired Notification failed for the user {}", user.getEmail());
-            }
-        });
+        String currentMonthName = currentMonthName();
+        List<NotificationRecipient> recipients = userEntityList.stream()
+                .map(user -> {
+                    Map<String, String> args = new HashMap<>();
+                    args.put("name", user.getName());
+                    args.put("recoverSubscriptionLink", user.getSubscriptionEntity().getCheckoutLink());
+                    args.put("currentMonth", currentMonthName);
+                    return recipient(user, args);
+                })
+                .toList();
+        sendBatch(NotificationMotive.SUBSCRIPTION_EXPIRED, recipients);
     }
 
     @Override
     public void sendBookingCancelled(BookingEntity bookingEntity) {
-        log.info("Sending email notifications for booking cancelled");
-        NotificationStrategy strategy = notificationStrategyResolver.resolve(NotificationChannel.EMAIL);
+        log.info("Queueing email notifications for booking cancelled");
         UserEntity user = bookingEntity.getSlotTimeEntity().getOfferingEntity().getUserEntity();
         SlotTimeEntity slotTimeEntity = bookingEntity.getSlotTimeEntity();
 
@@ -137,7 +132,7 @@ public class NotificationServiceImpl implements NotificationService {
                 .phone(bookingEntity.getPhoneNumber())
                 .build();
 
-        strategy.send(target, NotificationMotive.BOOKING_CANCELLED, clientArgs);
+        notificationOutboxService.enqueue(NotificationChannel.EMAIL, NotificationMotive.BOOKING_CANCELLED, target, clientArgs, bookingEntity.getId());
 
         Map<String, String> adminArgs = new HashMap<>();
         adminArgs.put("clientName", bookingEntity.getName());
@@ -153,13 +148,12 @@ public class NotificationServiceImpl implements NotificationService {
                 .email(resourceEmail != null ? resourceEmail : user.getEmail())
                 .build();
 
-        strategy.send(targetUser, NotificationMotive.ADMIN_BOOKING_CANCELLED, adminArgs);
+        notificationOutboxService.enqueue(NotificationChannel.EMAIL, NotificationMotive.ADMIN_BOOKING_CANCELLED, targetUser, adminArgs, bookingEntity.getId());
     }
 
     @Override
     public void sendSubscriptionPayment(SubscriptionPaymentEntity subscriptionPayment, UserEntity user) {
-        log.info("Sending subscription payment notification for user {}", user.getEmail());
-        NotificationStrategy strategy = notificationStrategyResolver.resolve(NotificationChannel.EMAIL);
+        log.info("Queueing subscription payment notification for user {}", user.getEmail());
         boolean success = subscriptionPayment.getPaymentStatus().equals(PaymentStatus.COMPLETED);
 
         Map<String, String> args = new HashMap<>();
@@ -185,76 +179,58 @@ public class NotificationServiceImpl implements NotificationService {
                 .email(user.getEmail())
                 .phone(user.getPhone())
                 .build();
-        try {
-            strategy.send(target, motive, args);
-        } catch (Exception e) {
-            log.warn("Failed sending subscription payment email to {}", user.getEmail());
-        }
+        notificationOutboxService.enqueue(NotificationChannel.EMAIL, motive, target, args, subscriptionPayment.getId());
     }
 
     @Override
     public void sendAboutToExpire(Map<Integer, List<UserEntity>> notificationsMap) {
         log.info("Sending batch notifications for subscriptions about to expire.");
-        NotificationStrategy strategy = notificationStrategyResolver.resolve(NotificationChannel.EMAIL);
-
-        Locale spanishLocale = new Locale("es", "ES");
-        String currentMonthName = LocalDate.now().getMonth()
-                .getDisplayName(TextStyle.FULL, spanishLocale)
-                .toUpperCase(Locale.ROOT);
-
-        notificationsMap.forEach((daysBefore, userEntityList) -> {
-
-            userEntityList.forEach(user -> {
-                try {
-                    Map<String, String> args = new HashMap<>();
-                    args.put("name", user.getName());
-                    args.put("daysBefore", daysBefore.toString());
-                    args.put("currentMonth", currentMonthName);
-                    args.put("recoverSubscriptionLink", user.getSubscriptionEntity().getCheckoutLink());
-                    NotificationTarget target = NotificationTarget.builder()
-                            .email(user.getEmail())
-                            .phone(user.getPhone())
-                            .build();
-                    strategy.send(target, NotificationMotive.SUBSCRIPTION_ABOUT_TO_EXPIRE, args);
-
-                } catch (Exception e) {
-                    log.warn("Subscription About To Expire Notification failed for the user {} ({} days before)",
-                            user.getEmail(), daysBefore, e);
-                }
-            });
-        });
+        sendBatch(NotificationMotive.SUBSCRIPTION_ABOUT_TO_EXPIRE, byDaysRecipients(notificationsMap, "daysBefore"));
     }
 
     @Override
     public void sendRecoverExpired(Map<Integer, List<UserEntity>> notificationsMap) {
         log.info("Sending batch notifications for recovering expired subscriptions.");
-        NotificationStrategy strategy = notificationStrategyResolver.resolve(NotificationChannel.EMAIL);
-        Locale spanishLocale = new Locale("es", "ES");
-        String currentMonthName = LocalDate.now().getMonth()
-                .getDisplayName(TextStyle.FULL, spanishLocale)
-                .toUpperCase(Locale.ROOT);
+        sendBatch(NotificationMotive.SUBSCRIPTION_EXPIRED_RECOVER, byDaysRecipients(notificationsMap, "daysAfter"));
+    }
 
-        notificationsMap.forEach((daysAfter, userEntityList) -> {
+    private List<NotificationRecipient> byDaysRecipients(Map<Integer, List<UserEntity>> notificationsMap, String daysKey) {
+        String currentMonthName = currentMonthName();
+        List<NotificationRecipient> recipients = new ArrayList<>();
+        notificationsMap.forEach((days, userEntityList) -> userEntityList.forEach(user -> {
+            Map<String, String> args = new HashMap<>();
+            args.put("name", user.getName());
+            args.put(daysKey, days.toString());
+            args.put("currentMonth", currentMonthName);
+            args.put("recoverSubscriptionLink", user.getSubscriptionEntity().getCheckoutLink());
+            recipients.add(recipient(user, args));
+        }));
+        return recipients;
+    }
 
-            userEntityList.forEach(user -> {
-                try {
-                    Map<String, String> args = new HashMap<>();
-                    args.put("name", user.getName());
-                    args.put("daysAfter", daysAfter.toString());
-                    args.put("currentMonth", currentMonthName);
-                    args.put("recoverSubscriptionLink", user.getSubscriptionEntity().getCheckoutLink());
-                    NotificationTarget target = NotificationTarget.builder()
-                            .email(user.getEmail())
-                            .phone(user.getPhone())
-                            .build();
-                    strategy.send(target, NotificationMotive.SUBSCRIPTION_EXPIRED_RECOVER, args);
-
-                } catch (Exception e) {
-                    log.warn("Subscription Expired Recovery Notification failed for the user {} ({} days after)",
-                            user.getEmail(), daysAfter, e);
-                }
-            });
-        });
+    private void sendBatch(NotificationMotive motive, List<NotificationRecipient> recipients) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        try {
+            notificationStrategyResolver.resolve(NotificationChannel.EMAIL).sendBatch(motive, recipients).join();
+        } catch (Exception e) {
+            log.warn("{} batch notification failed for some of its {} recipients", motive, recipients.size(), e);
+        }
+    }
+
+    private static NotificationRecipient recipient(UserEntity user, Map<String, String> args) {
+        NotificationTarget target = NotificationTarget.builder()
+                .email(user.getEmail())
+                .phone(user.getPhone())
+                .build();
+        return new NotificationRecipient(target, args);
+    }
+
+    private static String currentMonthName() {
+        return LocalDate.now().getMonth()
+                .getDisplayName(TextStyle.FULL, new Locale("es", "ES"))
+                .toUpperCase(Locale.ROOT);
     }
 
     @Override
@@ -283,25 +259,22 @@ public class NotificationServiceImpl implements NotificationService {
                 .join();
     }
 
+    /**
+     * The link carries the raw token, of which only the hash is stored, so it is sent without going
+     * through the outbox table.
+     */
     @Override
     public void sendResetPasswordRequest(String userEmail, String rawToken) {
         log.info("Sending recover password email to {}", userEmail);
-        NotificationStrategy strategy = notificationStrategyResolver.resolve(NotificationChannel.EMAIL);
-        try {
-            Map<String, String> args = new HashMap<>();
-            args.put("recoverPasswordLink", baseURL + "/public/change-password.html?token=" + rawToken);
-            NotificationTarget target = NotificationTarget.builder().email(userEmail).build();
-            strategy.send(target, NotificationMotive.RESET_PASSWORD, args);
-        } catch (Exception e) {
-            log.error("Unexpected error sending recover password email to {}", userEmail, e);
-        }
+        Map<String, String> args = new HashMap<>();
+        args.put("recoverPasswordLink", baseURL + "/public/change-password.html?token=" + rawToken);
+        NotificationTarget target = NotificationTarget.builder().email(userEmail).build();
+        notificationOutboxWorker.sendUnstored(NotificationChannel.EMAIL, NotificationMotive.RESET_PASSWORD, target, args);
     }
 
     @Override
     public void sendNewUserRegistered(UserEntity userEntity) {
-        log.info("Sending welcome email to new user {}", userEntity.getEmail());
-
-        NotificationStrategy strategy = notificationStrategyResolver.resolve(NotificationChannel.EMAIL);
+        log.info("Queueing welcome email to new user {}", userEntity.getEmail());
 
         try {
             Map<String, String> args = new HashMap<>();
@@ -312,12 +285,12 @@ public class NotificationServiceImpl implements NotificationService {
                     .email(userEntity.getEmail())
                     .phone(userEntity.getPhone())
                     .build();
-            strategy.send(target, NotificationMotive.NEW_USER_REGISTERED, args);
+            notificationOutboxService.enqueue(NotificationChannel.EMAIL, NotificationMotive.NEW_USER_REGISTERED, target, args, userEntity.getId());
 
             NotificationTarget targetApp = NotificationTarget.builder()
                     .email("agusiri96@gmail.com")
                     .build();
-            strategy.send(targetApp, NotificationMotive.APP_NEW_USER_REGISTERED, args);
+            notificationOutboxService.enqueue(NotificationChannel.EMAIL, NotificationMotive.APP_NEW_USER_REGISTERED, targetApp, args, userEntity.getId());
 
         } catch (Exception e) {
             log.error("Unexpected error sending welcome new user email to {}", userEntity.getEmail(), e);
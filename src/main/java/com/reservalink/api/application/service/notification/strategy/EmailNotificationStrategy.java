@@ -1,22 +1,26 @@
 package com.reservalink.api.application.service.notification.strategy;
 
-import com.github.mustachejava.Mustache;
-import com.github.mustachejava.MustacheFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reservalink.api.application.service.notification.NotificationChannel;
 import com.reservalink.api.application.service.notification.NotificationMotive;
+import com.reservalink.api.application.service.notification.NotificationRecipient;
 import com.reservalink.api.application.service.notification.NotificationTarget;
+import com.reservalink.api.config.http.HttpClientConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.HtmlUtils;
 
-import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -24,23 +28,33 @@ import java.util.concurrent.CompletableFuture;
 @Service
 public class EmailNotificationStrategy implements NotificationStrategy {
 
-    private final MustacheFactory mustacheFactory;
+    static final int MAILGUN_MAX_RECIPIENTS = 1000;
+
+    private final EmailTemplateRegistry emailTemplateRegistry;
     private final RestTemplate restTemplate;
-    private final String domain;
+    private final ObjectMapper objectMapper;
+    private final String messagesUrl;
     private final String apiKey;
-
-    @Value("${mailgun.api.email-from}")
-    private String emailFrom;
+    private final String emailFrom;
+    private final int batchSize;
 
     public EmailNotificationStrategy(
-            MustacheFactory mustacheFactory,
+            EmailTemplateRegistry emailTemplateRegistry,
+            @Qualifier(HttpClientConfig.MAILGUN) RestTemplate restTemplate,
+            ObjectMapper objectMapper,
             @Value("${mailgun.api.key}") String mailgunApiKey,
-            @Value("${mailgun.api.domain}") String domain
+            @Value("${mailgun.api.domain}") String domain,
+            @Value("${mailgun.api.email-from}") String emailFrom,
+            @Value("${mailgun.api.base-url:https://api.mailgun.net}") String baseUrl,
+            @Value("${mailgun.api.batch-size:1000}") int batchSize
     ) {
-        this.mustacheFactory = mustacheFactory;
-        this.domain = domain;
+        this.emailTemplateRegistry = emailTemplateRegistry;
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.messagesUrl = baseUrl + "/v3/" + domain + "/messages";
         this.apiKey = mailgunApiKey;
-        this.restTemplate = new RestTemplate();
+        this.emailFrom = emailFrom;
+        this.batchSize = Math.clamp(batchSize, 1, MAILGUN_MAX_RECIPIENTS);
     }
 
     @Override
@@ -50,40 +64,21 @@ public class EmailNotificationStrategy implements NotificationStrategy {
 
     @Override
     public String getTemplatePath() {
-        return "templates/email/";
+        return EmailTemplateRegistry.TEMPLATE_PATH;
     }
 
     @Override
-    @Async
     public CompletableFuture<Void> send(NotificationTarget target, NotificationMotive motive, Map<String, String> args) {
         try {
             String email = target.getEmail();
             if (email == null) {
                 throw new IllegalArgumentException("Email required");
             }
-            String templatePath = getTemplatePath() + motive.getTemplateName() + ".mustache";
-            Mustache mustache = mustacheFactory.compile(templatePath);
-            StringWriter writer = new StringWriter();
-            mustache.execute(writer, args).flush();
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setBasicAuth("api", apiKey);
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+            String html = emailTemplateRegistry.render(motive, args);
 
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("from", "ReservaLink <" + emailFrom + ">");
+            MultiValueMap<String, Object> body = messageBody(motive, html);
             body.add("to", email);
-            body.add("subject", motive.getSubject());
-            body.add("html", writer.toString());
-
-            HttpEntity<MultiValueMap<String, Object>> request =
-                    new HttpEntity<>(body, headers);
-
-            restTemplate.postForEntity(
-                    "https://api.mailgun.net/v3/" + domain + "/messages",
-                    request,
-                    String.class
-            );
+            post(body);
 
             log.info("Email sent via Mailgun to {}", email);
 
@@ -94,4 +89,80 @@ public class EmailNotificationStrategy implements NotificationStrategy {
             return CompletableFuture.failedFuture(new RuntimeException("Error sending email notification for motive " + motive.name(), e));
         }
     }
+
+    /**
+     * Renders the template once with Mailgun recipient placeholders and sends it to up to
+     * 1000 recipients per call, each recipient's args travelling as recipient-variables.
+     * Every chunk is attempted; the result fails if any of them failed.
+     */
+    @Override
+    public CompletableFuture<Void> sendBatch(NotificationMotive motive, List<NotificationRecipient> recipients) {
+        List<NotificationRecipient> withEmail = recipients.stream()
+                .filter(recipient -> recipient.target().getEmail() != null)
+                .toList();
+        if (withEmail.size() < recipients.size()) {
+            log.warn("Skipping {} {} recipients without email", recipients.size() - withEmail.size(), motive);
+        }
+        if (withEmail.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Map<String, String> placeholders = new HashMap<>();
+        withEmail.forEach(recipient -> recipient.args().keySet()
+                .forEach(key -> placeholders.put(key, "%recipient." + key + "%")));
+        String html = emailTemplateRegistry.render(motive, placeholders);
+
+        int failedChunks = 0;
+        for (int from = 0; from < withEmail.size(); from += batchSize) {
+            List<NotificationRecipient> chunk = withEmail.subList(from, Math.min(from + batchSize, withEmail.size()));
+            try {
+                MultiValueMap<String, Object> body = messageBody(motive, html);
+                Map<String, Map<String, String>> recipientVariables = new LinkedHashMap<>();
+                for (NotificationRecipient recipient : chunk) {
+                    body.add("to", recipient.target().getEmail());
+                    recipientVariables.put(recipient.target().getEmail(), escapedVariables(placeholders, recipient.args()));
+                }
+                body.add("recipient-variables", objectMapper.writeValueAsString(recipientVariables));
+                post(body);
+                log.info("Batch email {} sent via Mailgun to {} recipients", motive, chunk.size());
+            } catch (Exception e) {
+                failedChunks++;
+                log.error("Batch email {} failed for {} recipients", motive, chunk.size(), e);
+            }
+        }
+
+        if (failedChunks > 0) {
+            return CompletableFuture.failedFuture(new RuntimeException(
+                    failedChunks + " batch email chunks failed for motive " + motive.name()));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private MultiValueMap<String, Object> messageBody(NotificationMotive motive, String html) {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("from", "ReservaLink <" + emailFrom + ">");
+        body.add("subject", motive.getSubject());
+        body.add("html", html);
+        return body;
+    }
+
+    private void post(MultiValueMap<String, Object> body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth("api", apiKey);
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        restTemplate.postForEntity(messagesUrl, new HttpEntity<>(body, headers), String.class);
+    }
+
+    /**
+     * Mailgun substitutes the values verbatim, so they get the HTML escaping Mustache would have applied.
+     * Keys missing for this recipient are sent empty so no raw placeholder reaches the inbox.
+     */
+    private static Map<String, String> escapedVariables(Map<String, String> placeholders, Map<String, String> args) {
+        Map<String, String> variables = new HashMap<>();
+        placeholders.keySet().forEach(key -> {
+            String value = args.get(key);
+            variables.put(key, value == null ? "" : HtmlUtils.htmlEscape(value));
+        });
+        return variables;
+    }
 }
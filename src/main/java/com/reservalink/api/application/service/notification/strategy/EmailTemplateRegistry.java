@@ -0,0 +1,141 @@
+package com.reservalink.api.application.service.notification.strategy;
+
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import com.github.mustachejava.MustacheFactory;
+import com.github.mustachejava.resolver.FileSystemResolver;
+import com.reservalink.api.application.service.notification.NotificationMotive;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.Writer;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Email templates compiled once per motive at startup. Rendering reuses pooled buffers instead
+ * of allocating a writer per email. With the dev profile, or notification.templates.hot-reload,
+ * templates are compiled again on every render so edits show up without a restart. They are read
+ * from notification.templates.hot-reload-root when set (e.g. src/main/resources), otherwise from the classpath.
+ */
+@Slf4j
+@Component
+public class EmailTemplateRegistry {
+
+    static final String TEMPLATE_PATH = "templates/email/";
+    private static final String TEMPLATE_EXTENSION = ".mustache";
+    private static final int BUFFER_POOL_SIZE = 32;
+    private static final int INITIAL_BUFFER_CAPACITY = 8 * 1024;
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 64 * 1024;
+
+    private final Map<NotificationMotive, Mustache> templates = new EnumMap<>(NotificationMotive.class);
+    private final Map<NotificationMotive, String> templatePaths = new EnumMap<>(NotificationMotive.class);
+    private final BlockingQueue<StringBuilderWriter> buffers = new ArrayBlockingQueue<>(BUFFER_POOL_SIZE);
+    private final boolean hotReload;
+    private final String hotReloadRoot;
+
+    public EmailTemplateRegistry(MustacheFactory mustacheFactory,
+                                 Environment environment,
+                                 @Value("${notification.templates.hot-reload:false}") boolean hotReload,
+                                 @Value("${notification.templates.hot-reload-root:}") String hotReloadRoot) {
+        this.hotReload = hotReload || environment.acceptsProfiles(Profiles.of("dev"));
+        this.hotReloadRoot = hotReloadRoot;
+        Map<String, Mustache> compiledByPath = new HashMap<>();
+        for (NotificationMotive motive : NotificationMotive.values()) {
+            String path = TEMPLATE_PATH + motive.getTemplateName() + TEMPLATE_EXTENSION;
+            templatePaths.put(motive, path);
+            templates.put(motive, compiledByPath.computeIfAbsent(path, mustacheFactory::compile));
+        }
+        log.info("Compiled {} email templates for {} motives{}", compiledByPath.size(), templates.size(),
+                this.hotReload ? " (hot reload enabled)" : "");
+    }
+
+    public String render(NotificationMotive motive, Object scope) {
+        Mustache mustache = hotReload
+                ? reloadingFactory().compile(templatePaths.get(motive))
+                : templates.get(motive);
+        StringBuilderWriter writer = buffers.poll();
+        if (writer == null) {
+            writer = new StringBuilderWriter(INITIAL_BUFFER_CAPACITY);
+        }
+        try {
+            mustache.execute(writer, scope);
+            return writer.toString();
+        } finally {
+            if (writer.reset(MAX_RETAINED_BUFFER_CAPACITY)) {
+                buffers.offer(writer);
+            }
+        }
+    }
+
+    /**
+     * A new factory per render, since DefaultMustacheFactory caches what it compiles. With a root the
+     * templates are read only from the file system: the default resolver would find the copy on the
+     * classpath first.
+     */
+    private MustacheFactory reloadingFactory() {
+        return hotReloadRoot == null || hotReloadRoot.isBlank()
+                ? new DefaultMustacheFactory()
+                : new DefaultMustacheFactory(new FileSystemResolver(new File(hotReloadRoot)));
+    }
+
+    /**
+     * Unsynchronized writer over a StringBuilder, unlike StringWriter which locks a StringBuffer on every write.
+     */
+    static final class StringBuilderWriter extends Writer {
+        private final StringBuilder builder;
+
+        StringBuilderWriter(int capacity) {
+            this.builder = new StringBuilder(capacity);
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            builder.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String value, int offset, int length) {
+            builder.append(value, offset, offset + length);
+        }
+
+        @Override
+        public void write(int c) {
+            builder.append((char) c);
+        }
+
+        @Override
+        public Writer append(CharSequence value) {
+            builder.append(value);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+
+        /**
+         * Clears the buffer and tells whether it is small enough to be kept for reuse.
+         */
+        boolean reset(int maxRetainedCapacity) {
+            builder.setLength(0);
+            return builder.capacity() <= maxRetainedCapacity;
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.reservalink.api.application.service.notification.strategy;
 
 import com.reservalink.api.application.service.notification.NotificationChannel;
 import com.reservalink.api.application.service.notification.NotificationMotive;
+import com.reservalink.api.application.service.notification.NotificationRecipient;
 import com.reservalink.api.application.service.notification.NotificationTarget;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -14,4 +16,13 @@ public interface NotificationStrategy {
     String getTemplatePath();
 
     CompletableFuture<Void> send(NotificationTarget target, NotificationMotive motive, Map<String, String> args);
-}
\ No newline at end of file
+
+    /**
+     * Sends the same motive to many recipients. Channels without a bulk API send one message per recipient.
+     */
+    default CompletableFuture<Void> sendBatch(NotificationMotive motive, List<NotificationRecipient> recipients) {
+        return CompletableFuture.allOf(recipients.stream()
+                .map(recipient -> send(recipient.target(), motive, recipient.args()))
+                .toArray(CompletableFuture[]::new));
+    }
+}
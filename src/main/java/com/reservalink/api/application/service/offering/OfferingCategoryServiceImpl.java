@@ -26,6 +26,7 @@ public class OfferingCategoryServiceImpl implements OfferingCategoryService {
 
     private final OfferingCategoryServiceRepositoryPort categoryRepository;
     private final OfferingRepositoryPort offeringRepository;
+    private final StorefrontCache storefrontCache;
 
     @Override
     public List<OfferingCategory> getCategoriesByUserId(String userId) {
@@ -43,7 +44,9 @@ public class OfferingCategoryServiceImpl implements OfferingCategoryService {
         }
         category.setEnabled(true);
         category.setIsDefault(false);
-        return categoryRepository.save(category);
+        OfferingCategory saved = categoryRepository.save(category);
+        storefrontCache.invalidate(saved.getUserId());
+        return saved;
     }
 
     @Override
@@ -65,6 +68,7 @@ public class OfferingCategoryServiceImpl implements OfferingCategoryService {
         category.setIsDefault(false);
         category.setEnabled(false);
         categoryRepository.save(category);
+        storefrontCache.invalidate(category.getUserId());
         log.info("Deleted category {} and reassigned {} offerings", categoryId, offerings.size());
     }
 
@@ -79,7 +83,9 @@ public class OfferingCategoryServiceImpl implements OfferingCategoryService {
 
         category.setName(categoryRequest.getName().trim());
 
-        return categoryRepository.save(category);
+        OfferingCategory saved = categoryRepository.save(category);
+        storefrontCache.invalidate(category.getUserId());
+        return saved;
     }
 
     @Override
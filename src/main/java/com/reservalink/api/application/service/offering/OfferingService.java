@@ -3,6 +3,7 @@ package com.reservalink.api.application.service.offering;
 import com.reservalink.api.adapter.input.controller.request.OfferingOrderRequest;
 import com.reservalink.api.adapter.input.controller.request.OfferingRequest;
 import com.reservalink.api.adapter.input.controller.response.OfferingResponse;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -10,10 +11,12 @@ import java.util.UUID;
 public interface OfferingService {
     OfferingResponse create(OfferingRequest offeringRequest);
 
+    @Transactional(rollbackFor = Exception.class)
     OfferingResponse update(OfferingRequest offeringRequest) throws Exception;
 
     List<OfferingResponse> findAllByUserId(UUID userId);
 
+    @Transactional(rollbackFor = Exception.class)
     void delete(UUID offeringId);
 
     void orderOfferings(UUID userId, List<OfferingOrderRequest> request);
@@ -4,9 +4,11 @@ import com.reservalink.api.adapter.input.controller.request.OfferingOrderRequest
 import com.reservalink.api.adapter.input.controller.request.OfferingRequest;
 import com.reservalink.api.adapter.input.controller.response.OfferingResponse;
 import com.reservalink.api.adapter.output.repository.BookingRepository;
+import com.reservalink.api.adapter.output.repository.SlotTimeRecurrenceRepository;
 import com.reservalink.api.application.output.OfferingCategoryServiceRepositoryPort;
 import com.reservalink.api.application.output.OfferingRepositoryPort;
 import com.reservalink.api.application.output.SlotTimeRepositoryPort;
+import com.reservalink.api.application.service.booking.ResourceAvailabilityIndex;
 import com.reservalink.api.domain.Offering;
 import com.reservalink.api.domain.OfferingCategory;
 import com.reservalink.api.domain.SlotTime;
@@ -14,7 +16,6 @@ import com.reservalink.api.exception.BusinessErrorCodes;
 import com.reservalink.api.exception.BusinessRuleException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ObjectUtils;
 
@@ -34,18 +35,22 @@ public class OfferingServiceImpl implements OfferingService {
     private final OfferingCategoryServiceRepositoryPort categoryRepositoryPort;
     private final BookingRepository bookingRepository;
     private final SlotTimeRepositoryPort slotTimeRepository;
-    private final ModelMapper modelMapper;
+    private final SlotTimeRecurrenceRepository recurrenceRepository;
+    private final ResourceAvailabilityIndex resourceAvailabilityIndex;
+    private final StorefrontCache storefrontCache;
 
     @Override
     public OfferingResponse create(OfferingRequest request) {
-        Offering offering = modelMapper.map(request, Offering.class);
+        Offering offering = new Offering();
+        copyRequest(request, offering);
         offering.setEnabled(true);
 
         String categoryId = resolveCategoryId(request);
         offering.setCategoryId(categoryId);
 
         Offering saved = offeringRepository.save(offering);
-        return modelMapper.map(saved, OfferingResponse.class);
+        storefrontCache.invalidate(saved.getUserId());
+        return toResponse(saved);
     }
 
     @Override
@@ -55,14 +60,15 @@ public class OfferingServiceImpl implements OfferingService {
         }
         Offering existing = offeringRepository.findById(request.getId().toString())
                 .orElseThrow(() -> new IllegalArgumentException("Offering not found"));
-        modelMapper.map(request, existing);
+        copyRequest(request, existing);
 
         String categoryId = resolveCategoryId(request);
         existing.setCategoryId(categoryId);
 
         Offering updated = offeringRepository.save(existing);
+        storefrontCache.invalidate(updated.getUserId());
 
-        return modelMapper.map(updated, OfferingResponse.class);
+        return toResponse(updated);
     }
 
     @Override
@@ -72,10 +78,35 @@ public class OfferingServiceImpl implements OfferingService {
         }
         return offeringRepository.findByUserId(userId.toString())
                 .stream()
-                .map(off -> modelMapper.map(off, OfferingResponse.class))
+                .map(OfferingServiceImpl::toResponse)
                 .collect(Collectors.toList());
     }
 
+    private static void copyRequest(OfferingRequest request, Offering offering) {
+        offering.setId(request.getId() != null ? request.getId().toString() : offering.getId());
+        offering.setUserId(request.getUserId() != null ? request.getUserId().toString() : null);
+        offering.setName(request.getName());
+        offering.setDescription(request.getDescription());
+        offering.setCapacity(request.getCapacity());
+        offering.setAdvancePaymentPercentage(request.getAdvancePaymentPercentage());
+        offering.setTermsAndConditions(request.getTermsAndConditions());
+    }
+
+    private static OfferingResponse toResponse(Offering offering) {
+        return OfferingResponse.builder()
+                .id(offering.getId() != null ? UUID.fromString(offering.getId()) : null)
+                .userId(offering.getUserId() != null ? UUID.fromString(offering.getUserId()) : null)
+                .name(offering.getName())
+                .description(offering.getDescription())
+                .capacity(offering.getCapacity())
+                .advancePaymentPercentage(offering.getAdvancePaymentPercentage())
+                .enabled(offering.isEnabled())
+                .termsAndConditions(offering.getTermsAndConditions())
+                .categoryId(offering.getCategoryId())
+                .displayOrder(offering.getDisplayOrder())
+                .build();
+    }
+
     @Override
     public void delete(UUID id) {
         if (id == null) {
@@ -98,9 +129,12 @@ public class OfferingServiceImpl implements OfferingService {
             log.info("Disabling {} active slots for the service {}", slots.size(), id);
             slots.forEach(slot -> slot.setEnabled(false));
             slotTimeRepository.saveAll(slots);
+            slots.stream().map(SlotTime::getResourceId).distinct().forEach(resourceAvailabilityIndex::invalidate);
         }
+        recurrenceRepository.disableByOfferingId(id.toString());
 
         offeringRepository.save(existing);
+        storefrontCache.invalidate(existing.getUserId());
     }
 
     @Override
@@ -137,6 +171,7 @@ public class OfferingServiceImpl implements OfferingService {
         });
 
         offeringRepository.saveAll(offeringList);
+        storefrontCache.invalidate(userId.toString());
     }
 
     private String resolveCategoryId(OfferingRequest request) {
@@ -0,0 +1,9 @@
+package com.reservalink.api.application.service.offering;
+
+import com.reservalink.api.adapter.input.controller.response.StorefrontResponse;
+
+/**
+ * A storefront together with the strong ETag of its JSON representation.
+ */
+public record Storefront(StorefrontResponse response, String etag) {
+}
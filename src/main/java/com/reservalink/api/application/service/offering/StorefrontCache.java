@@ -0,0 +1,42 @@
+package com.reservalink.api.application.service.offering;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservalink.api.utils.CacheEviction;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Storefronts by user id. Concurrent misses for the same user share a single load. Writers to
+ * offerings, categories, resources or slots invalidate the user's entry; the TTL bounds how long
+ * capacity changes made by bookings take to show up in the resources listed per offering.
+ */
+@Component
+public class StorefrontCache {
+
+    private final Cache<String, Storefront> storefronts;
+
+    public StorefrontCache(MeterRegistry meterRegistry,
+                           @Value("${storefront.cache.ttl:PT1M}") Duration ttl,
+                           @Value("${storefront.cache.max-size:10000}") long maxSize) {
+        this.storefronts = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, storefronts, "storefronts");
+    }
+
+    public Storefront get(String userId, Function<String, Storefront> loader) {
+        return storefronts.get(userId, loader);
+    }
+
+    public void invalidate(String userId) {
+        CacheEviction.evictNowAndAfterCompletion(userId, storefronts::invalidate);
+    }
+}
@@ -0,0 +1,8 @@
+package com.reservalink.api.application.service.offering;
+
+import java.util.UUID;
+
+public interface StorefrontService {
+
+    Storefront findByUserId(UUID userId);
+}
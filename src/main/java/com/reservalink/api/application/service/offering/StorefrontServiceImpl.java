@@ -0,0 +1,55 @@
+package com.reservalink.api.application.service.offering;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservalink.api.adapter.input.controller.response.StorefrontResponse;
+import com.reservalink.api.application.output.ResourceRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorefrontServiceImpl implements StorefrontService {
+
+    private final OfferingService offeringService;
+    private final OfferingCategoryService categoryService;
+    private final ResourceRepositoryPort resourceRepositoryPort;
+    private final StorefrontCache storefrontCache;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Storefront findByUserId(UUID userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("Invalid user id");
+        }
+        return storefrontCache.get(userId.toString(), id -> load(userId));
+    }
+
+    private Storefront load(UUID userId) {
+        StorefrontResponse response = StorefrontResponse.builder()
+                .offerings(offeringService.findAllByUserId(userId))
+                .categories(categoryService.getCategoriesInUseByUserId(userId.toString()))
+                .resourcesByOffering(resourceRepositoryPort.findAllAvailableByUserIdGroupedByOffering(userId.toString()))
+                .build();
+        log.debug("Storefront loaded for user {}", userId);
+        return new Storefront(response, etag(response));
+    }
+
+    private String etag(StorefrontResponse response) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(response));
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Storefront could not be serialized", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -6,7 +6,9 @@ import com.reservalink.api.domain.PaymentMethod;
 import com.reservalink.api.adapter.output.repository.entity.UserEntity;
 import com.reservalink.api.adapter.output.repository.PaymentAccountTokenRepository;
 import com.reservalink.api.adapter.output.repository.UserRepository;
+import com.reservalink.api.config.http.HttpClientConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -29,11 +31,13 @@ public class MercadoPagoOAuthService implements OAuthService {
     @Value("${mercadopago.redirect.uri}")
     private String redirectUri;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
     private final PaymentAccountTokenRepository tokenRepository;
     private final UserRepository userRepository;
 
-    public MercadoPagoOAuthService(PaymentAccountTokenRepository tokenRepository, UserRepository userRepository) {
+    public MercadoPagoOAuthService(PaymentAccountTokenRepository tokenRepository, UserRepository userRepository,
+                                   @Qualifier(HttpClientConfig.MERCADO_PAGO) RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
         this.tokenRepository = tokenRepository;
         this.userRepository = userRepository;
     }
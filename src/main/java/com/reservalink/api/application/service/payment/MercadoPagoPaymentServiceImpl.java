@@ -17,6 +17,8 @@ import com.reservalink.api.application.output.UserRepositoryPort;
 import com.reservalink.api.application.service.feature.FeatureLifecycleService;
 import com.reservalink.api.application.service.feature.FeaturePricingService;
 import com.reservalink.api.application.service.notification.NotificationService;
+import com.reservalink.api.application.service.user.SubscriptionStateChangedEvent;
+import com.reservalink.api.config.http.HttpClientConfig;
 import com.reservalink.api.domain.FeatureName;
 import com.reservalink.api.domain.FeatureStatus;
 import com.reservalink.api.domain.FeatureUsage;
@@ -28,7 +30,9 @@ import com.reservalink.api.domain.SubscriptionFeature;
 import com.reservalink.api.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.Profiles;
 import org.springframework.http.HttpEntity;
@@ -55,6 +59,7 @@ public class MercadoPagoPaymentServiceImpl implements PaymentService {
 
     private final UserRepository userRepository;
     private final PaymentAccountTokenRepository tokenRepository;
+    @Qualifier(HttpClientConfig.MERCADO_PAGO)
     private final RestTemplate restTemplate;
     private final PaymentRepository paymentRepository;
     private final NotificationService notificationService;
@@ -65,6 +70,7 @@ public class MercadoPagoPaymentServiceImpl implements PaymentService {
     private final SubscriptionFeatureRepositoryPort subscriptionFeatureRepositoryPort;
     private final Environment environment;
     private final FeaturePricingService featurePricingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${api.base.url}")
     private String baseURL;
@@ -216,6 +222,48 @@ public class MercadoPagoPaymentServiceImpl implements PaymentService {
         return externalId;
     }
 
+    /**
+     * Refunds in full the approved MercadoPago payments of a booking, with the token of the professional who collected them.
+     * The idempotency key is the MercadoPago payment id, so a retried webhook does not refund twice.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void refundBookingPayment(BookingPaymentEntity bookingPaymentEntity) {
+        String externalId = bookingPaymentEntity.getExternalId();
+        String userId = bookingPaymentEntity.getBookingEntity().getSlotTimeEntity().getOfferingEntity().getUserEntity().getId();
+        PaymentAccountTokenEntity token = tokenRepository.findByUserEntityId(userId)
+                .orElseThrow(() -> new RuntimeException("User not linked to MercadoPago"));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token.getAccessToken());
+        ResponseEntity<Map> search = restTemplate.exchange(
+                "https://api.mercadopago.com/v1/payments/search?status=approved&external_reference=" + externalId,
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                Map.class
+        );
+        List<Map<String, Object>> approvedPayments = search.getBody() == null ? List.of()
+                : (List<Map<String, Object>>) search.getBody().getOrDefault("results", List.of());
+        if (approvedPayments.isEmpty()) {
+            throw new RuntimeException("No approved MercadoPago payment to refund for externalId: " + externalId);
+        }
+
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        for (Map<String, Object> approvedPayment : approvedPayments) {
+            String paymentId = approvedPayment.get("id").toString();
+            headers.set("X-Idempotency-Key", "refund-" + paymentId);
+            ResponseEntity<Map> response = restTemplate.postForEntity(
+                    "https://api.mercadopago.com/v1/payments/" + paymentId + "/refunds",
+                    new HttpEntity<>(Map.of(), headers),
+                    Map.class
+            );
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                throw new RuntimeException("Error refunding MercadoPago payment " + paymentId + ": " + response.getStatusCode());
+            }
+            log.info("Refunded MercadoPago payment {} of booking payment {}", paymentId, externalId);
+        }
+    }
+
     @Override
     public String createPremiumFeatureCheckoutURL(SubscriptionFeature subscriptionFeature, String featureUsageId) {
         String url = "https://api.mercadopago.com/checkout/preferences";
@@ -282,6 +330,7 @@ public class MercadoPagoPaymentServiceImpl implements PaymentService {
                 subscriptionEntity.setExpiration(subscriptionEntity.getExpiration().plusMonths(1));
             }
             subscriptionEntity.setExpired(false);
+            eventPublisher.publishEvent(new SubscriptionStateChangedEvent(List.of(user.getEmail())));
 
             List<String> premiumFeatureIds = extractPremiumFeatureIds(payment);
             if (!premiumFeatureIds.isEmpty()) {
@@ -1,6 +1,7 @@
 package com.reservalink.api.application.service.payment;
 
 import com.reservalink.api.adapter.output.repository.entity.BookingEntity;
+import com.reservalink.api.adapter.output.repository.entity.BookingPaymentEntity;
 import com.reservalink.api.domain.FeatureUsage;
 import com.reservalink.api.domain.SubscriptionFeature;
 
@@ -13,6 +14,8 @@ public interface PaymentService {
 
     String processPaymentWebhook(String paymentId);
 
+    void refundBookingPayment(BookingPaymentEntity bookingPaymentEntity);
+
     String createPremiumFeatureCheckoutURL(SubscriptionFeature subscriptionFeature, String featureUsageId);
 
 }
@@ -1,10 +1,13 @@
 package com.reservalink.api.application.service.user;
 
 import com.reservalink.api.application.output.ResourceRepositoryPort;
+import com.reservalink.api.application.service.booking.ResourceAvailabilityIndex;
+import com.reservalink.api.application.service.offering.StorefrontCache;
 import com.reservalink.api.domain.Resource;
 import com.reservalink.api.exception.BusinessRuleException;
 import com.reservalink.api.adapter.output.repository.BookingRepository;
 import com.reservalink.api.adapter.output.repository.ResourceRepositoryAdapter;
+import com.reservalink.api.adapter.output.repository.SlotTimeRecurrenceRepository;
 import com.reservalink.api.adapter.output.repository.SlotTimeRepository;
 import org.springframework.stereotype.Service;
 
@@ -19,11 +22,17 @@ public class ResourceServiceImpl implements ResourceService {
     private final ResourceRepositoryPort resourceRepositoryPort;
     private final BookingRepository bookingRepository;
     private final SlotTimeRepository slotTimeRepository;
+    private final SlotTimeRecurrenceRepository recurrenceRepository;
+    private final ResourceAvailabilityIndex resourceAvailabilityIndex;
+    private final StorefrontCache storefrontCache;
 
-    public ResourceServiceImpl(ResourceRepositoryPort resourceRepositoryPort, BookingRepository bookingRepository, SlotTimeRepository slotTimeRepository) {
+    public ResourceServiceImpl(ResourceRepositoryPort resourceRepositoryPort, BookingRepository bookingRepository, SlotTimeRepository slotTimeRepository, SlotTimeRecurrenceRepository recurrenceRepository, ResourceAvailabilityIndex resourceAvailabilityIndex, StorefrontCache storefrontCache) {
         this.resourceRepositoryPort = resourceRepositoryPort;
         this.bookingRepository = bookingRepository;
         this.slotTimeRepository = slotTimeRepository;
+        this.recurrenceRepository = recurrenceRepository;
+        this.resourceAvailabilityIndex = resourceAvailabilityIndex;
+        this.storefrontCache = storefrontCache;
     }
 
     @Override
@@ -38,12 +47,16 @@ public class ResourceServiceImpl implements ResourceService {
 
     @Override
     public Resource create(Resource resource) {
-        return resourceRepositoryPort.create(resource);
+        Resource created = resourceRepositoryPort.create(resource);
+        storefrontCache.invalidate(created.getUserId());
+        return created;
     }
 
     @Override
     public Resource update(Resource resource) {
-        return resourceRepositoryPort.update(resource);
+        Resource updated = resourceRepositoryPort.update(resource);
+        storefrontCache.invalidate(updated.getUserId());
+        return updated;
     }
 
     @Override
@@ -60,6 +73,9 @@ public class ResourceServiceImpl implements ResourceService {
         }
 
         slotTimeRepository.deleteByResourceId(resourceId);
+        recurrenceRepository.disableByResourceId(resourceId);
+        resourceAvailabilityIndex.invalidate(resourceId);
         resourceRepositoryPort.delete(resourceId);
+        storefrontCache.invalidate(resource.getUserId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.reservalink.api.application.service.user;
+
+import java.util.Collection;
+
+/**
+ * Published when the subscriptions of these users were expired or reactivated, so anything holding
+ * their subscription authority can drop it.
+ */
+public record SubscriptionStateChangedEvent(Collection<String> userEmails) {
+}
@@ -0,0 +1,60 @@
+package com.reservalink.api.application.service.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservalink.api.domain.Tenant;
+import com.reservalink.api.utils.CacheEviction;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Brand name to tenant, so public page visits are routed without touching the database. Only
+ * existing brands are cached. Entries are dropped when the brand is renamed or the user's
+ * subscription state changes; the TTL bounds staleness for changes made on other nodes.
+ */
+@Slf4j
+@Component
+public class TenantResolutionCache {
+
+    private final Cache<String, Tenant> tenants;
+
+    public TenantResolutionCache(MeterRegistry meterRegistry,
+                                 @Value("${tenant.cache.ttl:PT5M}") Duration ttl,
+                                 @Value("${tenant.cache.max-size:10000}") long maxSize) {
+        this.tenants = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tenants, "tenants");
+    }
+
+    /**
+     * Returns the cached tenant or loads it. A null from the loader is returned but not cached.
+     */
+    public Tenant get(String brandName, Function<String, Tenant> loader) {
+        return tenants.get(brandName, loader);
+    }
+
+    public void invalidateBrand(String brandName) {
+        CacheEviction.evictNowAndAfterCompletion(brandName, tenants::invalidate);
+    }
+
+    public void invalidateUsers(Set<String> emails) {
+        tenants.asMap().values().removeIf(tenant -> emails.contains(tenant.getEmail()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionStateChanged(SubscriptionStateChangedEvent event) {
+        invalidateUsers(Set.copyOf(event.userEmails()));
+        log.debug("Dropped cached tenants for {} users after a subscription change", event.userEmails().size());
+    }
+}
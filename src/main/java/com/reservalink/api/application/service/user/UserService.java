@@ -4,6 +4,7 @@ import com.reservalink.api.adapter.input.controller.request.UserLoginRequest;
 import com.reservalink.api.adapter.input.controller.request.UserRegistrationRequest;
 import com.reservalink.api.adapter.input.controller.request.UserRequest;
 import com.reservalink.api.adapter.input.controller.response.UserAuthResponse;
+import com.reservalink.api.domain.Tenant;
 import com.reservalink.api.domain.User;
 import com.reservalink.api.adapter.output.repository.entity.SubscriptionEntity;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,7 +18,12 @@ public interface UserService {
 
     UserAuthResponse login(UserLoginRequest userLoginRequest);
 
-    String findUserIdByBrandName(String brandName);
+    UserAuthResponse refresh(String refreshToken);
+
+    @Transactional(rollbackFor = Exception.class)
+    void revokeRefreshTokens(String refreshToken);
+
+    Tenant findTenantByBrandName(String brandName);
 
     User findById(UUID id);
 
@@ -33,6 +39,4 @@ public interface UserService {
     void resetPassword(String password, String token);
 
     SubscriptionEntity findUserSubscriptionByUserEmail(String email);
-
-    boolean isSubscriptionExpired(String userId);
 }
@@ -9,6 +9,7 @@ import com.reservalink.api.adapter.input.controller.response.UserAuthResponse;
 import com.reservalink.api.application.service.offering.OfferingCategoryService;
 import com.reservalink.api.domain.OfferingCategory;
 import com.reservalink.api.domain.Resource;
+import com.reservalink.api.domain.Tenant;
 import com.reservalink.api.domain.User;
 import com.reservalink.api.exception.BusinessErrorCodes;
 import com.reservalink.api.exception.BusinessRuleException;
@@ -27,7 +28,6 @@ import com.reservalink.api.utils.GenericAppConstants;
 import com.reservalink.api.utils.TokenHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -54,7 +54,6 @@ import java.util.UUID;
 public class UserServiceImpl implements UserService, UserDetailsService {
 
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
     private final BCryptPasswordEncoder passwordEncoder;
     private final JWTUtils jwtUtils;
     private final BrandRepository brandRepository;
@@ -63,14 +62,20 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     private final RecoverPasswordTokenRepository recoverPasswordTokenRepository;
     private final ResourceRepositoryPort resourceRepository;
     private final OfferingCategoryServiceRepositoryPort categoryRepository;
+    private final TenantResolutionCache tenantResolutionCache;
 
     @Value("${api.base.url}")
     private String baseURL;
 
     public User register(UserRegistrationRequest userRegistrationRequest) {
-        UserEntity userEntity = modelMapper.map(userRegistrationRequest, UserEntity.class);
-        userEntity.setEnabled(true);
-        userEntity.setPassword(passwordEncoder.encode(userRegistrationRequest.getPassword()));
+        UserEntity userEntity = UserEntity.builder()
+                .name(userRegistrationRequest.getName())
+                .lastName(userRegistrationRequest.getLastName())
+                .email(userRegistrationRequest.getEmail())
+                .phone(userRegistrationRequest.getPhone())
+                .enabled(true)
+                .password(passwordEncoder.encode(userRegistrationRequest.getPassword()))
+                .build();
         try {
             boolean brandAlreadyExists = brandRepository.existsByName(userRegistrationRequest.getBrandName());
             if (brandAlreadyExists) {
@@ -119,7 +124,7 @@ public class UserServiceImpl implements UserService, UserDetailsService {
 
             notificationService.sendNewUserRegistered(userEntity);
 
-            return modelMapper.map(savedUserEntity, User.class);
+            return toDomain(savedUserEntity);
         } catch (DataIntegrityViolationException ex) {
             validateSQLConstraints(ex, userRegistrationRequest);
             throw ex;
@@ -136,25 +141,47 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         String jwt = jwtUtils.generateToken(userEntity);
         return UserAuthResponse.builder()
                 .token(jwt)
+                .refreshToken(jwtUtils.generateRefreshToken(userEntity))
+                .id(userEntity.getId())
+                .email(userEntity.getEmail())
+                .build();
+    }
+
+    @Override
+    public UserAuthResponse refresh(String refreshToken) {
+        JWTUtils.RefreshToken token = jwtUtils.parseRefreshToken(refreshToken);
+        UserEntity userEntity = userRepository.findById(token.userId())
+                .filter(user -> !Boolean.FALSE.equals(user.getEnabled()))
+                .filter(user -> user.getTokenVersion() == token.tokenVersion())
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        return UserAuthResponse.builder()
+                .token(jwtUtils.generateToken(userEntity))
                 .id(userEntity.getId())
                 .email(userEntity.getEmail())
                 .build();
     }
 
     @Override
-    public String findUserIdByBrandName(String brandName) {
-        String userId = userRepository.findUserIdByBrandName(brandName);
-        if (userId == null) {
+    public void revokeRefreshTokens(String refreshToken) {
+        String userId = jwtUtils.parseRefreshToken(refreshToken).userId();
+        userRepository.incrementTokenVersion(userId);
+        log.info("Refresh tokens revoked for user {}", userId);
+    }
+
+    @Override
+    public Tenant findTenantByBrandName(String brandName) {
+        Tenant tenant = tenantResolutionCache.get(brandName, name -> userRepository.findTenantByBrandName(name).orElse(null));
+        if (tenant == null) {
             throw new UsernameNotFoundException("User Not Found");
         }
-        return userId;
+        return tenant;
     }
 
     @Override
     public User findById(UUID id) {
         UserEntity userEntity = userRepository.findById(id.toString())
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        return modelMapper.map(userEntity, User.class);
+        return toDomain(userEntity);
     }
 
     @Override
@@ -175,12 +202,27 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         userEntity.setPhone(request.getPhone());
 
         BrandEntity brandEntity = userEntity.getBrandEntity();
+        String previousBrandName = brandEntity.getName();
         brandEntity.setName(request.getBrandName());
         userEntity.setBrandEntity(brandEntity);
         brandRepository.save(brandEntity);
+        tenantResolutionCache.invalidateBrand(previousBrandName);
 
         userEntity = userRepository.save(userEntity);
-        return modelMapper.map(userEntity, User.class);
+        return toDomain(userEntity);
+    }
+
+    private static User toDomain(UserEntity userEntity) {
+        return User.builder()
+                .id(userEntity.getId())
+                .name(userEntity.getName())
+                .lastName(userEntity.getLastName())
+                .email(userEntity.getEmail())
+                .phone(userEntity.getPhone())
+                .brandName(userEntity.getBrandEntity() != null ? userEntity.getBrandEntity().getName() : null)
+                .enabled(userEntity.getEnabled())
+                .subscriptionId(userEntity.getSubscriptionEntity() != null ? userEntity.getSubscriptionEntity().getId() : null)
+                .build();
     }
 
     @Override
@@ -266,6 +308,7 @@ public class UserServiceImpl implements UserService, UserDetailsService {
 
         UserEntity user = tokenEntity.getUser();
         user.setPassword(passwordEncoder.encode(newPassword));
+        user.setTokenVersion(user.getTokenVersion() + 1);
         userRepository.saveAndFlush(user);
 
         tokenEntity.setUsed(true);
@@ -278,11 +321,4 @@ public class UserServiceImpl implements UserService, UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
         return userEntity.getSubscriptionEntity();
     }
-
-    @Override
-    public boolean isSubscriptionExpired(String userId) {
-        UserEntity userEntity = userRepository.findById(userId)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        return userEntity.getSubscriptionEntity().isExpired();
-    }
 }
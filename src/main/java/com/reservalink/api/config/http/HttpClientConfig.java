@@ -0,0 +1,81 @@
+package com.reservalink.api.config.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * One RestTemplate per outbound provider. Each is backed by its own JDK HttpClient, which keeps
+ * connections alive and negotiates HTTP/2, and is guarded by a per provider concurrency cap and
+ * circuit breaker. Built from the Boot RestTemplateBuilder so calls are recorded in the
+ * http.client.requests metric, tagged by host.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    public static final String MAILGUN = "mailgunRestTemplate";
+    public static final String META = "metaRestTemplate";
+    public static final String MERCADO_PAGO = "mercadoPagoRestTemplate";
+
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final MeterRegistry meterRegistry;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final Duration acquireTimeout;
+    private final int failureThreshold;
+    private final Duration openDuration;
+
+    public HttpClientConfig(RestTemplateBuilder restTemplateBuilder,
+                            MeterRegistry meterRegistry,
+                            @Value("${http.client.connect-timeout:PT5S}") Duration connectTimeout,
+                            @Value("${http.client.read-timeout:PT15S}") Duration readTimeout,
+                            @Value("${http.client.acquire-timeout:PT5S}") Duration acquireTimeout,
+                            @Value("${http.client.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                            @Value("${http.client.circuit-breaker.open-duration:PT30S}") Duration openDuration) {
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.meterRegistry = meterRegistry;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.acquireTimeout = acquireTimeout;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    @Bean(MAILGUN)
+    public RestTemplate mailgunRestTemplate(@Value("${http.client.mailgun.max-concurrent:16}") int maxConcurrent) {
+        return build("mailgun", maxConcurrent);
+    }
+
+    @Bean(META)
+    public RestTemplate metaRestTemplate(@Value("${http.client.meta.max-concurrent:8}") int maxConcurrent) {
+        return build("meta", maxConcurrent);
+    }
+
+    @Bean(MERCADO_PAGO)
+    public RestTemplate mercadoPagoRestTemplate(@Value("${http.client.mercadopago.max-concurrent:8}") int maxConcurrent) {
+        return build("mercadopago", maxConcurrent);
+    }
+
+    private RestTemplate build(String provider, int maxConcurrent) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        return restTemplateBuilder
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(new ProviderGuardInterceptor(provider, maxConcurrent, acquireTimeout,
+                        failureThreshold, openDuration, meterRegistry))
+                .build();
+    }
+}
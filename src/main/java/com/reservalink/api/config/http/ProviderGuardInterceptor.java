@@ -0,0 +1,156 @@
+package com.reservalink.api.config.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps the concurrent calls to one provider and stops calling it for a while after consecutive
+ * failures. I/O errors and 5xx responses count as failures. Rejected calls fail with an
+ * IOException, which RestTemplate reports as a ResourceAccessException like any other I/O error.
+ */
+@Slf4j
+public class ProviderGuardInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String provider;
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final CircuitBreaker circuitBreaker;
+
+    public ProviderGuardInterceptor(String provider, int maxConcurrent, Duration acquireTimeout,
+                                    int failureThreshold, Duration openDuration, MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.permits = new Semaphore(maxConcurrent);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration, System::nanoTime);
+        Gauge.builder("http.client.circuit.open", circuitBreaker, breaker -> breaker.isOpen() ? 1 : 0)
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("http.client.in.flight", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new IOException("Circuit open for " + provider + ", call to " + request.getURI().getHost() + " rejected");
+        }
+        acquirePermit(request);
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            if (response.getStatusCode().is5xxServerError()) {
+                onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            onFailure();
+            throw e;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquirePermit(HttpRequest request) throws IOException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                circuitBreaker.release();
+                throw new IOException("Too many concurrent calls to " + provider + ", call to " + request.getURI().getHost() + " rejected");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.release();
+            throw new InterruptedIOException("Interrupted waiting for a " + provider + " connection");
+        }
+    }
+
+    private void onFailure() {
+        if (circuitBreaker.onFailure()) {
+            log.warn("Circuit for {} opened after consecutive failures.", provider);
+        }
+    }
+
+    /**
+     * Consecutive failure breaker. Once open, calls are rejected until the open duration elapses,
+     * then a single trial call decides whether it closes again or stays open.
+     */
+    static final class CircuitBreaker {
+
+        private enum State { CLOSED, OPEN, HALF_OPEN }
+
+        private final int failureThreshold;
+        private final long openNanos;
+        private final LongSupplier nanoClock;
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private boolean trialInFlight;
+
+        CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+            this.failureThreshold = failureThreshold;
+            this.openNanos = openDuration.toNanos();
+            this.nanoClock = nanoClock;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (state == State.OPEN) {
+                if (nanoClock.getAsLong() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = false;
+            }
+            if (state == State.HALF_OPEN) {
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+            }
+            return true;
+        }
+
+        /**
+         * Gives back a permission that did not lead to a call.
+         */
+        synchronized void release() {
+            trialInFlight = false;
+        }
+
+        synchronized void onSuccess() {
+            consecutiveFailures = 0;
+            trialInFlight = false;
+            state = State.CLOSED;
+        }
+
+        /**
+         * Returns true when this failure opened the circuit.
+         */
+        synchronized boolean onFailure() {
+            consecutiveFailures++;
+            trialInFlight = false;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                state = State.OPEN;
+                openedAt = nanoClock.getAsLong();
+                return true;
+            }
+            return false;
+        }
+
+        synchronized boolean isOpen() {
+            return state == State.OPEN;
+        }
+    }
+}
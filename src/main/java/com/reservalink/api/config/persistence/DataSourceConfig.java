@@ -0,0 +1,53 @@
+package com.reservalink.api.config.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Two Hikari pools on the same database: one for web requests and one for the scheduled jobs, so
+ * a nightly batch cannot take the connections booking traffic needs. Spring Boot binds the
+ * hikaricp.* metrics of both pools, tagged by pool name, which include the time spent waiting
+ * for a connection (acquire) and the time each one was held (usage).
+ */
+@Configuration
+public class DataSourceConfig {
+
+    public static final String WEB_POOL = "web";
+    public static final String JOBS_POOL = "jobs";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource webDataSource(DataSourceProperties properties) {
+        return pool(properties, WEB_POOL);
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.jobs.hikari")
+    public HikariDataSource jobsDataSource(DataSourceProperties properties) {
+        return pool(properties, JOBS_POOL);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("webDataSource") HikariDataSource webDataSource,
+                                 @Qualifier("jobsDataSource") HikariDataSource jobsDataSource) {
+        WorkloadRoutingDataSource dataSource = new WorkloadRoutingDataSource();
+        dataSource.setTargetDataSources(Map.of(Workload.WEB, webDataSource, Workload.JOBS, jobsDataSource));
+        dataSource.setDefaultTargetDataSource(webDataSource);
+        return dataSource;
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String name) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,31 @@
+package com.reservalink.api.config.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers match_against(column1, column2, column3, text) for JPQL. On MySQL it renders a boolean
+ * mode phrase search, which the ngram FULLTEXT indexes answer as a substring match. Other databases
+ * get an equivalent case insensitive LIKE, so the same queries run on the H2 test database.
+ * The result is positive when the row matches.
+ */
+public class MatchAgainstFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    private static final String MYSQL_PATTERN = "match (?1, ?2, ?3) against (concat('\"', ?4, '\"') in boolean mode)";
+    private static final String FALLBACK_PATTERN = "case when lower(concat(coalesce(?1, ''), ' ', coalesce(?2, ''), ' ', coalesce(?3, ''))) "
+            + "like lower(concat('%', ?4, '%')) then 1.0 else 0.0 end";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+        String pattern = functionContributions.getDialect() instanceof MySQLDialect ? MYSQL_PATTERN : FALLBACK_PATTERN;
+        functionContributions.getFunctionRegistry().registerPattern(MATCH_AGAINST, pattern, doubleType);
+    }
+}
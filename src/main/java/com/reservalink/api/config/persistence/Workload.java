@@ -0,0 +1,35 @@
+package com.reservalink.api.config.persistence;
+
+/**
+ * The kind of work the current thread is doing, which decides the connection pool it draws from.
+ * Anything outside {@link #runAsJob(Runnable)} is web traffic. The value is inherited by threads
+ * started from a job, such as the virtual threads that send one reminder or outbox batch.
+ */
+public enum Workload {
+    WEB,
+    JOBS;
+
+    private static final InheritableThreadLocal<Workload> CURRENT = new InheritableThreadLocal<>();
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload == null ? WEB : workload;
+    }
+
+    /**
+     * Runs a background job so that its queries use the jobs pool.
+     */
+    public static void runAsJob(Runnable task) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(JOBS);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.reservalink.api.config.security;
+
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class AuthCookies {
+
+    public static final String ACCESS_TOKEN_COOKIE = "jwt";
+    public static final String REFRESH_TOKEN_COOKIE = "refresh_token";
+
+    private final JWTUtils jwtUtils;
+
+    public AuthCookies(JWTUtils jwtUtils) {
+        this.jwtUtils = jwtUtils;
+    }
+
+    public String accessToken(String token) {
+        return cookie(ACCESS_TOKEN_COOKIE, token, jwtUtils.getAccessTokenTtl());
+    }
+
+    public String refreshToken(String token) {
+        return cookie(REFRESH_TOKEN_COOKIE, token, jwtUtils.getRefreshTokenTtl());
+    }
+
+    public String clearAccessToken() {
+        return cookie(ACCESS_TOKEN_COOKIE, "", Duration.ZERO);
+    }
+
+    public String clearRefreshToken() {
+        return cookie(REFRESH_TOKEN_COOKIE, "", Duration.ZERO);
+    }
+
+    private static String cookie(String name, String value, Duration maxAge) {
+        return ResponseCookie.from(name, value)
+                .httpOnly(true)
+                .secure(true)
+                .path("/")
+                .maxAge(maxAge)
+                .sameSite("Strict")
+                .build()
+                .toString();
+    }
+}
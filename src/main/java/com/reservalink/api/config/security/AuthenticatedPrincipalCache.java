@@ -0,0 +1,96 @@
+package com.reservalink.api.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservalink.api.application.service.user.SubscriptionStateChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Principals of already verified tokens, keyed by a SHA-256 hash of the token so raw tokens are not
+ * kept in memory. A hit skips both the JWT parse and the user lookup. Entries live for the configured
+ * TTL or until the token expires, whichever comes first, and are dropped as soon as the user's
+ * subscription state changes. A hit is also checked against the SubscriptionChangeRegistry, since a
+ * request that verified its token just before the change can still put the principal afterwards.
+ */
+@Slf4j
+@Component
+public class AuthenticatedPrincipalCache {
+
+    private final Cache<String, CachedPrincipal> principals;
+    private final SubscriptionChangeRegistry subscriptionChangeRegistry;
+    private final Clock clock;
+
+    public AuthenticatedPrincipalCache(MeterRegistry meterRegistry,
+                                       SubscriptionChangeRegistry subscriptionChangeRegistry,
+                                       @Value("${security.principal-cache.ttl:PT5M}") Duration ttl,
+                                       @Value("${security.principal-cache.max-size:10000}") long maxSize) {
+        this(Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build(), subscriptionChangeRegistry, Clock.systemUTC());
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "auth.principals");
+    }
+
+    AuthenticatedPrincipalCache(Cache<String, CachedPrincipal> principals, SubscriptionChangeRegistry subscriptionChangeRegistry,
+                                Clock clock) {
+        this.principals = principals;
+        this.subscriptionChangeRegistry = subscriptionChangeRegistry;
+        this.clock = clock;
+    }
+
+    public UserDetails get(String token) {
+        String key = hash(token);
+        CachedPrincipal cached = principals.getIfPresent(key);
+        if (cached == null) {
+            return null;
+        }
+        if (!cached.tokenExpiresAt().isAfter(clock.instant())
+                || subscriptionChangeRegistry.isStale(cached.userDetails().getUsername(), cached.tokenIssuedAt())) {
+            principals.invalidate(key);
+            return null;
+        }
+        return cached.userDetails();
+    }
+
+    public void put(String token, UserDetails userDetails, Instant tokenIssuedAt, Instant tokenExpiresAt) {
+        principals.put(hash(token), new CachedPrincipal(userDetails, tokenIssuedAt, tokenExpiresAt));
+    }
+
+    public void invalidate(Set<String> usernames) {
+        principals.asMap().values().removeIf(cached -> usernames.contains(cached.userDetails().getUsername()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionStateChanged(SubscriptionStateChangedEvent event) {
+        invalidate(Set.copyOf(event.userEmails()));
+        log.debug("Dropped cached principals for {} users after a subscription change", event.userEmails().size());
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    record CachedPrincipal(UserDetails userDetails, Instant tokenIssuedAt, Instant tokenExpiresAt) {
+    }
+}
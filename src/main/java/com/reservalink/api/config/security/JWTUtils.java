@@ -2,60 +2,140 @@ package com.reservalink.api.config.security;
 
 import com.reservalink.api.adapter.output.repository.entity.UserEntity;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
 import java.util.Date;
-import java.util.Optional;
+import java.util.List;
 
+/**
+ * Access tokens are short lived and carry everything the filter needs to authenticate without a
+ * database round trip: user id, email and subscription state. Refresh tokens identify the user and
+ * the token version it had when they were issued, and are exchanged for a new access token after
+ * reloading the subscription state.
+ */
 @Component
 public class JWTUtils {
 
-    @Value("${jwt.secret.key}")
-    private String secretKey;
+    static final String USER_ID_CLAIM = "uid";
+    static final String SUBSCRIPTION_ACTIVE_CLAIM = "subscription_active";
+    static final String TOKEN_VERSION_CLAIM = "ver";
+    private static final String TOKEN_TYPE_CLAIM = "token_type";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
 
-    private SecretKey getSecretKey() {
-        return new javax.crypto.spec.SecretKeySpec(secretKey.getBytes(), SignatureAlgorithm.HS256.getJcaName());
+    private final SecretKey secretKey;
+    private final JwtParser accessTokenParser;
+    private final JwtParser refreshTokenParser;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+
+    public JWTUtils(@Value("${jwt.secret.key}") String secretKey,
+                    @Value("${jwt.access-token.ttl:PT15M}") Duration accessTokenTtl,
+                    @Value("${jwt.refresh-token.ttl:P7D}") Duration refreshTokenTtl) {
+        this.secretKey = new SecretKeySpec(secretKey.getBytes(), SignatureAlgorithm.HS256.getJcaName());
+        this.accessTokenParser = Jwts.parser()
+                .verifyWith(this.secretKey)
+                .require(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
+                .build();
+        this.refreshTokenParser = Jwts.parser()
+                .verifyWith(this.secretKey)
+                .require(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .build();
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
     }
 
     public String generateToken(UserEntity userDetails) {
-        long expirationTime = 1000L * 60 * 60 * 24 * 7;
+        boolean subscriptionActive = userDetails.getSubscriptionEntity() != null
+                && !userDetails.getSubscriptionEntity().isExpired();
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .claims()
                 .subject(userDetails.getEmail())
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expirationTime))
+                .add(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
+                .add(USER_ID_CLAIM, userDetails.getId())
+                .add(SUBSCRIPTION_ACTIVE_CLAIM, subscriptionActive)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + accessTokenTtl.toMillis()))
                 .and()
-                .signWith(getSecretKey())
+                .signWith(secretKey)
                 .compact();
+    }
 
+    public String generateRefreshToken(UserEntity userDetails) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .claims()
+                .subject(userDetails.getEmail())
+                .add(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .add(USER_ID_CLAIM, userDetails.getId())
+                .add(TOKEN_VERSION_CLAIM, userDetails.getTokenVersion() == null ? 0 : userDetails.getTokenVersion())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + refreshTokenTtl.toMillis()))
+                .and()
+                .signWith(secretKey)
+                .compact();
     }
 
-    private Claims extractAllClaims(String token){
-        return Jwts
-                .parser()
-                .verifyWith(getSecretKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Verifies signature, type and expiration of an access token in a single parse. Throws a JwtException when it is not valid.
+     */
+    public Claims parseVerifiedClaims(String token) {
+        return accessTokenParser.parseSignedClaims(token).getPayload();
     }
 
+    /**
+     * Verifies a refresh token and returns the user it was issued to with the token version it carries.
+     * Tokens issued before versions existed count as version 0. Throws a JwtException when it is not valid.
+     */
+    public RefreshToken parseRefreshToken(String refreshToken) {
+        Claims claims = refreshTokenParser.parseSignedClaims(refreshToken).getPayload();
+        Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+        return new RefreshToken(claims.get(USER_ID_CLAIM, String.class), tokenVersion == null ? 0 : tokenVersion);
+    }
+
+    /**
+     * Identifies the owner of an access token even after it expired; the signature is still verified.
+     * Only meant for pages that must know who the user is without granting access, like the expired subscription page.
+     */
     public String getEmailFromToken(String token) {
-        return Optional.ofNullable(extractAllClaims(token))
-                .map(Claims::getSubject)
-                .orElse(null);
+        try {
+            return parseVerifiedClaims(token).getSubject();
+        } catch (ExpiredJwtException e) {
+            return e.getClaims().getSubject();
+        }
+    }
+
+    public UserDetails toPrincipal(Claims claims) {
+        boolean subscriptionActive = Boolean.TRUE.equals(claims.get(SUBSCRIPTION_ACTIVE_CLAIM, Boolean.class));
+        List<GrantedAuthority> authorities = List.of(
+                new SimpleGrantedAuthority(Authority.ROLE_USER.name()),
+                new SimpleGrantedAuthority(subscriptionActive
+                        ? Authority.SUBSCRIPTION_ACTIVE.name()
+                        : Authority.SUBSCRIPTION_EXPIRED.name()));
+        return new User(claims.getSubject(), "", authorities);
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        return Optional.ofNullable(extractAllClaims(token))
-                .filter(claims -> claims.getSubject().equals(userDetails.getUsername()))
-                .filter(claims -> !claims.getExpiration().before(new Date()))
-                .isPresent();
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
     }
 
+    public Duration getRefreshTokenTtl() {
+        return refreshTokenTtl;
+    }
 
+    public record RefreshToken(String userId, int tokenVersion) {
+    }
 }
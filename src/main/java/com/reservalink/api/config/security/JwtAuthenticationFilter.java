@@ -1,53 +1,74 @@
 package com.reservalink.api.config.security;
 
 
+import com.reservalink.api.adapter.input.controller.response.UserAuthResponse;
+import com.reservalink.api.application.service.user.UserService;
 import com.reservalink.api.utils.AuthUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Authenticates from the access token claims alone. When the access token is missing, expired or
+ * predates a subscription change, a valid refresh cookie is exchanged for a new access token on the
+ * same request, which is the only path that reads the database. A refresh cookie that is expired,
+ * invalid or belongs to a disabled user is cleared, so it is not tried again on every request.
+ */
 @Component
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JWTUtils jwtUtils;
-    private final UserDetailsService userDetailsService;
+    private final UserService userService;
+    private final AuthenticatedPrincipalCache authenticatedPrincipalCache;
+    private final SubscriptionChangeRegistry subscriptionChangeRegistry;
+    private final AuthCookies authCookies;
 
-    public JwtAuthenticationFilter(JWTUtils jwtUtils, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JWTUtils jwtUtils, UserService userService,
+                                   AuthenticatedPrincipalCache authenticatedPrincipalCache,
+                                   SubscriptionChangeRegistry subscriptionChangeRegistry,
+                                   AuthCookies authCookies) {
         this.jwtUtils = jwtUtils;
-        this.userDetailsService = userDetailsService;
+        this.userService = userService;
+        this.authenticatedPrincipalCache = authenticatedPrincipalCache;
+        this.subscriptionChangeRegistry = subscriptionChangeRegistry;
+        this.authCookies = authCookies;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        String token = AuthUtils.getTokenFromCookies(request);
-        if (token != null) {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                String email = jwtUtils.getEmailFromToken(token);
-                if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                String token = AuthUtils.getTokenFromCookies(request);
+                UserDetails userDetails = token != null ? authenticate(token) : null;
+                if (userDetails == null) {
+                    userDetails = refresh(request, response);
+                }
 
-                    if (jwtUtils.isTokenValid(token, userDetails)) {
-                        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities());
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                            userDetails, null, userDetails.getAuthorities());
 
-                        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                        SecurityContextHolder.getContext().setAuthentication(authToken);
-                    }
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
                 }
             } catch (Exception e) {
                 log.error("User Unauthorized", e);
@@ -56,6 +77,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails authenticate(String token) {
+        UserDetails userDetails = authenticatedPrincipalCache.get(token);
+        if (userDetails != null) {
+            return userDetails;
+        }
+        Claims claims;
+        try {
+            claims = jwtUtils.parseVerifiedClaims(token);
+        } catch (ExpiredJwtException e) {
+            return null;
+        }
+        if (subscriptionChangeRegistry.isStale(claims.getSubject(), claims.getIssuedAt().toInstant())) {
+            return null;
+        }
+        userDetails = jwtUtils.toPrincipal(claims);
+        authenticatedPrincipalCache.put(token, userDetails, claims.getIssuedAt().toInstant(), claims.getExpiration().toInstant());
+        return userDetails;
+    }
+
+    private UserDetails refresh(HttpServletRequest request, HttpServletResponse response) {
+        String refreshToken = AuthUtils.getRefreshTokenFromCookies(request);
+        if (refreshToken == null || request.getRequestURI().startsWith("/auth/")) {
+            return null;
+        }
+        UserAuthResponse refreshed;
+        try {
+            refreshed = userService.refresh(refreshToken);
+        } catch (JwtException | IllegalArgumentException | AuthenticationException e) {
+            log.debug("Refresh token rejected: {}", e.getMessage());
+            response.addHeader(HttpHeaders.SET_COOKIE, authCookies.clearRefreshToken());
+            return null;
+        }
+        response.addHeader(HttpHeaders.SET_COOKIE, authCookies.accessToken(refreshed.getToken()));
+        return jwtUtils.toPrincipal(jwtUtils.parseVerifiedClaims(refreshed.getToken()));
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         return request.getRequestURI().startsWith("/subscription/expired");
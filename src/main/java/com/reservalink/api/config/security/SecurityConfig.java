@@ -38,7 +38,8 @@ public class SecurityConfig {
             "/commons/config.js",
             "/public/**",
             "/test/**",
-            "/user/*/category/in-use"
+            "/user/*/category/in-use",
+            "/users/*/storefront"
 
     );
 
@@ -0,0 +1,45 @@
+package com.reservalink.api.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservalink.api.application.service.user.SubscriptionStateChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Remembers when a user's subscription state last changed, for as long as an access token lives.
+ * Access tokens issued before that moment carry a stale subscription claim and must be refreshed.
+ */
+@Component
+public class SubscriptionChangeRegistry {
+
+    private final Cache<String, Instant> changes;
+    private final Clock clock;
+
+    public SubscriptionChangeRegistry(JWTUtils jwtUtils) {
+        this(Caffeine.newBuilder()
+                .expireAfterWrite(jwtUtils.getAccessTokenTtl())
+                .build(), Clock.systemUTC());
+    }
+
+    SubscriptionChangeRegistry(Cache<String, Instant> changes, Clock clock) {
+        this.changes = changes;
+        this.clock = clock;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionStateChanged(SubscriptionStateChangedEvent event) {
+        // JWT timestamps have second precision; truncating keeps tokens issued right after the change fresh
+        Instant changedAt = clock.instant().truncatedTo(ChronoUnit.SECONDS);
+        event.userEmails().forEach(email -> changes.put(email, changedAt));
+    }
+
+    public boolean isStale(String email, Instant issuedAt) {
+        Instant changedAt = changes.getIfPresent(email);
+        return changedAt != null && issuedAt.isBefore(changedAt);
+    }
+}
@@ -0,0 +1,25 @@
+package com.reservalink.api.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BookingGridRow {
+    private String id;
+    private String email;
+    private String name;
+    private String phoneNumber;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+    private BookingStatus status;
+    private Double price;
+    private Integer advancePaymentPercentage;
+    private String offeringName;
+    private Integer quantity;
+    private String resourceName;
+    private String resourceLastName;
+    private Integer bookingNumber;
+}
@@ -0,0 +1,26 @@
+package com.reservalink.api.domain;
+
+import com.reservalink.api.application.service.notification.NotificationChannel;
+import com.reservalink.api.application.service.notification.NotificationMotive;
+import com.reservalink.api.application.service.notification.NotificationTarget;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+public class NotificationOutboxMessage {
+    private String id;
+    private String aggregateId;
+    private NotificationChannel channel;
+    private NotificationMotive motive;
+    private NotificationTarget target;
+    private Map<String, String> args;
+    private NotificationOutboxStatus status;
+    private Integer attempts;
+    private LocalDateTime nextAttemptAt;
+}
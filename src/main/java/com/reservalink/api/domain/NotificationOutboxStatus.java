@@ -0,0 +1,7 @@
+package com.reservalink.api.domain;
+
+public enum NotificationOutboxStatus {
+    PENDING,
+    SENT,
+    DEAD
+}
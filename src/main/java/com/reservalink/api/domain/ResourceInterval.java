@@ -0,0 +1,15 @@
+package com.reservalink.api.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ResourceInterval {
+    private String id;
+    private String offeringId;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+}
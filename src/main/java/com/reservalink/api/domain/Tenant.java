@@ -0,0 +1,12 @@
+package com.reservalink.api.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class Tenant {
+    private String userId;
+    private String email;
+    private boolean subscriptionExpired;
+}
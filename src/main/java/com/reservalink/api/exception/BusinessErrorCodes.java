@@ -12,5 +12,7 @@ public enum BusinessErrorCodes {
     FEATURE_NOT_ENABLED,
     INVALID_PHONE_NUMBER,
     DELETE_OFFERING_CATEGORY_DEFAULT,
-    OFFERING_CATEGORY_ALREADY_EXISTS
+    OFFERING_CATEGORY_ALREADY_EXISTS,
+    INVALID_SEARCH_FILTER,
+    OCCURRENCE_CANCELLED
 }
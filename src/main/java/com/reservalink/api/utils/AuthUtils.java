@@ -8,14 +8,23 @@ import java.util.Arrays;
 public class AuthUtils {
 
     public static String getTokenFromCookies(HttpServletRequest request) {
+        return getCookieValue(request, "jwt");
+    }
+
+    public static String getRefreshTokenFromCookies(HttpServletRequest request) {
+        return getCookieValue(request, "refresh_token");
+    }
+
+    private static String getCookieValue(HttpServletRequest request, String name) {
         Cookie[] cookies = request.getCookies();
         if (cookies == null) {
             return null;
         }
 
         return Arrays.stream(cookies)
-                .filter(c -> "jwt".equals(c.getName()))
+                .filter(c -> name.equals(c.getName()))
                 .map(Cookie::getValue)
+                .filter(value -> !value.isEmpty())
                 .findFirst()
                 .orElse(null);
     }
@@ -0,0 +1,32 @@
+package com.reservalink.api.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+public final class CacheEviction {
+
+    private CacheEviction() {
+    }
+
+    /**
+     * Evicts the key now and, when called inside a transaction, again after completion, so a load
+     * running concurrently with the write cannot keep uncommitted or pre-commit data. Null keys are
+     * ignored.
+     */
+    public static <K> void evictNowAndAfterCompletion(K key, Consumer<K> evict) {
+        if (key == null) {
+            return;
+        }
+        evict.accept(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict.accept(key);
+                }
+            });
+        }
+    }
+}
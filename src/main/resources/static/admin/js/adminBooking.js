@@ -615,6 +615,12 @@ class UserOfferingsManager {
             quantity: formData.get('quantity') ? formData.get('quantity') : 1
         };
 
+        const selectedSlot = this.availableSlots.find(s => s.id === bookingData.slotTimeId);
+        if (selectedSlot && selectedSlot.recurrenceId) {
+            bookingData.recurrenceId = selectedSlot.recurrenceId;
+            bookingData.startDateTime = selectedSlot.startDateTime;
+        }
+
         if (!bookingData.slotTimeId || !bookingData.email || !bookingData.phoneNumber || !bookingData.name) {
             Swal.fire({
                 icon: 'warning',
@@ -642,6 +648,9 @@ class UserOfferingsManager {
                 if (errorBody?.errorCode === "NO_CAPACITY_AVAILABLE") {
                     throw new Error('El horario que intentaste reservar acaba de agotarse. Por favor, selecciona otro.');
                 }
+                if (errorBody?.errorCode === "OCCURRENCE_CANCELLED") {
+                    throw new Error('El horario que intentaste reservar fue cancelado. Por favor, selecciona otro.');
+                }
                 throw new Error(errorBody.message || 'Error desconocido al crear la reserva.');
             }
 
@@ -7,6 +7,7 @@ class BookingDashboardManager {
     clientNameFilter = '';
     startDateFilter = ''; // YYYY-MM-DD
     monthFilter = 'ALL';
+    yearFilter = 'ALL';
     offeringIdFilter = 'ALL';
     bookingTypeFilter = 'INCOMING';
     isLoading = false;
@@ -31,6 +32,7 @@ class BookingDashboardManager {
     clientNameInput;
     startDateInput;
     monthSelect;
+    yearSelect;
     offeringSelect;
     bookingTypeSelect;
     prevPageBtn;
@@ -149,13 +151,17 @@ class BookingDashboardManager {
         }
 
         if (this.clientNameFilter) {
-            params.append('clientName', this.clientNameFilter);
+            params.append('search', this.clientNameFilter);
         }
 
         if (this.monthFilter && this.monthFilter !== 'ALL') {
             params.append('month', this.monthFilter);
         }
 
+        if (this.yearFilter && this.yearFilter !== 'ALL') {
+            params.append('year', this.yearFilter);
+        }
+
         if (this.offeringIdFilter && this.offeringIdFilter !== 'ALL') {
             params.append('offeringId', this.offeringIdFilter);
         }
@@ -274,6 +280,18 @@ class BookingDashboardManager {
         ).join('');
     }
 
+    /** Generates the Year options for the filter, from next year back to five years ago. */
+    generateYearOptions() {
+        const yearOptions = [{ value: 'ALL', text: 'Todos los Años' }];
+        const currentYear = new Date().getFullYear();
+        for (let year = currentYear + 1; year >= currentYear - 5; year--) {
+            yearOptions.push({ value: String(year), text: String(year) });
+        }
+        this.yearSelect.innerHTML = yearOptions.map(opt =>
+            `<option value="${opt.value}" ${opt.value === this.yearFilter ? 'selected' : ''}>${opt.text}</option>`
+        ).join('');
+    }
+
     /** Generates the Offering options for the filter. */
     generateOfferingOptions(offeringsList) {
         const options = [{ value: 'ALL', text: 'Todos los Servicios' }];
@@ -483,6 +501,7 @@ class BookingDashboardManager {
         this.clientNameFilter = this.clientNameInput.value.trim();
         this.startDateFilter = this.startDateInput.value;
         this.monthFilter = this.monthSelect.value;
+        this.yearFilter = this.yearSelect.value;
         this.offeringIdFilter = this.offeringSelect.value;
         this.bookingTypeFilter = this.bookingTypeSelect.value;
         this.resourceIdFilter = this.resourceSelect.value;
@@ -516,6 +535,7 @@ class BookingDashboardManager {
         this.clientNameInput = document.getElementById('clientNameInput');
         this.startDateInput = document.getElementById('startDateInput');
         this.monthSelect = document.getElementById('monthFilter');
+        this.yearSelect = document.getElementById('yearFilter');
         this.offeringSelect = document.getElementById('offeringFilter');
         this.bookingTypeSelect = document.getElementById('bookingTypeFilter');
         this.prevPageBtn = document.getElementById('prevPageBtn');
@@ -537,6 +557,7 @@ class BookingDashboardManager {
         this.nextPageBtn.addEventListener('click', () => this.handlePageChange(1));
         this.cancelBookingBtn.addEventListener('click', this.handleCancelBooking);
         this.monthSelect.addEventListener('change', this.applyFilters);
+        this.yearSelect.addEventListener('change', this.applyFilters);
         this.offeringSelect.addEventListener('change', this.applyFilters);
         this.bookingTypeSelect.addEventListener('change', this.applyFilters);
         this.startDateInput.addEventListener('change', this.applyFilters);
@@ -561,6 +582,7 @@ class BookingDashboardManager {
         this.offerings = await this.fetchOfferings();
         this.generateOfferingOptions(this.offerings);
         this.generateMonthOptions();
+        this.generateYearOptions();
         const resources = await this.fetchResources();
         this.generateResourceOptions(resources);
 
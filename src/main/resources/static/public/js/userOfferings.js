@@ -11,6 +11,7 @@ class UserOfferingsManager {
         this.selectedDateKey = null;
         this.categories = [];
         this.allOfferings = [];
+        this.resourcesByOffering = {};
         this.selectedCategoryId = null;
 
         // DOM Elements
@@ -78,7 +79,7 @@ class UserOfferingsManager {
         try {
             this.showLoading();
 
-            const response = await fetch(`${this.baseUrl}/users/${this.userId}/offerings`, {
+            const response = await fetch(`${this.baseUrl}/users/${this.userId}/storefront`, {
                 method: 'GET',
                 headers: { 'Content-Type': 'application/json' }
             });
@@ -87,9 +88,11 @@ class UserOfferingsManager {
                 throw new Error(`Error ${response.status}: ${response.statusText}`);
             }
 
-            const offerings = await response.json();
+            const storefront = await response.json();
+            const offerings = storefront.offerings;
             this.allOfferings = offerings;
-            this.categories = await this.loadCategoriesInUse();
+            this.categories = storefront.categories || [];
+            this.resourcesByOffering = storefront.resourcesByOffering || {};
 
             if (this.categories.length > 0) {
                 this.renderCategorySelector(this.categories);
@@ -106,20 +109,6 @@ class UserOfferingsManager {
         }
     }
 
-    async loadCategoriesInUse() {
-        try {
-            const response = await fetch(`${this.baseUrl}/user/${this.userId}/category/in-use`, {
-                method: 'GET',
-                headers: { 'Content-Type': 'application/json' }
-            });
-            if (!response.ok) return [];
-            return await response.json();
-        } catch (error) {
-            console.error('Error loading categories:', error);
-            return [];
-        }
-    }
-
     renderCategorySelector(categories) {
         const container = document.getElementById('categorySelectorContainer');
         const buttonsContainer = document.getElementById('categoryButtonsContainer');
@@ -655,6 +644,12 @@ class UserOfferingsManager {
             quantity: formData.get('quantity') ? formData.get('quantity') : 1
         };
 
+        const selectedSlot = this.availableSlots.find(s => s.id === bookingData.slotTimeId);
+        if (selectedSlot && selectedSlot.recurrenceId) {
+            bookingData.recurrenceId = selectedSlot.recurrenceId;
+            bookingData.startDateTime = selectedSlot.startDateTime;
+        }
+
         if (!bookingData.slotTimeId || !bookingData.email || !bookingData.phoneNumber || !bookingData.name) {
             Swal.fire({
                 icon: 'warning',
@@ -703,6 +698,9 @@ class UserOfferingsManager {
                 if (errorBody?.errorCode === "NO_CAPACITY_AVAILABLE") {
                     throw new Error('El horario que intentaste reservar acaba de agotarse. Por favor, selecciona otro.');
                 }
+                if (errorBody?.errorCode === "OCCURRENCE_CANCELLED") {
+                    throw new Error('El horario que intentaste reservar fue cancelado. Por favor, selecciona otro.');
+                }
 
                 if (errorBody?.errorCode === "INVALID_PHONE_NUMBER") {
                     throw new Error('El número de teléfono ingresado es inválido. Por favor, intente nuevamente.');
@@ -831,25 +829,11 @@ class UserOfferingsManager {
     }
 
     async loadResources() {
-        try {
-            const response = await fetch(`${this.baseUrl}/resource/user/${this.userId}/offering/${this.selectedOffering.id}`, {
-                method: 'GET',
-                headers: { 'Content-Type': 'application/json' }
-            });
-
-            if (!response.ok) throw new Error('Failed to load resources');
-
-            this.resources = await response.json();
+        this.resources = this.resourcesByOffering[this.selectedOffering.id] || [];
 
-            if (this.resources.length > 0) {
-                this.selectedResource = this.resources.find(r => r.isDefault) || this.resources[0];
-            } else {
-                this.selectedResource = null;
-            }
-
-        } catch (error) {
-            console.error('Error loading resources:', error);
-            this.resources = [];
+        if (this.resources.length > 0) {
+            this.selectedResource = this.resources.find(r => r.isDefault) || this.resources[0];
+        } else {
             this.selectedResource = null;
         }
     }
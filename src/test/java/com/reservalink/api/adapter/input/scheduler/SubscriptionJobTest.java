@@ -0,0 +1,154 @@
+package com.reservalink.api.adapter.input.scheduler;
+
+import com.reservalink.api.adapter.output.repository.JobCheckpointRepository;
+import com.reservalink.api.adapter.output.repository.SubscriptionRepository;
+import com.reservalink.api.adapter.output.repository.SubscriptionRepositoryAdapter;
+import com.reservalink.api.adapter.output.repository.UserRepository;
+import com.reservalink.api.adapter.output.repository.entity.SubscriptionEntity;
+import com.reservalink.api.adapter.output.repository.entity.UserEntity;
+import com.reservalink.api.application.service.notification.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = "spring.profiles.active=test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JobCheckpointStore.class, SubscriptionRepositoryAdapter.class})
+class SubscriptionJobTest {
+
+    private static final int CHUNK_SIZE = 3;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private SubscriptionRepositoryAdapter subscriptionRepositoryAdapter;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobCheckpointStore jobCheckpointStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final List<UserEntity> createdUsers = new ArrayList<>();
+    private SubscriptionJob subscriptionJob;
+
+    @BeforeEach
+    void setUp() {
+        subscriptionJob = new SubscriptionJob(userRepository, notificationService, subscriptionRepositoryAdapter,
+                jobCheckpointStore, event -> { }, transactionManager, CHUNK_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobCheckpointRepository.deleteAll();
+        userRepository.deleteAll(createdUsers);
+    }
+
+    @Test
+    void shouldExpireDueSubscriptionsInBulkChunkByChunk() {
+        for (int i = 0; i < 7; i++) {
+            createUser(false, LocalDateTime.now().minusHours(1));
+        }
+        createUser(false, LocalDateTime.now().plusDays(10));
+        List<Integer> chunkSizes = new ArrayList<>();
+        doAnswer(invocation -> chunkSizes.add(invocation.<List<UserEntity>>getArgument(0).size()))
+                .when(notificationService).sendSubscriptionExpired(anyList());
+
+        subscriptionJob.checkForDueSubscriptions();
+
+        assertEquals(List.of(3, 3, 1), chunkSizes);
+        long expired = subscriptionRepository.findAllById(createdUsers.stream()
+                        .map(user -> user.getSubscriptionEntity().getId())
+                        .toList())
+                .stream()
+                .filter(SubscriptionEntity::isExpired)
+                .count();
+        assertEquals(7, expired);
+        Integer auditedExpirations = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM subscription_audit WHERE revtype = 1 AND expired = TRUE", Integer.class);
+        assertEquals(7, auditedExpirations);
+        Integer revisions = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT rev) FROM subscription_audit WHERE revtype = 1 AND expired = TRUE", Integer.class);
+        assertEquals(3, revisions);
+    }
+
+    @Test
+    void shouldResumeNotificationsAfterCheckpointAndSkipCompletedRuns() {
+        LocalDateTime inThreeDays = LocalDate.now().plusDays(3).atTime(12, 0);
+        for (int i = 0; i < 5; i++) {
+            createUser(false, inThreeDays);
+        }
+        List<UserEntity> ordered = createdUsers.stream().sorted(Comparator.comparing(UserEntity::getId)).toList();
+        String runKey = LocalDate.now().toString();
+        jobCheckpointStore.save("subscription-about-to-expire-3", runKey, ordered.get(1).getId());
+        List<String> notifiedIds = new ArrayList<>();
+        doAnswer(invocation -> {
+            Map<Integer, List<UserEntity>> byDays = invocation.getArgument(0);
+            byDays.get(3).forEach(user -> notifiedIds.add(user.getId()));
+            return null;
+        }).when(notificationService).sendAboutToExpire(any());
+
+        subscriptionJob.sendExpirationNotifications();
+
+        assertEquals(ordered.subList(2, 5).stream().map(UserEntity::getId).toList(), notifiedIds);
+
+        notifiedIds.clear();
+        subscriptionJob.sendExpirationNotifications();
+
+        assertTrue(notifiedIds.isEmpty());
+        verify(notificationService, never()).sendRecoverExpired(any());
+    }
+
+    private void createUser(boolean expired, LocalDateTime expiration) {
+        UserEntity userEntity = userRepository.save(UserEntity.builder()
+                .enabled(true)
+                .name("Subscriber")
+                .lastName("User")
+                .email("subscription-" + System.nanoTime() + "@test.com")
+                .subscriptionEntity(SubscriptionEntity.builder()
+                        .enabled(true)
+                        .expired(expired)
+                        .creationDateTime(LocalDateTime.now().minusMonths(1))
+                        .expiration(expiration)
+                        .checkoutLink("https://pay.test/checkout")
+                        .build())
+                .build());
+        createdUsers.add(userEntity);
+    }
+}
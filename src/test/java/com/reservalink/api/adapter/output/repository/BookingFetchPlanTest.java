@@ -0,0 +1,331 @@
+package com.reservalink.api.adapter.output.repository;
+
+import com.reservalink.api.adapter.input.controller.request.BookingRequest;
+import com.reservalink.api.adapter.input.controller.request.BookingSearchRequest;
+import com.reservalink.api.adapter.input.controller.response.BookingResponse;
+import com.reservalink.api.adapter.output.repository.entity.BookingEntity;
+import com.reservalink.api.adapter.output.repository.entity.BookingPaymentEntity;
+import com.reservalink.api.adapter.output.repository.entity.OfferingEntity;
+import com.reservalink.api.adapter.output.repository.entity.ResourceEntity;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import com.reservalink.api.adapter.output.repository.entity.UserEntity;
+import com.reservalink.api.adapter.output.repository.mapper.BookingRepositoryMapper;
+import com.reservalink.api.adapter.output.repository.mapper.OfferingRepositoryMapper;
+import com.reservalink.api.adapter.output.repository.mapper.SlotTimeRepositoryMapper;
+import com.reservalink.api.application.service.booking.BookingReminderService;
+import com.reservalink.api.application.service.booking.BookingServiceImpl;
+import com.reservalink.api.application.service.booking.ResourceAvailabilityIndex;
+import com.reservalink.api.application.service.booking.SlotTimeRecurrenceService;
+import com.reservalink.api.application.service.notification.NotificationService;
+import com.reservalink.api.application.service.payment.PaymentService;
+import com.reservalink.api.application.validator.PhoneNumberValidator;
+import com.reservalink.api.domain.Booking;
+import com.reservalink.api.domain.BookingStatus;
+import com.reservalink.api.domain.PaymentStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Counts the statements each booking use case issues. Every booking below belongs to a different
+ * professional, so a lazy association loaded one row at a time shows up as extra statements.
+ * The service level cases run BookingServiceImpl inside a transaction, as the BookingService
+ * proxy does (create opens its own), with the collaborators outside the booking tables mocked.
+ */
+@DataJpaTest(properties = {"spring.profiles.active=test", "spring.jpa.properties.hibernate.generate_statistics=true"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BookingRepositoryAdapter.class, BookingRepositoryMapper.class, SlotTimeRepositoryMapper.class, OfferingRepositoryMapper.class,
+        SqlCapture.Config.class, TestData.class})
+class BookingFetchPlanTest {
+
+    private static final int TENANTS = 3;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingRepositoryAdapter bookingRepositoryAdapter;
+
+    @Autowired
+    private SlotTimeRepository slotTimeRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    private final List<String> bookingIds = new ArrayList<>();
+    private final List<String> slotTimeIds = new ArrayList<>();
+    private final List<SlotTimeEntity> slots = new ArrayList<>();
+    private final List<String> userIds = new ArrayList<>();
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final PaymentService paymentService = mock(PaymentService.class);
+    private Statistics statistics;
+    private BookingServiceImpl bookingService;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < TENANTS; i++) {
+            createBooking(i);
+        }
+        PhoneNumberValidator phoneNumberValidator = mock(PhoneNumberValidator.class);
+        when(phoneNumberValidator.formatAndValidate(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        bookingService = new BookingServiceImpl(bookingRepository, slotTimeRepository, notificationService, paymentService,
+                paymentRepository, phoneNumberValidator, mock(BookingReminderService.class), bookingRepositoryAdapter,
+                mock(ResourceAvailabilityIndex.class), mock(SlotTimeRecurrenceService.class), transactionTemplate);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        sqlCapture.clear();
+    }
+
+    @Test
+    void shouldLoadOnlyTheBookingRowById() {
+        BookingEntity bookingEntity = bookingRepository.findById(bookingIds.get(0)).orElseThrow();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertFalse(Hibernate.isInitialized(bookingEntity.getSlotTimeEntity()));
+    }
+
+    @Test
+    void shouldLoadReminderBookingsInOneStatement() {
+        List<Booking> bookings = bookingRepositoryAdapter.findAllByIds(bookingIds);
+
+        assertEquals(TENANTS, bookings.size());
+        bookings.forEach(booking -> assertEquals("Servicio", booking.getSlotTime().getOffering().getName()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldLoadNotificationGraphInOneStatement() {
+        BookingEntity bookingEntity = bookingRepository.findWithSlotTimeById(bookingIds.get(1)).orElseThrow();
+
+        SlotTimeEntity slotTimeEntity = bookingEntity.getSlotTimeEntity();
+        assertEquals("Professional 1", slotTimeEntity.getOfferingEntity().getUserEntity().getName());
+        assertEquals("resource1@test.com", slotTimeEntity.getResourceEntity().getEmail());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldLoadBookingCreateGraphInOneStatement() {
+        SlotTimeEntity slotTimeEntity = slotTimeRepository.findWithOfferingAndResourceById(slotTimeIds.get(2)).orElseThrow();
+
+        assertEquals(50, slotTimeEntity.getOfferingEntity().getAdvancePaymentPercentage());
+        assertEquals("Professional 2", slotTimeEntity.getOfferingEntity().getUserEntity().getName());
+        assertEquals("resource2@test.com", slotTimeEntity.getResourceEntity().getEmail());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldCreateBookingReadingSlotGraphBookingNumberAndReminderBooking() {
+        SlotTimeEntity slotTimeEntity = createSlot(0, 1);
+        BookingRequest bookingRequest = BookingRequest.builder()
+                .slotTimeId(UUID.fromString(slotTimeEntity.getId()))
+                .name("New client")
+                .email("new-client@test.com")
+                .phoneNumber("+54911555000")
+                .quantity(1)
+                .build();
+        sqlCapture.clear();
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status -> create(bookingRequest));
+
+        // Slot with offering, professional and resource; last booking number of the client; the saved booking for its reminder
+        assertEquals(3, sqlCapture.selects(), sqlCapture.statements()::toString);
+        assertEquals(1, sqlCapture.startingWith("update slot_time"), sqlCapture.statements()::toString);
+        assertEquals(1, sqlCapture.startingWith("insert into booking ("), sqlCapture.statements()::toString);
+        assertEquals(0, statistics.getEntityFetchCount());
+    }
+
+    @Test
+    void shouldCreateCheckoutAfterThePendingBookingIsCommitted() throws Exception {
+        SlotTimeEntity slotTimeEntity = createSlot(1, 1);
+        when(paymentService.createBookingCheckoutURL(any(), any())).thenAnswer(invocation -> {
+            BookingEntity pending = invocation.getArgument(0);
+            assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+            assertEquals(BookingStatus.PENDING, bookingRepository.findById(pending.getId()).orElseThrow().getStatus());
+            return "https://checkout.test/" + pending.getId();
+        });
+
+        BookingResponse response = bookingService.create(paidBookingRequest(slotTimeEntity, "paying-checkout@test.com"), false);
+
+        assertTrue(response.getCheckoutURL().startsWith("https://checkout.test/"));
+        assertEquals(1, slotTimeRepository.findById(slotTimeEntity.getId()).orElseThrow().getCapacityAvailable());
+    }
+
+    @Test
+    void shouldCancelPendingBookingWhenCheckoutCreationFails() {
+        SlotTimeEntity slotTimeEntity = createSlot(2, 1);
+        when(paymentService.createBookingCheckoutURL(any(), any())).thenThrow(new RuntimeException("MercadoPago unavailable"));
+
+        String email = "paying-" + System.nanoTime() + "@test.com";
+
+        assertThrows(RuntimeException.class, () -> bookingService.create(paidBookingRequest(slotTimeEntity, email), false));
+
+        List<BookingEntity> bookings = bookingRepository.findAll().stream()
+                .filter(booking -> booking.getEmail().equals(email))
+                .toList();
+        assertEquals(1, bookings.size());
+        assertEquals(BookingStatus.CANCELLED, bookings.get(0).getStatus());
+    }
+
+    @Test
+    void shouldCancelBookingReadingOnlyTheNotificationGraph() {
+        transactionTemplate.executeWithoutResult(status -> bookingService.cancelBooking(UUID.fromString(bookingIds.get(0))));
+
+        assertEquals(1, sqlCapture.selects(), sqlCapture.statements()::toString);
+        assertEquals(1, sqlCapture.startingWith("update slot_time"), sqlCapture.statements()::toString);
+        assertEquals(1, sqlCapture.startingWith("update booking "), sqlCapture.statements()::toString);
+        assertEquals(0, statistics.getEntityFetchCount());
+
+        ArgumentCaptor<BookingEntity> notified = ArgumentCaptor.forClass(BookingEntity.class);
+        verify(notificationService).sendBookingCancelled(notified.capture());
+        assertNotificationGraphLoaded(notified.getValue(), BookingStatus.CANCELLED);
+        assertEquals(1, slotTimeRepository.findById(slotTimeIds.get(0)).orElseThrow().getCapacityAvailable());
+    }
+
+    @Test
+    void shouldConfirmPaidBookingReadingPaymentWithBookingGraph() {
+        SlotTimeEntity slotTimeEntity = createSlot(1, 1);
+        BookingEntity pending = bookingRepository.save(BookingEntity.builder()
+                .enabled(true)
+                .slotTimeEntity(slotTimeEntity)
+                .name("Paying client")
+                .email("paying@test.com")
+                .phoneNumber("+54911555099")
+                .quantity(1)
+                .bookingNumber(1)
+                .status(BookingStatus.PENDING)
+                .build());
+        String externalId = "payment-" + System.nanoTime();
+        paymentRepository.save(BookingPaymentEntity.builder()
+                .enabled(true)
+                .bookingEntity(pending)
+                .externalId(externalId)
+                .amount(BigDecimal.valueOf(500))
+                .paymentStatus(PaymentStatus.COMPLETED)
+                .build());
+        sqlCapture.clear();
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status -> bookingService.confirmBooking(externalId));
+
+        // Payment with booking, slot, offering, professional and resource; the confirmed booking for its reminder
+        assertEquals(2, sqlCapture.selects(), sqlCapture.statements()::toString);
+        assertEquals(1, sqlCapture.startingWith("update slot_time"), sqlCapture.statements()::toString);
+        assertEquals(0, statistics.getEntityFetchCount());
+
+        ArgumentCaptor<BookingEntity> notified = ArgumentCaptor.forClass(BookingEntity.class);
+        verify(notificationService).sendBookingConfirmed(notified.capture());
+        assertNotificationGraphLoaded(notified.getValue(), BookingStatus.CONFIRMED);
+    }
+
+    @Test
+    void shouldReadBookingGridPageAndSliceInOneStatementEach() {
+        BookingSearchRequest bookingSearchRequest = BookingSearchRequest.builder().pageNumber(0).pageSize(10).build();
+        UUID userId = UUID.fromString(userIds.get(2));
+
+        assertEquals(1, bookingService.findBookingGrid(userId, bookingSearchRequest).getContent().size());
+        assertEquals(1, sqlCapture.selects(), sqlCapture.statements()::toString);
+
+        sqlCapture.clear();
+        assertEquals(1, bookingService.findBookingGridSlice(userId, bookingSearchRequest).getContent().size());
+        assertEquals(1, sqlCapture.selects(), sqlCapture.statements()::toString);
+    }
+
+    private void create(BookingRequest bookingRequest) {
+        try {
+            bookingService.create(bookingRequest, true);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static BookingRequest paidBookingRequest(SlotTimeEntity slotTimeEntity, String email) {
+        return BookingRequest.builder()
+                .slotTimeId(UUID.fromString(slotTimeEntity.getId()))
+                .name("Paying client")
+                .email(email)
+                .phoneNumber("+54911555098")
+                .quantity(1)
+                .build();
+    }
+
+    private static void assertNotificationGraphLoaded(BookingEntity bookingEntity, BookingStatus status) {
+        assertEquals(status, bookingEntity.getStatus());
+        SlotTimeEntity slotTimeEntity = bookingEntity.getSlotTimeEntity();
+        assertTrue(Hibernate.isInitialized(slotTimeEntity));
+        assertTrue(Hibernate.isInitialized(slotTimeEntity.getOfferingEntity()));
+        assertTrue(Hibernate.isInitialized(slotTimeEntity.getOfferingEntity().getUserEntity()));
+        assertTrue(Hibernate.isInitialized(slotTimeEntity.getResourceEntity()));
+    }
+
+    private SlotTimeEntity createSlot(int tenant, int capacity) {
+        SlotTimeEntity existing = slots.get(tenant);
+        LocalDateTime start = existing.getStartDateTime().plusHours(2);
+        return testData.slot(existing.getOfferingEntity(), existing.getResourceEntity(), start, 1000.0, capacity, capacity);
+    }
+
+    private void createBooking(int index) {
+        UserEntity userEntity = testData.user("Professional " + index, "fetch-" + index);
+        userIds.add(userEntity.getId());
+        OfferingEntity offeringEntity = testData.offering(userEntity, "Servicio", 1, 50);
+        ResourceEntity resourceEntity = testData.resource(userEntity, "Ana", "resource" + index + "@test.com", true);
+        SlotTimeEntity slotTimeEntity = testData.slot(offeringEntity, resourceEntity, LocalDateTime.now().plusDays(2 + index).withNano(0),
+                1000.0, 0, 1);
+        slotTimeIds.add(slotTimeEntity.getId());
+        slots.add(slotTimeEntity);
+        BookingEntity bookingEntity = bookingRepository.save(BookingEntity.builder()
+                .enabled(true)
+                .slotTimeEntity(slotTimeEntity)
+                .name("Client " + index)
+                .email("client" + index + "@test.com")
+                .phoneNumber("+5491155500" + index)
+                .quantity(1)
+                .bookingNumber(1)
+                .status(BookingStatus.CONFIRMED)
+                .build());
+        bookingIds.add(bookingEntity.getId());
+    }
+}
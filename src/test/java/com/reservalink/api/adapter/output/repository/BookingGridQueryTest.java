@@ -0,0 +1,175 @@
+package com.reservalink.api.adapter.output.repository;
+
+import com.reservalink.api.adapter.output.repository.entity.BookingEntity;
+import com.reservalink.api.adapter.output.repository.entity.OfferingEntity;
+import com.reservalink.api.adapter.output.repository.entity.ResourceEntity;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import com.reservalink.api.adapter.output.repository.entity.UserEntity;
+import com.reservalink.api.domain.BookingGridRow;
+import com.reservalink.api.domain.BookingStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.profiles.active=test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(TestData.class)
+class BookingGridQueryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2031, 3, 30, 10, 0);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TestData testData;
+
+    private String userId;
+    private OfferingEntity offeringEntity;
+    private ResourceEntity resourceEntity;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity userEntity = testData.user("Grid", "grid");
+        userId = userEntity.getId();
+        offeringEntity = testData.offering(userEntity, "Corte", 2, 50);
+        resourceEntity = testData.resource(userEntity, "Ana", null, true);
+        // Five slots, two bookings each, spanning the end of March and the start of April.
+        for (int day = 0; day < 5; day++) {
+            SlotTimeEntity slot = slot(BASE.plusDays(day));
+            for (int i = 0; i < 2; i++) {
+                bookingRepository.save(BookingEntity.builder()
+                        .enabled(true)
+                        .slotTimeEntity(slot)
+                        .name("Client " + day + "-" + i)
+                        .email("client" + day + i + "@test.com")
+                        .phoneNumber("+54911555" + day + i)
+                        .quantity(1)
+                        .bookingNumber(100 + day * 2 + i)
+                        .status(BookingStatus.CONFIRMED)
+                        .build());
+            }
+        }
+    }
+
+    @Test
+    void shouldSeekThroughEveryRowInGridOrder() {
+        List<BookingGridRow> offsetOrder = bookingRepository.findBookingGrid(userId, null, null, null, null, null, null,
+                PageRequest.of(0, 100)).getContent();
+
+        List<BookingGridRow> seekOrder = new ArrayList<>();
+        BookingGridRow last = null;
+        do {
+            List<BookingGridRow> slice = bookingRepository.findBookingGridAfter(userId, null, null, null, null, null, null,
+                    last == null ? null : last.getStartDateTime(), last == null ? null : last.getId(), PageRequest.of(0, 3));
+            seekOrder.addAll(slice);
+            last = slice.size() < 3 ? null : slice.get(slice.size() - 1);
+        } while (last != null);
+
+        assertEquals(10, seekOrder.size());
+        assertEquals(offsetOrder.stream().map(BookingGridRow::getId).toList(), seekOrder.stream().map(BookingGridRow::getId).toList());
+        for (int i = 1; i < seekOrder.size(); i++) {
+            assertTrue(!seekOrder.get(i).getStartDateTime().isAfter(seekOrder.get(i - 1).getStartDateTime()));
+        }
+    }
+
+    @Test
+    void shouldFilterByHalfOpenStartRangeAndCount() {
+        LocalDateTime april = LocalDateTime.of(2031, 4, 1, 0, 0);
+
+        Page<BookingGridRow> page = bookingRepository.findBookingGrid(userId, null, april, april.plusMonths(1), null, null, null,
+                PageRequest.of(0, 2));
+
+        assertEquals(6, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+        BookingGridRow first = page.getContent().get(0);
+        assertEquals(BASE.plusDays(4), first.getStartDateTime());
+        assertEquals("Corte", first.getOfferingName());
+        assertEquals("Ana", first.getResourceName());
+        assertEquals(50, first.getAdvancePaymentPercentage());
+    }
+
+    @Test
+    void shouldSearchClientNameEmailAndPhone() {
+        assertEquals(List.of("Client 3-1"), searchNames("nt 3-1"));
+        assertEquals(List.of("Client 2-0"), searchNames("CLIENT20@"));
+        assertEquals(List.of("Client 4-1"), searchNames("54911555" + "41"));
+        assertEquals(List.of(), searchNames("101"));
+    }
+
+    @Test
+    void shouldMatchBookingNumberInItsOwnBranch() {
+        Page<BookingGridRow> page = bookingRepository.findBookingGridByNumber(userId, 101, "101", null, null, null, null, null,
+                PageRequest.of(0, 20));
+
+        assertEquals(List.of("Client 0-1"), page.getContent().stream().map(BookingGridRow::getName).toList());
+        assertEquals(1, page.getTotalElements());
+        assertEquals(List.of("Client 0-1"), bookingRepository.findBookingGridByNumberAfter(userId, 101, "101", null, null, null, null, null,
+                null, null, PageRequest.of(0, 20)).stream().map(BookingGridRow::getName).toList());
+    }
+
+    @Test
+    void shouldLeaveRowsTheTextAlreadyMatchesOutOfTheBookingNumberBranch() {
+        bookingRepository.save(BookingEntity.builder()
+                .enabled(true)
+                .slotTimeEntity(slot(BASE.plusDays(10)))
+                .name("Client both")
+                .email("both@test.com")
+                .phoneNumber("+549110077700")
+                .quantity(1)
+                .bookingNumber(777)
+                .status(BookingStatus.CONFIRMED)
+                .build());
+
+        assertEquals(List.of("Client both"), searchNames("777"));
+        assertEquals(0, bookingRepository.findBookingGridByNumber(userId, 777, "777", null, null, null, null, null,
+                PageRequest.of(0, 20)).getTotalElements());
+    }
+
+    @Test
+    void shouldMatchMonthOfAnyYearWhenNoYearIsGiven() {
+        SlotTimeEntity previousApril = slot(LocalDateTime.of(2030, 4, 15, 10, 0));
+        bookingRepository.save(BookingEntity.builder()
+                .enabled(true)
+                .slotTimeEntity(previousApril)
+                .name("Client previous year")
+                .email("previous@test.com")
+                .quantity(1)
+                .bookingNumber(200)
+                .status(BookingStatus.CONFIRMED)
+                .build());
+
+        Page<BookingGridRow> page = bookingRepository.findBookingGrid(userId, null, null, null, 4, null, null,
+                PageRequest.of(0, 20));
+
+        assertEquals(7, page.getTotalElements());
+        assertEquals(LocalDateTime.of(2030, 4, 15, 10, 0), page.getContent().get(6).getStartDateTime());
+    }
+
+    private SlotTimeEntity slot(LocalDateTime start) {
+        return testData.slot(offeringEntity, resourceEntity, start, 1000.0, 0, 2);
+    }
+
+    private List<String> searchNames(String search) {
+        return bookingRepository.findBookingGrid(userId, search, null, null, null, null, null, PageRequest.of(0, 20))
+                .getContent()
+                .stream()
+                .map(BookingGridRow::getName)
+                .toList();
+    }
+}
@@ -0,0 +1,168 @@
+package com.reservalink.api.adapter.output.repository;
+
+import com.reservalink.api.adapter.output.repository.entity.BookingEntity;
+import com.reservalink.api.adapter.output.repository.entity.BookingReminderJobEntity;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import com.reservalink.api.adapter.output.repository.mapper.BookingReminderJobMapper;
+import com.reservalink.api.application.service.notification.NotificationChannel;
+import com.reservalink.api.domain.BookingReminderJob;
+import com.reservalink.api.domain.BookingReminderJobStatus;
+import com.reservalink.api.domain.BookingStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.profiles.active=test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BookingReminderJobRepositoryAdapter.class, BookingReminderJobMapper.class, TestData.class})
+class BookingReminderJobClaimTest {
+
+    private static final int JOBS = 120;
+    private static final int WORKERS = 4;
+    private static final int BATCH_SIZE = 7;
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Autowired
+    private BookingReminderJobRepositoryAdapter adapter;
+
+    @Autowired
+    private BookingReminderJobJpaRepository bookingReminderJobJpaRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TestData testData;
+
+    private BookingEntity bookingEntity;
+
+    @BeforeEach
+    void setUp() {
+        SlotTimeEntity slotTimeEntity = testData.slot(testData.tenant("claim", 1), LocalDateTime.now().plusDays(1), 1);
+        bookingEntity = bookingRepository.save(BookingEntity.builder()
+                .enabled(true)
+                .slotTimeEntity(slotTimeEntity)
+                .email("client@test.com")
+                .quantity(1)
+                .status(BookingStatus.CONFIRMED)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingReminderJobJpaRepository.deleteAll();
+    }
+
+    @Test
+    void shouldClaimEveryJobExactlyOnceAcrossWorkers() throws Exception {
+        LocalDateTime trigger = LocalDateTime.now().minusMinutes(1);
+        List<BookingReminderJobEntity> jobs = new ArrayList<>();
+        for (int i = 0; i < JOBS; i++) {
+            jobs.add(job(trigger.minusSeconds(i)));
+        }
+        bookingReminderJobJpaRepository.saveAll(jobs);
+
+        Map<String, AtomicInteger> deliveries = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(WORKERS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+
+        for (int w = 0; w < WORKERS; w++) {
+            String owner = "worker-" + w;
+            results.add(executor.submit(() -> {
+                startSignal.await();
+                List<BookingReminderJob> claimed;
+                do {
+                    claimed = adapter.claimEligibleReminders(owner, LocalDateTime.now(), LEASE, BATCH_SIZE);
+                    List<String> ids = claimed.stream().map(BookingReminderJob::getId).toList();
+                    ids.forEach(id -> deliveries.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet());
+                    adapter.updateStatuses(owner, ids, BookingReminderJobStatus.SENT, LocalDateTime.now());
+                } while (!claimed.isEmpty());
+                return null;
+            }));
+        }
+
+        startSignal.countDown();
+        for (Future<?> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(JOBS, deliveries.size());
+        assertTrue(deliveries.values().stream().allMatch(count -> count.get() == 1));
+        assertTrue(bookingReminderJobJpaRepository.findAll().stream()
+                .allMatch(job -> job.getStatus() == BookingReminderJobStatus.SENT && job.getLeaseOwner() == null));
+    }
+
+    @Test
+    void shouldReclaimJobOnceLeaseExpires() {
+        bookingReminderJobJpaRepository.save(job(LocalDateTime.now().minusMinutes(1)));
+        LocalDateTime now = LocalDateTime.now();
+
+        assertEquals(1, adapter.claimEligibleReminders("crashed-node", now, LEASE, BATCH_SIZE).size());
+        assertTrue(adapter.claimEligibleReminders("other-node", now.plusMinutes(5), LEASE, BATCH_SIZE).isEmpty());
+        assertEquals(1, adapter.claimEligibleReminders("other-node", now.plus(LEASE).plusMinutes(1), LEASE, BATCH_SIZE).size());
+    }
+
+    @Test
+    void shouldIgnoreStatusWrittenByOwnerWhoseLeaseWasReclaimed() {
+        bookingReminderJobJpaRepository.save(job(LocalDateTime.now().minusMinutes(1)));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<String> stale = adapter.claimEligibleReminders("slow-node", now, LEASE, BATCH_SIZE).stream()
+                .map(BookingReminderJob::getId)
+                .toList();
+        List<String> reclaimed = adapter.claimEligibleReminders("other-node", now.plus(LEASE).plusMinutes(1), LEASE, BATCH_SIZE).stream()
+                .map(BookingReminderJob::getId)
+                .toList();
+
+        assertEquals(stale, reclaimed);
+        assertEquals(0, adapter.scheduleRetries("slow-node", stale, now.plusMinutes(15)));
+        assertEquals(0, adapter.updateStatuses("slow-node", stale, BookingReminderJobStatus.FAILED, now));
+
+        BookingReminderJobEntity leased = bookingReminderJobJpaRepository.findById(reclaimed.getFirst()).orElseThrow();
+        assertEquals(BookingReminderJobStatus.PENDING, leased.getStatus());
+        assertEquals(0, leased.getReAttempts());
+        assertEquals("other-node", leased.getLeaseOwner());
+
+        assertEquals(1, adapter.updateStatuses("other-node", reclaimed, BookingReminderJobStatus.SENT, now));
+        BookingReminderJobEntity sent = bookingReminderJobJpaRepository.findById(reclaimed.getFirst()).orElseThrow();
+        assertEquals(BookingReminderJobStatus.SENT, sent.getStatus());
+        assertNull(sent.getLeaseOwner());
+    }
+
+    private BookingReminderJobEntity job(LocalDateTime trigger) {
+        return BookingReminderJobEntity.builder()
+                .enabled(true)
+                .booking(bookingEntity)
+                .triggerDatetime(trigger)
+                .status(BookingReminderJobStatus.PENDING)
+                .notificationChannel(NotificationChannel.EMAIL)
+                .reAttempts(0)
+                .build();
+    }
+}
@@ -0,0 +1,261 @@
+package com.reservalink.api.adapter.output.repository;
+
+import com.reservalink.api.adapter.input.controller.request.BookingRequest;
+import com.reservalink.api.adapter.output.repository.entity.BookingEntity;
+import com.reservalink.api.adapter.output.repository.entity.BookingPaymentEntity;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import com.reservalink.api.adapter.output.repository.mapper.BookingRepositoryMapper;
+import com.reservalink.api.adapter.output.repository.mapper.OfferingRepositoryMapper;
+import com.reservalink.api.adapter.output.repository.mapper.SlotTimeRepositoryMapper;
+import com.reservalink.api.application.service.booking.BookingReminderService;
+import com.reservalink.api.application.service.booking.BookingServiceImpl;
+import com.reservalink.api.application.service.booking.ResourceAvailabilityIndex;
+import com.reservalink.api.application.service.booking.SlotTimeRecurrenceService;
+import com.reservalink.api.application.service.notification.NotificationService;
+import com.reservalink.api.application.service.payment.PaymentService;
+import com.reservalink.api.application.validator.PhoneNumberValidator;
+import com.reservalink.api.domain.BookingStatus;
+import com.reservalink.api.domain.PaymentStatus;
+import com.reservalink.api.exception.BusinessErrorCodes;
+import com.reservalink.api.exception.BusinessRuleException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Books and confirms the same slot from many threads through BookingServiceImpl, with each
+ * confirmation in its own transaction as the BookingService proxy runs it.
+ */
+@DataJpaTest(properties = "spring.profiles.active=test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BookingRepositoryAdapter.class, BookingRepositoryMapper.class, SlotTimeRepositoryMapper.class, OfferingRepositoryMapper.class,
+        TestData.class})
+class BookingServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int REQUESTS = 24;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingRepositoryAdapter bookingRepositoryAdapter;
+
+    @Autowired
+    private SlotTimeRepository slotTimeRepository;
+
+    @Autowired
+    private OfferingRepository offeringRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final PaymentService paymentService = mock(PaymentService.class);
+    private TransactionTemplate transactionTemplate;
+    private BookingServiceImpl bookingService;
+    private TestData.Tenant tenant;
+
+    @BeforeEach
+    void setUp() {
+        tenant = testData.tenant("booking-concurrency", REQUESTS);
+        PhoneNumberValidator phoneNumberValidator = mock(PhoneNumberValidator.class);
+        when(phoneNumberValidator.formatAndValidate(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        bookingService = new BookingServiceImpl(bookingRepository, slotTimeRepository, notificationService, paymentService,
+                paymentRepository, phoneNumberValidator, mock(BookingReminderService.class), bookingRepositoryAdapter,
+                mock(ResourceAvailabilityIndex.class), mock(SlotTimeRecurrenceService.class), transactionTemplate);
+    }
+
+    @Test
+    void shouldConfirmOnlyAsManyBookingsAsTheSlotHoldsUnderConcurrentCreates() throws Exception {
+        SlotTimeEntity slotTimeEntity = createSlot(5);
+
+        List<Throwable> failures = runConcurrently(REQUESTS, i -> bookingService.create(BookingRequest.builder()
+                .slotTimeId(UUID.fromString(slotTimeEntity.getId()))
+                .name("Client " + i)
+                .email("client" + i + "@test.com")
+                .phoneNumber("+5491155510" + i)
+                .quantity(1)
+                .build(), true));
+
+        assertEquals(REQUESTS - 5, failures.size());
+        failures.forEach(failure -> assertEquals(BusinessErrorCodes.NO_CAPACITY_AVAILABLE.name(),
+                assertInstanceOf(BusinessRuleException.class, failure).getMessage()));
+        assertEquals(0, slotTimeRepository.findById(slotTimeEntity.getId()).orElseThrow().getCapacityAvailable());
+        assertEquals(5, countBookings(slotTimeEntity, BookingStatus.CONFIRMED));
+    }
+
+    @Test
+    void shouldCancelAndNotifyPaidBookingsThatNoLongerFitUnderConcurrentConfirmations() throws Exception {
+        SlotTimeEntity slotTimeEntity = createSlot(2);
+        List<String> externalIds = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            externalIds.add(createPaidPendingBooking(slotTimeEntity, i));
+        }
+
+        List<Throwable> failures = runConcurrently(REQUESTS, i ->
+                transactionTemplate.executeWithoutResult(status -> bookingService.confirmBooking(externalIds.get(i))));
+
+        assertEquals(List.of(), failures);
+        assertEquals(0, slotTimeRepository.findById(slotTimeEntity.getId()).orElseThrow().getCapacityAvailable());
+        assertEquals(2, countBookings(slotTimeEntity, BookingStatus.CONFIRMED));
+        assertEquals(REQUESTS - 2, countBookings(slotTimeEntity, BookingStatus.CANCELLED));
+        verify(notificationService, times(2)).sendBookingConfirmed(any());
+        verify(notificationService, times(REQUESTS - 2)).sendBookingCancelled(any());
+        verify(paymentService, times(REQUESTS - 2)).refundBookingPayment(any());
+    }
+
+    @Test
+    void shouldRefundOnlyAfterTheCancellationCommits() {
+        SlotTimeEntity slotTimeEntity = createSlot(0);
+        String externalId = createPaidPendingBooking(slotTimeEntity, 0);
+        List<Long> cancelledSeenByRefund = new ArrayList<>();
+        doAnswer(invocation -> cancelledSeenByRefund.add(
+                CompletableFuture.supplyAsync(() -> countBookings(slotTimeEntity, BookingStatus.CANCELLED)).join()))
+                .when(paymentService).refundBookingPayment(any());
+
+        transactionTemplate.executeWithoutResult(status -> bookingService.confirmBooking(externalId));
+
+        assertEquals(List.of(1L), cancelledSeenByRefund);
+    }
+
+    @Test
+    void shouldRefundTheCancelledBookingAgainWhenTheWebhookIsRetriedAfterAFailedRefund() {
+        SlotTimeEntity slotTimeEntity = createSlot(0);
+        String externalId = createPaidPendingBooking(slotTimeEntity, 0);
+        doThrow(new RuntimeException("MercadoPago unavailable")).doNothing().when(paymentService).refundBookingPayment(any());
+
+        assertThrows(RuntimeException.class, () ->
+                transactionTemplate.executeWithoutResult(status -> bookingService.confirmBooking(externalId)));
+        assertEquals(1, countBookings(slotTimeEntity, BookingStatus.CANCELLED));
+
+        transactionTemplate.executeWithoutResult(status -> bookingService.confirmBooking(externalId));
+
+        verify(paymentService, times(2)).refundBookingPayment(any());
+        verify(notificationService, times(1)).sendBookingCancelled(any());
+    }
+
+    @Test
+    void shouldRejectAPaidBookingOnAFullSlotBeforeCheckout() {
+        tenant.offering().setAdvancePaymentPercentage(50);
+        offeringRepository.save(tenant.offering());
+        SlotTimeEntity slotTimeEntity = createSlot(0);
+        slotTimeEntity.setPrice(1000.0);
+        slotTimeRepository.save(slotTimeEntity);
+
+        BusinessRuleException exception = assertThrows(BusinessRuleException.class, () -> bookingService.create(BookingRequest.builder()
+                .slotTimeId(UUID.fromString(slotTimeEntity.getId()))
+                .name("Paying client")
+                .email("paying@test.com")
+                .phoneNumber("+5491155530")
+                .quantity(1)
+                .build(), false));
+
+        assertEquals(BusinessErrorCodes.NO_CAPACITY_AVAILABLE.name(), exception.getMessage());
+        assertEquals(0, countBookings(slotTimeEntity, BookingStatus.PENDING));
+        verify(paymentService, never()).createBookingCheckoutURL(any(), any());
+    }
+
+    private List<Throwable> runConcurrently(int requests, Request request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            results.add(executor.submit(() -> {
+                startSignal.await();
+                request.run(index);
+                return null;
+            }));
+        }
+        startSignal.countDown();
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<?> result : results) {
+            try {
+                result.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            }
+        }
+        executor.shutdown();
+        return failures;
+    }
+
+    private long countBookings(SlotTimeEntity slotTimeEntity, BookingStatus status) {
+        return transactionTemplate.execute(tx -> bookingRepository.findAll().stream()
+                .filter(booking -> booking.getSlotTimeEntity().getId().equals(slotTimeEntity.getId()))
+                .filter(booking -> booking.getStatus() == status)
+                .count());
+    }
+
+    private String createPaidPendingBooking(SlotTimeEntity slotTimeEntity, int index) {
+        BookingEntity pending = bookingRepository.save(BookingEntity.builder()
+                .enabled(true)
+                .slotTimeEntity(slotTimeEntity)
+                .name("Paying client " + index)
+                .email("paying" + index + "@test.com")
+                .phoneNumber("+5491155520" + index)
+                .quantity(1)
+                .bookingNumber(1)
+                .status(BookingStatus.PENDING)
+                .build());
+        String externalId = "payment-" + index + "-" + System.nanoTime();
+        paymentRepository.save(BookingPaymentEntity.builder()
+                .enabled(true)
+                .bookingEntity(pending)
+                .externalId(externalId)
+                .amount(BigDecimal.valueOf(500))
+                .paymentStatus(PaymentStatus.COMPLETED)
+                .build());
+        return externalId;
+    }
+
+    private SlotTimeEntity createSlot(int capacity) {
+        return testData.slot(tenant, LocalDateTime.now().plusDays(1).withNano(0), capacity);
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void run(int index) throws Exception;
+    }
+}
@@ -0,0 +1,112 @@
+package com.reservalink.api.adapter.output.repository;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests run on the schema Hibernate creates from the entity mappings, so QueryPlanRegressionTest
+ * explains queries against the @Index copies, not the Flyway migrations. This test keeps every mapped
+ * index in line with the index the migrations create in MySQL: same name, table and columns.
+ */
+class MigrationIndexMappingTest {
+
+    private static final String ENTITY_PACKAGE = "com.reservalink.api.adapter.output.repository.entity";
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "CREATE\\s+(?:UNIQUE\\s+)?INDEX\\s+`?(\\w+)`?\\s+ON\\s+`?(\\w+)`?\\s*\\(([^)]*)\\)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern DROP_INDEX = Pattern.compile(
+            "DROP\\s+INDEX\\s+`?(\\w+)`?", Pattern.CASE_INSENSITIVE);
+
+    @Test
+    void shouldCreateEveryMappedIndexInTheMigrations() throws Exception {
+        Map<String, IndexDefinition> migrationIndexes = migrationIndexes();
+        Map<String, IndexDefinition> mappedIndexes = mappedIndexes();
+
+        assertFalse(mappedIndexes.isEmpty(), "No @Index found in the entity mappings");
+        mappedIndexes.forEach((name, mapped) -> {
+            IndexDefinition created = migrationIndexes.get(name);
+            assertNotNull(created, () -> "No migration creates the mapped index " + name);
+            assertEquals(mapped, created, () -> "Mapped index " + name + " differs from its migration");
+        });
+    }
+
+    /**
+     * Indexes left by the migrations in version order, each by name.
+     */
+    private static Map<String, IndexDefinition> migrationIndexes() throws IOException {
+        Resource[] migrations = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*__*.SQL");
+        Arrays.sort(migrations, (a, b) -> Integer.compare(version(a), version(b)));
+
+        Map<String, IndexDefinition> indexes = new HashMap<>();
+        for (Resource migration : migrations) {
+            String sql = migration.getContentAsString(StandardCharsets.UTF_8);
+            Matcher dropped = DROP_INDEX.matcher(sql);
+            while (dropped.find()) {
+                indexes.remove(dropped.group(1).toLowerCase(Locale.ROOT));
+            }
+            Matcher created = CREATE_INDEX.matcher(sql);
+            while (created.find()) {
+                indexes.put(created.group(1).toLowerCase(Locale.ROOT), new IndexDefinition(created.group(2), columns(created.group(3))));
+            }
+        }
+        return indexes;
+    }
+
+    private static Map<String, IndexDefinition> mappedIndexes() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+
+        Map<String, IndexDefinition> indexes = new HashMap<>();
+        for (BeanDefinition definition : scanner.findCandidateComponents(ENTITY_PACKAGE)) {
+            Class<?> entity = ClassUtils.forName(definition.getBeanClassName(), MigrationIndexMappingTest.class.getClassLoader());
+            Table table = entity.getAnnotation(Table.class);
+            if (table == null) {
+                continue;
+            }
+            for (Index index : table.indexes()) {
+                indexes.put(index.name().toLowerCase(Locale.ROOT), new IndexDefinition(table.name(), columns(index.columnList())));
+            }
+        }
+        return indexes;
+    }
+
+    private static int version(Resource migration) {
+        String filename = migration.getFilename();
+        return Integer.parseInt(filename.substring(1, filename.indexOf("__")));
+    }
+
+    private static List<String> columns(String columnList) {
+        return Arrays.stream(columnList.split(","))
+                .map(column -> column.replace("`", "").trim().toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    private record IndexDefinition(String table, List<String> columns) {
+
+        IndexDefinition {
+            table = table.replace("`", "").toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.reservalink.api.adapter.output.repository;
+
+import com.reservalink.api.domain.FeatureName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Calls the hot repository queries, captures the SQL Hibernate generates for them and runs EXPLAIN
+ * over it, so a changed query or mapping fails here. Every case asserts the index it is expected
+ * to use, not only the absence of a table scan: H2 indexes foreign key columns on its own, and
+ * reuses the composite indexes from the entity mappings for them when they lead with the same column.
+ * The schema is created from the entity mappings, and MigrationIndexMappingTest keeps their indexes
+ * in line with the ones the Flyway migrations create.
+ */
+@DataJpaTest(properties = "spring.profiles.active=test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SqlCapture.Config.class)
+class QueryPlanRegressionTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private SlotTimeRepository slotTimeRepository;
+
+    @Autowired
+    private FeatureUsageJpaRepository featureUsageJpaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @Test
+    void shouldCountIncomingBookingsBySlotThroughSlotStatusIndex() {
+        assertUsesIndex("idx_booking_slot_time_status", () -> bookingRepository.getIncomingBookingsCountBySlotId("slot", NOW));
+    }
+
+    @Test
+    void shouldFindMaxBookingNumberThroughPhoneNumberIndex() {
+        assertUsesIndex("idx_booking_phone_number", () -> bookingRepository.findMaxBookingNumber("5491100000000", "user"));
+    }
+
+    @Test
+    void shouldFindOverlappingBookingsByResourceThroughResourceStartIndex() {
+        assertUsesIndex("idx_slot_time_resource_start",
+                () -> bookingRepository.existsOverlappingBookingForResource("resource", "offering", NOW, NOW.plusHours(1)));
+    }
+
+    @Test
+    void shouldCheckSlotOverlapThroughResourceStartIndex() {
+        assertUsesIndex("idx_slot_time_resource_start",
+                () -> slotTimeRepository.existsOverlappingSlot("offering", "resource", "slot", NOW, NOW.plusHours(1)));
+    }
+
+    @Test
+    void shouldFindAvailableSlotsExcludingBookedOnesThroughOfferingEndIndex() {
+        assertUsesIndex("idx_slot_time_offering_enabled_end",
+                () -> slotTimeRepository.findAvailableSlotTimesExcluding("offering", "resource", NOW, List.of("slot"), PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void shouldSeekAvailableSlotsAfterCursorThroughResourceStartIndex() {
+        // The cursor is a start time: seeking (resource_id, start_date_time) also yields the page order
+        assertUsesIndex("idx_slot_time_resource_start",
+                () -> slotTimeRepository.findAvailableSlotTimesStartingAfter("offering", "resource", NOW, NOW.plusDays(1), PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void shouldSeekBookingGridThroughSlotStatusIndex() {
+        assertUsesIndex("idx_booking_slot_time_status",
+                () -> bookingRepository.findBookingGridAfter("user", null, NOW, NOW.plusMonths(1), null, null, null,
+                        NOW.plusDays(1), "booking", PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void shouldSeekBookingNumberBranchThroughSlotStatusIndex() {
+        assertUsesIndex("idx_booking_slot_time_status",
+                () -> bookingRepository.findBookingGridByNumberAfter("user", 101, "101", NOW, NOW.plusMonths(1), null, null, null,
+                        NOW.plusDays(1), "booking", PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void shouldFindActiveFeatureUsageThroughSubscriptionStatusIndex() {
+        assertUsesIndex("idx_feature_usage_subscription_status",
+                () -> featureUsageJpaRepository.findLatestActiveAvailable("subscription", FeatureName.WHATSAPP_NOTIFICATIONS));
+    }
+
+    @Test
+    void shouldLockDueSubscriptionsThroughExpirationIndex() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        assertUsesIndex("idx_subscription_expired_expiration",
+                () -> transactionTemplate.execute(status -> subscriptionRepository.lockDueIds(NOW, 500)));
+    }
+
+    @Test
+    void shouldReadSubscriptionExpirationChunkThroughExpirationIndex() {
+        assertUsesIndex("idx_subscription_expired_expiration",
+                () -> userRepository.findSubscriptionExpirationChunk(false, NOW, NOW.plusDays(1), "", PageRequest.of(0, 500)));
+    }
+
+    private void assertUsesIndex(String index, Runnable repositoryCall) {
+        sqlCapture.clear();
+        repositoryCall.run();
+        List<String> statements = sqlCapture.statements();
+
+        assertFalse(statements.isEmpty(), "The repository call issued no SQL");
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertTrue(plan.contains(index), () -> "Expected " + index + " in the plan of\n" + sql + "\n" + plan);
+            assertFalse(plan.contains("tablescan"), () -> "Table scan in the plan of\n" + sql + "\n" + plan);
+        }
+    }
+
+    /**
+     * EXPLAIN only prepares the statement, so the parameters are bound to null just to make it executable.
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute((Connection connection) -> connection.prepareStatement("EXPLAIN " + sql),
+                (PreparedStatement statement) -> {
+                    int parameters = statement.getParameterMetaData().getParameterCount();
+                    for (int i = 1; i <= parameters; i++) {
+                        statement.setObject(i, null);
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                        return resultSet.getString(1).toLowerCase(Locale.ROOT);
+                    }
+                });
+    }
+}
@@ -0,0 +1,99 @@
+package com.reservalink.api.adapter.output.repository;
+
+import com.reservalink.api.adapter.output.repository.entity.OfferingEntity;
+import com.reservalink.api.adapter.output.repository.entity.ResourceEntity;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeRecurrenceEntity;
+import com.reservalink.api.adapter.output.repository.entity.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = "spring.profiles.active=test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(TestData.class)
+class ResourceJpaRepositoryTest {
+
+    @Autowired
+    private ResourceJpaRepository resourceJpaRepository;
+
+    @Autowired
+    private SlotTimeRecurrenceRepository recurrenceRepository;
+
+    @Autowired
+    private TestData testData;
+
+    private UserEntity userEntity;
+    private OfferingEntity offeringEntity;
+    private ResourceEntity withSlot;
+    private ResourceEntity withRecurrence;
+
+    @BeforeEach
+    void setUp() {
+        userEntity = testData.user("Test", "resources");
+        offeringEntity = testData.offering(userEntity, "Offering", 1, null);
+
+        withSlot = resource("Slot");
+        testData.slot(offeringEntity, withSlot, LocalDateTime.now().plusDays(1).withNano(0), null, 1, 1);
+
+        withRecurrence = resource("Recurrence");
+        recurrence(withRecurrence, null);
+
+        ResourceEntity withEndedRecurrence = resource("Ended");
+        recurrence(withEndedRecurrence, LocalDate.now().minusDays(1));
+
+        resource("Idle");
+    }
+
+    @Test
+    void shouldListResourcesAvailableOnlyThroughRecurrences() {
+        List<String> ids = resourceJpaRepository.findAllByEnabledTrueAndUserIdAndOfferingId(userEntity.getId(), offeringEntity.getId())
+                .stream()
+                .map(ResourceEntity::getId)
+                .sorted()
+                .toList();
+
+        assertEquals(Stream.of(withSlot.getId(), withRecurrence.getId()).sorted().toList(), ids);
+    }
+
+    @Test
+    void shouldGroupResourcesAvailableOnlyThroughRecurrencesByOffering() {
+        List<ResourceJpaRepository.OfferingResourceView> views = resourceJpaRepository.findAllAvailableByUserIdGroupedByOffering(userEntity.getId());
+
+        assertEquals(2, views.size());
+        views.forEach(view -> assertEquals(offeringEntity.getId(), view.getOfferingId()));
+        assertEquals(Stream.of(withSlot.getId(), withRecurrence.getId()).sorted().toList(),
+                views.stream().map(view -> view.getResource().getId()).toList());
+    }
+
+    private ResourceEntity resource(String name) {
+        return testData.resource(userEntity, name, null, false);
+    }
+
+    private void recurrence(ResourceEntity resourceEntity, LocalDate validUntil) {
+        recurrenceRepository.save(SlotTimeRecurrenceEntity.builder()
+                .enabled(true)
+                .offeringEntity(offeringEntity)
+                .resourceEntity(resourceEntity)
+                .daysOfWeek("MONDAY,WEDNESDAY")
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(12, 0))
+                .slotDurationMinutes(30)
+                .validFrom(LocalDate.now().minusMonths(1))
+                .validUntil(validUntil)
+                .build());
+    }
+}
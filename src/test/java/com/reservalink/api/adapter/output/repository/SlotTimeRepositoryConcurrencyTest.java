@@ -0,0 +1,96 @@
+package com.reservalink.api.adapter.output.repository;
+
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Slf4j
+@DataJpaTest(properties = "spring.profiles.active=test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(TestData.class)
+class SlotTimeRepositoryConcurrencyTest {
+
+    private static final int CAPACITY = 20;
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS = 200;
+
+    @Autowired
+    private SlotTimeRepository slotTimeRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SlotTimeEntity slotTimeEntity;
+
+    @BeforeEach
+    void setUp() {
+        slotTimeEntity = testData.slot(testData.tenant("concurrency", CAPACITY), LocalDateTime.now().plusDays(1), CAPACITY);
+    }
+
+    @Test
+    void shouldNeverOversellUnderConcurrentReservations() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < ATTEMPTS; i++) {
+            results.add(executor.submit(() -> {
+                startSignal.await();
+                Integer updated = transactionTemplate.execute(status ->
+                        slotTimeRepository.reserveCapacity(slotTimeEntity.getId(), 1));
+                return updated != null && updated > 0;
+            }));
+        }
+
+        long startNanos = System.nanoTime();
+        startSignal.countDown();
+        int reserved = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                reserved++;
+            }
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        executor.shutdown();
+
+        log.info("{} reservation attempts on {} threads completed in {} ms ({} reserved)", ATTEMPTS, THREADS, elapsedMillis, reserved);
+
+        assertEquals(CAPACITY, reserved);
+        assertEquals(0, slotTimeRepository.findById(slotTimeEntity.getId()).orElseThrow().getCapacityAvailable());
+    }
+
+    @Test
+    void shouldReleaseReservedCapacity() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> slotTimeRepository.reserveCapacity(slotTimeEntity.getId(), 5));
+        transactionTemplate.executeWithoutResult(status -> slotTimeRepository.releaseCapacity(slotTimeEntity.getId(), 5));
+
+        assertEquals(CAPACITY, slotTimeRepository.findById(slotTimeEntity.getId()).orElseThrow().getCapacityAvailable());
+    }
+}
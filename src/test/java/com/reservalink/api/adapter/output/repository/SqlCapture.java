@@ -0,0 +1,64 @@
+package com.reservalink.api.adapter.output.repository;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the SQL Hibernate sends, for tests that assert which statements a call issues.
+ * Register it with {@code @Import(SqlCapture.Config.class)}.
+ */
+class SqlCapture implements StatementInspector {
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    void clear() {
+        statements.clear();
+    }
+
+    List<String> statements() {
+        return List.copyOf(statements);
+    }
+
+    /**
+     * Reads issued by queries and lazy loads, without the sequence reads behind audit revision ids.
+     */
+    long selects() {
+        return statements.stream()
+                .map(sql -> sql.toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.startsWith("select") && !sql.contains("next value for"))
+                .count();
+    }
+
+    long startingWith(String prefix) {
+        return statements.stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith(prefix))
+                .count();
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+}
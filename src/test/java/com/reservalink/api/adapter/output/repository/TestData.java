@@ -0,0 +1,106 @@
+package com.reservalink.api.adapter.output.repository;
+
+import com.reservalink.api.adapter.output.repository.entity.OfferingCategoryEntity;
+import com.reservalink.api.adapter.output.repository.entity.OfferingEntity;
+import com.reservalink.api.adapter.output.repository.entity.ResourceEntity;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import com.reservalink.api.adapter.output.repository.entity.UserEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Saves the professional, default category, offering, resource and slot chain the repository tests
+ * book against. Import it next to @DataJpaTest; each call commits on its own.
+ */
+@TestComponent
+public class TestData {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OfferingCategoryJpaRepository offeringCategoryJpaRepository;
+
+    @Autowired
+    private OfferingRepository offeringRepository;
+
+    @Autowired
+    private ResourceJpaRepository resourceJpaRepository;
+
+    @Autowired
+    private SlotTimeRepository slotTimeRepository;
+
+    /**
+     * A professional with one offering of the given capacity and a default resource.
+     */
+    public Tenant tenant(String emailPrefix, int capacity) {
+        UserEntity userEntity = user("Test", emailPrefix);
+        return new Tenant(userEntity, offering(userEntity, "Offering", capacity, null), resource(userEntity, "Resource", null, true));
+    }
+
+    public UserEntity user(String name, String emailPrefix) {
+        return userRepository.save(UserEntity.builder()
+                .enabled(true)
+                .name(name)
+                .lastName("User")
+                .email(emailPrefix + "-" + System.nanoTime() + "@test.com")
+                .build());
+    }
+
+    /**
+     * An offering in the professional's default category, which is created with it.
+     */
+    public OfferingEntity offering(UserEntity userEntity, String name, int capacity, Integer advancePaymentPercentage) {
+        OfferingCategoryEntity category = offeringCategoryJpaRepository.save(OfferingCategoryEntity.builder()
+                .enabled(true)
+                .userEntity(userEntity)
+                .name("Default")
+                .isDefault(true)
+                .build());
+        return offeringRepository.save(OfferingEntity.builder()
+                .enabled(true)
+                .userEntity(userEntity)
+                .name(name)
+                .capacity(capacity)
+                .advancePaymentPercentage(advancePaymentPercentage)
+                .category(category)
+                .build());
+    }
+
+    public ResourceEntity resource(UserEntity userEntity, String name, String email, boolean isDefault) {
+        return resourceJpaRepository.save(ResourceEntity.builder()
+                .enabled(true)
+                .name(name)
+                .lastName("Resource")
+                .email(email)
+                .isDefault(isDefault)
+                .userEntity(userEntity)
+                .build());
+    }
+
+    /**
+     * A one hour slot with the given capacity left.
+     */
+    public SlotTimeEntity slot(OfferingEntity offeringEntity, ResourceEntity resourceEntity, LocalDateTime start,
+                              Double price, int capacityAvailable, int maxCapacity) {
+        return slotTimeRepository.save(SlotTimeEntity.builder()
+                .enabled(true)
+                .offeringEntity(offeringEntity)
+                .resourceEntity(resourceEntity)
+                .startDateTime(start)
+                .endDateTime(start.plusHours(1))
+                .price(price)
+                .capacityAvailable(capacityAvailable)
+                .maxCapacity(maxCapacity)
+                .build());
+    }
+
+    public SlotTimeEntity slot(Tenant tenant, LocalDateTime start, int capacity) {
+        return slot(tenant.offering(), tenant.resource(), start, null, capacity, capacity);
+    }
+
+    public record Tenant(UserEntity user, OfferingEntity offering, ResourceEntity resource) {
+    }
+}
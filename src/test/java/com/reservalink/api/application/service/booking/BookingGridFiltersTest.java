@@ -0,0 +1,138 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.adapter.input.controller.request.BookingSearchRequest;
+import com.reservalink.api.adapter.input.controller.response.BookingGridResponse;
+import com.reservalink.api.adapter.input.controller.response.BookingGridSliceResponse;
+import com.reservalink.api.adapter.output.repository.BookingRepository;
+import com.reservalink.api.domain.BookingGridRow;
+import com.reservalink.api.domain.BookingStatus;
+import com.reservalink.api.exception.BusinessErrorCodes;
+import com.reservalink.api.exception.BusinessRuleException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingGridFiltersTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final BookingServiceImpl bookingService = new BookingServiceImpl(bookingRepository, null, null, null, null, null, null, null, null, null, null);
+
+    @Test
+    void shouldKeepMonthOfAnyYearWhenNoYearIsGiven() {
+        BookingServiceImpl.StartRange range = BookingServiceImpl.StartRange.of(BookingSearchRequest.builder().month("04").build());
+
+        assertNull(range.from());
+        assertNull(range.to());
+        assertEquals(4, range.monthOfAnyYear());
+    }
+
+    @Test
+    void shouldNarrowToTheMonthOfTheGivenYear() {
+        BookingServiceImpl.StartRange range = BookingServiceImpl.StartRange.of(BookingSearchRequest.builder().month("04").year(2029).build());
+
+        assertEquals(LocalDateTime.of(2029, 4, 1, 0, 0), range.from());
+        assertEquals(LocalDateTime.of(2029, 5, 1, 0, 0), range.to());
+        assertNull(range.monthOfAnyYear());
+    }
+
+    @Test
+    void shouldNarrowToTheWholeYearWithoutMonth() {
+        BookingServiceImpl.StartRange range = BookingServiceImpl.StartRange.of(BookingSearchRequest.builder().year(2029).build());
+
+        assertEquals(LocalDateTime.of(2029, 1, 1, 0, 0), range.from());
+        assertEquals(LocalDateTime.of(2030, 1, 1, 0, 0), range.to());
+    }
+
+    @Test
+    void shouldRejectMalformedMonthAsBusinessRule() {
+        assertInvalidFilter(() -> BookingServiceImpl.StartRange.of(BookingSearchRequest.builder().month("abril").build()));
+        assertInvalidFilter(() -> BookingServiceImpl.StartRange.of(BookingSearchRequest.builder().month("13").build()));
+        assertInvalidFilter(() -> BookingServiceImpl.StartRange.of(BookingSearchRequest.builder().year(0).build()));
+    }
+
+    @Test
+    void shouldRejectMalformedCursorAsBusinessRule() {
+        String withoutSeparator = Base64.getUrlEncoder().encodeToString("2030-01-01T10:00".getBytes(StandardCharsets.UTF_8));
+        String badDate = Base64.getUrlEncoder().encodeToString("yesterday|abc".getBytes(StandardCharsets.UTF_8));
+
+        assertInvalidFilter(() -> BookingGridCursor.decode("not base64!"));
+        assertInvalidFilter(() -> BookingGridCursor.decode(withoutSeparator));
+        assertInvalidFilter(() -> BookingGridCursor.decode(badDate));
+    }
+
+    @Test
+    void shouldDecodeTheCursorItEncodes() {
+        BookingGridCursor cursor = new BookingGridCursor(LocalDateTime.of(2030, 1, 1, 10, 0), "booking-1");
+
+        assertEquals(cursor, BookingGridCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void shouldReadOnlyTheTextBranchForNonNumericSearch() {
+        when(bookingRepository.findBookingGrid(eq(USER_ID.toString()), eq("ana"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(PageRequest.of(0, 10))))
+                .thenReturn(new PageImpl<>(List.of(row("t1", 10))));
+
+        Page<BookingGridResponse> page = bookingService.findBookingGrid(USER_ID, BookingSearchRequest.builder().search("ana").pageNumber(0).pageSize(10).build());
+
+        assertEquals(List.of("t1"), page.getContent().stream().map(BookingGridResponse::getId).toList());
+        verify(bookingRepository, never()).findBookingGridByNumber(any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldMergeBookingNumberMatchesIntoTheTextMatchesPage() {
+        PageRequest head = PageRequest.of(0, 4);
+        when(bookingRepository.findBookingGrid(eq(USER_ID.toString()), eq("12"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(head)))
+                .thenReturn(new PageImpl<>(List.of(row("t1", 10), row("t2", 8), row("t3", 6)), head, 3));
+        when(bookingRepository.findBookingGridByNumber(eq(USER_ID.toString()), eq(12), eq("12"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(head)))
+                .thenReturn(new PageImpl<>(List.of(row("n1", 9), row("n2", 7)), head, 2));
+
+        Page<BookingGridResponse> page = bookingService.findBookingGrid(USER_ID, BookingSearchRequest.builder().search("12").pageNumber(1).pageSize(2).build());
+
+        assertEquals(List.of("t2", "n2"), page.getContent().stream().map(BookingGridResponse::getId).toList());
+        assertEquals(5, page.getTotalElements());
+    }
+
+    @Test
+    void shouldMergeBookingNumberMatchesIntoTheSlice() {
+        when(bookingRepository.findBookingGridAfter(eq(USER_ID.toString()), eq("12"), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(row("t1", 10), row("t2", 8)));
+        when(bookingRepository.findBookingGridByNumberAfter(eq(USER_ID.toString()), eq(12), eq("12"), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(row("n1", 9)));
+
+        BookingGridSliceResponse slice = bookingService.findBookingGridSlice(USER_ID, BookingSearchRequest.builder().search("12").pageSize(2).build());
+
+        assertEquals(List.of("t1", "n1"), slice.getContent().stream().map(BookingGridResponse::getId).toList());
+        assertEquals(new BookingGridCursor(DAY.withHour(9), "n1"), BookingGridCursor.decode(slice.getNextCursor()));
+    }
+
+    private static BookingGridRow row(String id, int hour) {
+        return new BookingGridRow(id, id + "@test.com", "Client " + id, "+5491155500000", DAY.withHour(hour), DAY.withHour(hour + 1),
+                BookingStatus.CONFIRMED, 1000.0, 0, "Corte", 1, "Ana", "Lopez", 12);
+    }
+
+    private static void assertInvalidFilter(Runnable call) {
+        BusinessRuleException e = assertThrows(BusinessRuleException.class, call::run);
+        assertEquals(BusinessErrorCodes.INVALID_SEARCH_FILTER.name(), e.getCode());
+    }
+}
@@ -0,0 +1,120 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.application.output.BookingReminderJobRepositoryPort;
+import com.reservalink.api.application.output.BookingRepositoryPort;
+import com.reservalink.api.application.output.SubscriptionRepositoryPort;
+import com.reservalink.api.application.service.feature.FeatureLifecycleService;
+import com.reservalink.api.application.service.notification.NotificationChannel;
+import com.reservalink.api.application.service.notification.NotificationService;
+import com.reservalink.api.domain.Booking;
+import com.reservalink.api.domain.BookingReminderJob;
+import com.reservalink.api.domain.BookingReminderJobStatus;
+import com.reservalink.api.domain.BookingStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingReminderDispatcherTest {
+
+    private static final int BATCH_SIZE = 10;
+
+    @Mock
+    private BookingReminderJobRepositoryPort reminderRepository;
+
+    @Mock
+    private BookingRepositoryPort bookingRepositoryPort;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private FeatureLifecycleService featureLifecycleService;
+
+    @Mock
+    private SubscriptionRepositoryPort subscriptionRepositoryPort;
+
+    private BookingReminderDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new BookingReminderDispatcher(reminderRepository, bookingRepositoryPort, notificationService,
+                featureLifecycleService, subscriptionRepositoryPort, new SimpleMeterRegistry(),
+                BATCH_SIZE, 50, 3, Duration.ofMinutes(15), Duration.ofMinutes(10), "node-1", 4, 2);
+    }
+
+    @Test
+    void shouldKeepClaimingBatchesUntilQueueIsDrained() {
+        when(reminderRepository.claimEligibleReminders(eq("node-1"), any(), any(), eq(BATCH_SIZE)))
+                .thenReturn(jobs(0, BATCH_SIZE), jobs(BATCH_SIZE, 3));
+        when(bookingRepositoryPort.findAllByIds(anyList()))
+                .thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream().map(this::confirmedBooking).toList());
+        when(subscriptionRepositoryPort.findActiveSubscriptionIdByBookingId(anyString())).thenReturn("sub-1");
+        when(reminderRepository.findOldestEligibleTrigger(any())).thenReturn(Optional.empty());
+
+        dispatcher.dispatchDue();
+
+        verify(reminderRepository, times(2)).claimEligibleReminders(any(), any(), any(), anyInt());
+        verify(notificationService, times(BATCH_SIZE + 3)).sendBookingReminder(any(), eq(NotificationChannel.EMAIL));
+        ArgumentCaptor<Collection<String>> sent = ArgumentCaptor.captor();
+        verify(reminderRepository, times(2)).updateStatuses(eq("node-1"), sent.capture(), eq(BookingReminderJobStatus.SENT), any());
+        assertEquals(BATCH_SIZE + 3, sent.getAllValues().stream().mapToInt(Collection::size).sum());
+    }
+
+    @Test
+    void shouldScheduleRetryWhenSendFails() {
+        List<BookingReminderJob> jobs = jobs(0, 2);
+        when(bookingRepositoryPort.findAllByIds(anyList()))
+                .thenReturn(List.of(confirmedBooking("booking-0"), confirmedBooking("booking-1")));
+        when(subscriptionRepositoryPort.findActiveSubscriptionIdByBookingId(anyString())).thenReturn("sub-1");
+        doAnswer(invocation -> {
+            if ("booking-1".equals(invocation.<Booking>getArgument(0).getId())) {
+                throw new RuntimeException("provider down");
+            }
+            return null;
+        }).when(notificationService).sendBookingReminder(any(), any());
+
+        dispatcher.dispatch(jobs);
+
+        verify(reminderRepository).updateStatuses(eq("node-1"), eq(List.of("job-0")), eq(BookingReminderJobStatus.SENT), any());
+        verify(reminderRepository).scheduleRetries(eq("node-1"), eq(List.of("job-1")), any());
+    }
+
+    private List<BookingReminderJob> jobs(int from, int count) {
+        List<BookingReminderJob> jobs = new ArrayList<>();
+        IntStream.range(from, from + count).forEach(i -> jobs.add(BookingReminderJob.builder()
+                .id("job-" + i)
+                .bookingId("booking-" + i)
+                .notificationChannel(NotificationChannel.EMAIL)
+                .status(BookingReminderJobStatus.PENDING)
+                .reAttempts(0)
+                .build()));
+        return jobs;
+    }
+
+    private Booking confirmedBooking(String id) {
+        return Booking.builder().id(id).status(BookingStatus.CONFIRMED).build();
+    }
+}
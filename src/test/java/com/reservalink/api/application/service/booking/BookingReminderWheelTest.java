@@ -0,0 +1,72 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.application.output.BookingReminderJobRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingReminderWheelTest {
+
+    private static final Duration HORIZON = Duration.ofHours(3);
+
+    @Mock
+    private BookingReminderJobRepositoryPort reminderRepository;
+
+    @Mock
+    private BookingReminderDispatcher dispatcher;
+
+    private BookingReminderWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new BookingReminderWheel(reminderRepository, dispatcher, true, HORIZON, 2);
+    }
+
+    @Test
+    void shouldOnlyLoadRemindersWithinTheHorizon() {
+        LocalDateTime before = LocalDateTime.now();
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(reminderRepository.findUpcomingReminders(from.capture(), until.capture())).thenReturn(List.of());
+
+        wheel.refill();
+
+        assertFalse(from.getValue().isBefore(before));
+        assertEquals(from.getValue().plus(HORIZON), until.getValue());
+    }
+
+    @Test
+    void shouldDispatchDueRemindersInBatches() {
+        List<List<String>> batches = new ArrayList<>();
+        doAnswer(invocation -> {
+            batches.add(List.copyOf(invocation.<Collection<String>>getArgument(0)));
+            if (batches.size() == 2) {
+                throw new IllegalStateException("Database unavailable");
+            }
+            return 0;
+        }).when(dispatcher).dispatchById(anyCollection());
+
+        wheel.dispatch(List.of("job-1", "job-2", "job-3", "job-4", "job-5"));
+
+        assertEquals(List.of(List.of("job-1", "job-2"), List.of("job-3", "job-4"), List.of("job-5")), batches);
+        verify(dispatcher, times(3)).dispatchById(anyCollection());
+    }
+}
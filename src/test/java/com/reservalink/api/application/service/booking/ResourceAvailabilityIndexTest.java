@@ -0,0 +1,202 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.adapter.output.repository.BookingRepository;
+import com.reservalink.api.adapter.output.repository.SlotTimeRepository;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import com.reservalink.api.domain.ResourceInterval;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceAvailabilityIndexTest {
+
+    private static final String RESOURCE_ID = "resource-1";
+    private static final LocalDateTime BASE = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+
+    @Mock
+    private SlotTimeRepository slotTimeRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private ResourceAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ResourceAvailabilityIndex(slotTimeRepository, bookingRepository, true, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void shouldDetectOverlapWithBookingOfAnotherOffering() {
+        when(bookingRepository.findConfirmedBookingIntervalsByResourceId(eq(RESOURCE_ID), any()))
+                .thenReturn(List.of(interval("b1", "offering-2", 0, 60)));
+
+        assertTrue(index.existsOverlappingBooking(RESOURCE_ID, "offering-1", BASE.plusMinutes(30), BASE.plusMinutes(90)));
+        assertFalse(index.existsOverlappingBooking(RESOURCE_ID, "offering-1", BASE.plusMinutes(60), BASE.plusMinutes(90)));
+        assertFalse(index.existsOverlappingBooking(RESOURCE_ID, "offering-2", BASE.plusMinutes(30), BASE.plusMinutes(90)));
+    }
+
+    @Test
+    void shouldFindOverlapHiddenBehindLongerInterval() {
+        when(slotTimeRepository.findSlotIntervalsByResourceId(eq(RESOURCE_ID), any()))
+                .thenReturn(List.of(
+                        interval("s1", "offering-1", 0, 600),
+                        interval("s2", "offering-1", 60, 90),
+                        interval("s3", "offering-1", 120, 150)
+                ));
+
+        assertTrue(index.existsOverlappingSlot(RESOURCE_ID, "offering-1", "s3", BASE.plusMinutes(300), BASE.plusMinutes(330)));
+        assertFalse(index.existsOverlappingSlot(RESOURCE_ID, "offering-1", "s1", BASE.plusMinutes(300), BASE.plusMinutes(330)));
+        assertFalse(index.existsOverlappingSlot(RESOURCE_ID, "offering-1", null, BASE.plusMinutes(600), BASE.plusMinutes(630)));
+    }
+
+    @Test
+    void shouldReturnSlotsBlockedByOtherOfferings() {
+        when(slotTimeRepository.findSlotIntervalsByResourceId(eq(RESOURCE_ID), any()))
+                .thenReturn(List.of(
+                        interval("s1", "offering-1", 0, 30),
+                        interval("s2", "offering-1", 30, 60),
+                        interval("s3", "offering-1", 60, 90)
+                ));
+        when(bookingRepository.findConfirmedBookingIntervalsByResourceId(eq(RESOURCE_ID), any()))
+                .thenReturn(List.of(
+                        interval("b1", "offering-2", 45, 75),
+                        interval("b2", "offering-1", 0, 30)
+                ));
+
+        assertEquals(Set.of("s2", "s3"), index.findBlockedSlotIds(RESOURCE_ID, "offering-1"));
+    }
+
+    @Test
+    void shouldReadSlotsFromCursorSkippingBlockedOnes() {
+        when(bookingRepository.findConfirmedBookingIntervalsByResourceId(eq(RESOURCE_ID), any()))
+                .thenReturn(List.of(interval("b1", "offering-2", 30, 60)));
+        when(slotTimeRepository.findAvailableSlotTimesStartingAfter(eq("offering-1"), eq(RESOURCE_ID), any(), eq(BASE), any()))
+                .thenReturn(List.of(slot("s1", 30, 60), slot("s2", 60, 90)));
+        when(slotTimeRepository.findAvailableSlotTimesStartingAfter(eq("offering-1"), eq(RESOURCE_ID), any(), eq(BASE.plusMinutes(60)), any()))
+                .thenReturn(List.of(slot("s3", 90, 120)));
+
+        List<SlotTimeEntity> slots = index.findAvailableSlotTimesAfter("offering-1", RESOURCE_ID, BASE, BASE, 2);
+
+        assertEquals(List.of("s2", "s3"), slots.stream().map(SlotTimeEntity::getId).toList());
+    }
+
+    @Test
+    void shouldReloadSnapshotOnlyAfterInvalidation() {
+        when(bookingRepository.findConfirmedBookingIntervalsByResourceId(eq(RESOURCE_ID), any())).thenReturn(List.of());
+
+        index.existsOverlappingBooking(RESOURCE_ID, "offering-1", BASE, BASE.plusMinutes(30));
+        index.existsOverlappingBooking(RESOURCE_ID, "offering-1", BASE, BASE.plusMinutes(30));
+        index.invalidate(RESOURCE_ID);
+        index.existsOverlappingBooking(RESOURCE_ID, "offering-1", BASE, BASE.plusMinutes(30));
+
+        verify(bookingRepository, times(2)).findConfirmedBookingIntervalsByResourceId(eq(RESOURCE_ID), any());
+    }
+
+    @Test
+    void shouldUseSqlQueriesInsideTransaction() {
+        when(bookingRepository.existsOverlappingBookingForResource(RESOURCE_ID, "offering-1", BASE, BASE.plusMinutes(30))).thenReturn(true);
+        when(slotTimeRepository.existsOverlappingSlot("offering-1", RESOURCE_ID, "s1", BASE, BASE.plusMinutes(30))).thenReturn(false);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertTrue(index.existsOverlappingBooking(RESOURCE_ID, "offering-1", BASE, BASE.plusMinutes(30)));
+            assertFalse(index.existsOverlappingSlot(RESOURCE_ID, "offering-1", "s1", BASE, BASE.plusMinutes(30)));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(bookingRepository, never()).findConfirmedBookingIntervalsByResourceId(any(), any());
+        verify(slotTimeRepository, never()).findSlotIntervalsByResourceId(any(), any());
+    }
+
+    @Test
+    void shouldUseSqlQueriesInsideTransactionEvenWithCachedSnapshot() {
+        when(bookingRepository.findConfirmedBookingIntervalsByResourceId(eq(RESOURCE_ID), any()))
+                .thenReturn(List.of(interval("b1", "offering-2", 0, 60)));
+        assertTrue(index.existsOverlappingBooking(RESOURCE_ID, "offering-1", BASE, BASE.plusMinutes(30)));
+
+        // Another node may have booked the resource since this node cached its snapshot
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertFalse(index.existsOverlappingBooking(RESOURCE_ID, "offering-1", BASE, BASE.plusMinutes(30)));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(bookingRepository).existsOverlappingBookingForResource(RESOURCE_ID, "offering-1", BASE, BASE.plusMinutes(30));
+    }
+
+    @Test
+    void shouldCheckSlotOverlapOnTheResourceInBothModes() {
+        ResourceAvailabilityIndex sqlIndex = new ResourceAvailabilityIndex(slotTimeRepository, bookingRepository, false, Duration.ofMinutes(5));
+        when(slotTimeRepository.findSlotIntervalsByResourceId(eq(RESOURCE_ID), any()))
+                .thenReturn(List.of(interval("s1", "offering-1", 0, 60)));
+        when(slotTimeRepository.existsOverlappingSlot("offering-1", RESOURCE_ID, "s2", BASE, BASE.plusMinutes(30))).thenReturn(true);
+
+        assertTrue(index.existsOverlappingSlot(RESOURCE_ID, "offering-1", "s2", BASE, BASE.plusMinutes(30)));
+        assertTrue(sqlIndex.existsOverlappingSlot(RESOURCE_ID, "offering-1", "s2", BASE, BASE.plusMinutes(30)));
+    }
+
+    @Test
+    void shouldNotSendLongExclusionListToTheDatabase() {
+        List<ResourceInterval> slots = new ArrayList<>();
+        for (int i = 0; i <= ResourceAvailabilityIndex.MAX_EXCLUDED_SLOT_IDS; i++) {
+            slots.add(interval("s" + i, "offering-1", i * 30, i * 30 + 30));
+        }
+        when(slotTimeRepository.findSlotIntervalsByResourceId(eq(RESOURCE_ID), any())).thenReturn(slots);
+        when(bookingRepository.findConfirmedBookingIntervalsByResourceId(eq(RESOURCE_ID), any()))
+                .thenReturn(List.of(interval("b1", "offering-2", 0, (ResourceAvailabilityIndex.MAX_EXCLUDED_SLOT_IDS + 1) * 30)));
+        Pageable pageable = PageRequest.of(0, 10);
+        when(slotTimeRepository.findAllAvailableSlotTimesByOfferingAndResourceId("offering-1", RESOURCE_ID, BASE, pageable))
+                .thenReturn(Page.empty());
+
+        assertTrue(index.findAvailableSlotTimes("offering-1", RESOURCE_ID, BASE, pageable).isEmpty());
+        verify(slotTimeRepository, never()).findAvailableSlotTimesExcluding(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldUseSqlQueriesWhenDisabled() {
+        ResourceAvailabilityIndex sqlIndex = new ResourceAvailabilityIndex(slotTimeRepository, bookingRepository, false, Duration.ofMinutes(5));
+        when(bookingRepository.existsOverlappingBookingForResource(RESOURCE_ID, "offering-1", BASE, BASE.plusMinutes(30))).thenReturn(true);
+
+        assertTrue(sqlIndex.existsOverlappingBooking(RESOURCE_ID, "offering-1", BASE, BASE.plusMinutes(30)));
+        verify(bookingRepository, times(0)).findConfirmedBookingIntervalsByResourceId(any(), any());
+    }
+
+    private static SlotTimeEntity slot(String id, int startMinutes, int endMinutes) {
+        SlotTimeEntity slot = SlotTimeEntity.builder()
+                .startDateTime(BASE.plusMinutes(startMinutes))
+                .endDateTime(BASE.plusMinutes(endMinutes))
+                .build();
+        slot.setId(id);
+        return slot;
+    }
+
+    private static ResourceInterval interval(String id, String offeringId, int startMinutes, int endMinutes) {
+        return new ResourceInterval(id, offeringId, BASE.plusMinutes(startMinutes), BASE.plusMinutes(endMinutes));
+    }
+}
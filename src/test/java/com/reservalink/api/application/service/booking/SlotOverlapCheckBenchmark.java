@@ -0,0 +1,84 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.adapter.input.controller.request.SlotTimeRequest;
+import com.reservalink.api.domain.ResourceInterval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks a batch of new slots against the existing slots of the resource, with the nested loop
+ * createList used before and with the sweep in SlotTimeServiceImpl.findFirstOverlap.
+ * The new slots fill gaps spread over all the existing ones, so neither side stops early and both
+ * receive every existing slot: this measures the in-memory check only, not the narrower window
+ * the repository now loads.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=SlotOverlapCheckBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlotOverlapCheckBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Param({"1000", "10000", "100000"})
+    private int existingSlots;
+
+    @Param({"200"})
+    private int batchSize;
+
+    private List<ResourceInterval> existing;
+    private List<SlotTimeRequest> batch;
+
+    @Setup
+    public void setUp() {
+        // Existing one hour slots every two hours, the batch takes free hours evenly spread among them
+        existing = new ArrayList<>(existingSlots);
+        for (int i = 0; i < existingSlots; i++) {
+            LocalDateTime start = START.plusHours(2L * i);
+            existing.add(new ResourceInterval("slot-" + i, "offering", start, start.plusHours(1)));
+        }
+        batch = new ArrayList<>(batchSize);
+        int step = Math.max(1, existingSlots / batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            LocalDateTime start = START.plusHours(2L * i * step + 1);
+            batch.add(SlotTimeRequest.builder().startDateTime(start).endDateTime(start.plusHours(1)).build());
+        }
+    }
+
+    @Benchmark
+    public Optional<SlotTimeRequest> nestedLoop() {
+        for (SlotTimeRequest req : batch) {
+            for (ResourceInterval slot : existing) {
+                boolean overlaps = req.getStartDateTime().isBefore(slot.getEndDateTime()) &&
+                        req.getEndDateTime().isAfter(slot.getStartDateTime());
+                if (overlaps) {
+                    return Optional.of(req);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public Optional<SlotTimeRequest> sweep() {
+        return SlotTimeServiceImpl.findFirstOverlap(batch, existing);
+    }
+}
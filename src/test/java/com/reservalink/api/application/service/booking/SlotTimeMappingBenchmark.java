@@ -0,0 +1,71 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.adapter.input.controller.response.SlotTimeResponse;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps one page of available slots to responses, with the default ModelMapper the services used
+ * before and with SlotTimeServiceImpl.toResponse.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=SlotTimeMappingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlotTimeMappingBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private List<SlotTimeEntity> page;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 9, 0);
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            SlotTimeEntity slot = SlotTimeEntity.builder()
+                    .startDateTime(start.plusHours(i))
+                    .endDateTime(start.plusHours(i + 1))
+                    .price(1000.0)
+                    .capacityAvailable(1)
+                    .maxCapacity(1)
+                    .enabled(true)
+                    .build();
+            slot.setId("slot-" + i);
+            page.add(slot);
+        }
+        // ModelMapper builds its type map on the first call; the services paid that once per JVM
+        modelMapper.map(page.get(0), SlotTimeResponse.class);
+    }
+
+    @Benchmark
+    public List<SlotTimeResponse> modelMapper() {
+        return page.stream().map(slot -> modelMapper.map(slot, SlotTimeResponse.class)).toList();
+    }
+
+    @Benchmark
+    public List<SlotTimeResponse> handWritten() {
+        return page.stream().map(SlotTimeServiceImpl::toResponse).toList();
+    }
+}
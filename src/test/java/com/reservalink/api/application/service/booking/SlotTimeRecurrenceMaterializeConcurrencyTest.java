@@ -0,0 +1,165 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.adapter.output.repository.OfferingRepository;
+import com.reservalink.api.adapter.output.repository.ResourceJpaRepository;
+import com.reservalink.api.adapter.output.repository.SlotTimeRecurrenceRepository;
+import com.reservalink.api.adapter.output.repository.SlotTimeRepository;
+import com.reservalink.api.adapter.output.repository.TestData;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeRecurrenceEntity;
+import com.reservalink.api.application.output.ResourceRepositoryPort;
+import com.reservalink.api.application.service.offering.StorefrontCache;
+import jakarta.persistence.EntityManager;
+import org.hibernate.envers.AuditReaderFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Concurrent first bookings of the same virtual occurrence: every caller starts before the
+ * occurrence has a row.
+ */
+@DataJpaTest(properties = "spring.profiles.active=test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(TestData.class)
+class SlotTimeRecurrenceMaterializeConcurrencyTest {
+
+    private static final int THREADS = 4;
+    private static final int CAPACITY = 5;
+
+    @Autowired
+    private SlotTimeRecurrenceRepository recurrenceRepository;
+
+    @Autowired
+    private SlotTimeRepository slotTimeRepository;
+
+    @Autowired
+    private OfferingRepository offeringRepository;
+
+    @Autowired
+    private ResourceJpaRepository resourceJpaRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private SlotTimeRecurrenceServiceImpl service;
+    private TestData.Tenant tenant;
+    private SlotTimeRecurrenceEntity recurrence;
+    private LocalDateTime occurrence;
+
+    @BeforeEach
+    void setUp() {
+        service = new SlotTimeRecurrenceServiceImpl(recurrenceRepository, slotTimeRepository, offeringRepository,
+                mock(ResourceRepositoryPort.class), mock(ResourceAvailabilityIndex.class), mock(StorefrontCache.class), transactionManager, 60);
+
+        tenant = testData.tenant("materialize", CAPACITY);
+        occurrence = LocalDateTime.now().plusDays(7).toLocalDate().atTime(10, 0);
+        recurrence = recurrenceRepository.save(SlotTimeRecurrenceEntity.builder()
+                .enabled(true)
+                .offeringEntity(tenant.offering())
+                .resourceEntity(tenant.resource())
+                .daysOfWeek(occurrence.getDayOfWeek().name())
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(13, 0))
+                .slotDurationMinutes(60)
+                .validFrom(occurrence.toLocalDate().minusDays(7))
+                .build());
+    }
+
+    @Test
+    void shouldShareOneRowWhenTheSameOccurrenceIsMaterializedConcurrently() throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<String>> results = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                await(barrier);
+                return service.materialize(recurrence.getId(), occurrence).getId();
+            }));
+        }
+
+        Set<String> slotIds = new HashSet<>();
+        for (Future<String> result : results) {
+            slotIds.add(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertEquals(1, slotIds.size());
+        assertEquals(1, slotTimeRepository.findMaterializedOccurrences(List.of(recurrence.getId()), occurrence, occurrence.plusMinutes(1)).size());
+        assertEquals(CAPACITY, slotTimeRepository.findById(slotIds.iterator().next()).orElseThrow().getCapacityAvailable());
+    }
+
+    @Test
+    void shouldReturnTheStoredRowWhenTheOccurrenceIsAlreadyMaterialized() {
+        String first = service.materialize(recurrence.getId(), occurrence).getId();
+        String second = service.materialize(recurrence.getId(), occurrence).getId();
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    void shouldAuditTheMaterializedOccurrence() {
+        String slotTimeId = service.materialize(recurrence.getId(), occurrence).getId();
+
+        List<Number> revisions = new TransactionTemplate(transactionManager)
+                .execute(status -> AuditReaderFactory.get(entityManager).getRevisions(SlotTimeEntity.class, slotTimeId));
+        assertEquals(1, revisions.size());
+    }
+
+    @Test
+    void shouldRejectOccurrencesOfADeletedOffering() {
+        tenant.offering().setEnabled(false);
+        offeringRepository.save(tenant.offering());
+
+        assertThrows(IllegalArgumentException.class, () -> service.materialize(recurrence.getId(), occurrence));
+        assertEquals(0, slotTimeRepository.findMaterializedOccurrences(List.of(recurrence.getId()), occurrence, occurrence.plusMinutes(1)).size());
+    }
+
+    @Test
+    void shouldRejectOccurrencesOfADeletedResource() {
+        tenant.resource().setEnabled(false);
+        resourceJpaRepository.save(tenant.resource());
+
+        assertThrows(IllegalArgumentException.class, () -> service.materialize(recurrence.getId(), occurrence));
+        assertEquals(0, slotTimeRepository.findMaterializedOccurrences(List.of(recurrence.getId()), occurrence, occurrence.plusMinutes(1)).size());
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
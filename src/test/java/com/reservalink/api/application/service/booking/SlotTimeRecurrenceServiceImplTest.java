@@ -0,0 +1,305 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.adapter.input.controller.request.SlotTimeRecurrenceRequest;
+import com.reservalink.api.adapter.input.controller.response.SlotTimeResponse;
+import com.reservalink.api.adapter.output.repository.OfferingRepository;
+import com.reservalink.api.adapter.output.repository.SlotTimeRecurrenceRepository;
+import com.reservalink.api.adapter.output.repository.SlotTimeRepository;
+import com.reservalink.api.adapter.output.repository.entity.OfferingEntity;
+import com.reservalink.api.adapter.output.repository.entity.ResourceEntity;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeRecurrenceEntity;
+import com.reservalink.api.adapter.output.repository.entity.UserEntity;
+import com.reservalink.api.application.output.ResourceRepositoryPort;
+import com.reservalink.api.application.service.offering.StorefrontCache;
+import com.reservalink.api.domain.ResourceInterval;
+import com.reservalink.api.exception.BusinessErrorCodes;
+import com.reservalink.api.exception.BusinessRuleException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlotTimeRecurrenceServiceImplTest {
+
+    private static final String OFFERING_ID = UUID.randomUUID().toString();
+    private static final String RESOURCE_ID = "resource-1";
+    private static final String USER_ID = "user-1";
+    private static final String RECURRENCE_ID = "recurrence-1";
+    private static final LocalDateTime MONDAY_MORNING = LocalDateTime.of(2030, 1, 7, 8, 0);
+    private static final int PAGE = 100;
+
+    @Mock
+    private SlotTimeRecurrenceRepository recurrenceRepository;
+
+    @Mock
+    private SlotTimeRepository slotTimeRepository;
+
+    @Mock
+    private OfferingRepository offeringRepository;
+
+    @Mock
+    private ResourceRepositoryPort resourceRepositoryPort;
+
+    @Mock
+    private ResourceAvailabilityIndex resourceAvailabilityIndex;
+
+    @Mock
+    private StorefrontCache storefrontCache;
+
+    private SlotTimeRecurrenceServiceImpl service;
+    private OfferingEntity offeringEntity;
+    private ResourceEntity resourceEntity;
+
+    @BeforeEach
+    void setUp() {
+        service = new SlotTimeRecurrenceServiceImpl(recurrenceRepository, slotTimeRepository, offeringRepository,
+                resourceRepositoryPort, resourceAvailabilityIndex, storefrontCache, mock(PlatformTransactionManager.class), 14);
+        UserEntity userEntity = UserEntity.builder().build();
+        userEntity.setId(USER_ID);
+        offeringEntity = OfferingEntity.builder().capacity(2).userEntity(userEntity).build();
+        offeringEntity.setId(OFFERING_ID);
+        resourceEntity = ResourceEntity.builder().build();
+        resourceEntity.setId(RESOURCE_ID);
+    }
+
+    @Test
+    void shouldGenerateOccurrencesOnRuleDaysWithinValidity() {
+        givenRecurrences(recurrence("MONDAY,WEDNESDAY", LocalTime.of(9, 0), LocalTime.of(11, 0), 60,
+                LocalDate.of(2030, 1, 9), LocalDate.of(2030, 1, 14)));
+
+        List<SlotTimeResponse> slots = service.findVirtualSlots(OFFERING_ID, RESOURCE_ID, MONDAY_MORNING, null, PAGE);
+
+        assertEquals(List.of(
+                LocalDateTime.of(2030, 1, 9, 9, 0),
+                LocalDateTime.of(2030, 1, 9, 10, 0),
+                LocalDateTime.of(2030, 1, 14, 9, 0),
+                LocalDateTime.of(2030, 1, 14, 10, 0)
+        ), starts(slots));
+        slots.forEach(slot -> {
+            assertEquals(slot.getStartDateTime().plusMinutes(60), slot.getEndDateTime());
+            assertEquals(RECURRENCE_ID, slot.getRecurrenceId());
+            assertEquals(2, slot.getCapacityAvailable());
+        });
+    }
+
+    @Test
+    void shouldStopAtTheHorizonForOpenEndedRecurrences() {
+        givenRecurrences(recurrence("MONDAY", LocalTime.of(9, 0), LocalTime.of(10, 0), 60,
+                LocalDate.of(2029, 1, 1), null));
+
+        List<SlotTimeResponse> slots = service.findVirtualSlots(OFFERING_ID, RESOURCE_ID, MONDAY_MORNING, null, PAGE);
+
+        assertEquals(List.of(
+                LocalDateTime.of(2030, 1, 7, 9, 0),
+                LocalDateTime.of(2030, 1, 14, 9, 0),
+                LocalDateTime.of(2030, 1, 21, 9, 0)
+        ), starts(slots));
+    }
+
+    @Test
+    void shouldDropSlotsThatDoNotFitBeforeTheEndTime() {
+        givenRecurrences(recurrence("MONDAY", LocalTime.of(9, 0), LocalTime.of(10, 30), 45,
+                LocalDate.of(2030, 1, 7), LocalDate.of(2030, 1, 7)));
+
+        List<SlotTimeResponse> slots = service.findVirtualSlots(OFFERING_ID, RESOURCE_ID, MONDAY_MORNING, null, PAGE);
+
+        assertEquals(List.of(LocalDateTime.of(2030, 1, 7, 9, 0), LocalDateTime.of(2030, 1, 7, 9, 45)), starts(slots));
+    }
+
+    @Test
+    void shouldKeepWallClockTimesAcrossDaylightSavingChanges() {
+        givenRecurrences(recurrence("SUNDAY", LocalTime.of(1, 0), LocalTime.of(4, 0), 60,
+                LocalDate.of(2030, 3, 10), LocalDate.of(2030, 3, 10)));
+
+        List<SlotTimeResponse> slots = service.findVirtualSlots(OFFERING_ID, RESOURCE_ID, LocalDateTime.of(2030, 3, 9, 12, 0), null, PAGE);
+
+        assertEquals(List.of(
+                LocalDateTime.of(2030, 3, 10, 1, 0),
+                LocalDateTime.of(2030, 3, 10, 2, 0),
+                LocalDateTime.of(2030, 3, 10, 3, 0)
+        ), starts(slots));
+        slots.forEach(slot -> assertEquals(slot.getStartDateTime().plusHours(1), slot.getEndDateTime()));
+    }
+
+    @Test
+    void shouldSkipPastMaterializedOverlappedAndBlockedOccurrences() {
+        givenRecurrences(recurrence("MONDAY", LocalTime.of(7, 0), LocalTime.of(12, 0), 60,
+                LocalDate.of(2030, 1, 7), LocalDate.of(2030, 1, 7)));
+        when(slotTimeRepository.findMaterializedOccurrences(any(), any(), any()))
+                .thenReturn(List.of(interval(RECURRENCE_ID, 8, 9)));
+        when(slotTimeRepository.findSlotIntervalsInWindow(eq(OFFERING_ID), eq(RESOURCE_ID), any(), any()))
+                .thenReturn(List.of(interval("stored-slot", 9, 10)));
+        when(resourceAvailabilityIndex.existsOverlappingBooking(eq(RESOURCE_ID), eq(OFFERING_ID), any(), any()))
+                .thenAnswer(invocation -> invocation.<LocalDateTime>getArgument(2).getHour() == 10);
+
+        List<SlotTimeResponse> slots = service.findVirtualSlots(OFFERING_ID, RESOURCE_ID, LocalDateTime.of(2030, 1, 7, 8, 30), null, PAGE);
+
+        assertEquals(List.of(LocalDateTime.of(2030, 1, 7, 11, 0)), starts(slots));
+    }
+
+    @Test
+    void shouldExpandOnlyTheWindowOfThePageFromTheCursor() {
+        givenRecurrences(recurrence("MONDAY,TUESDAY,WEDNESDAY,THURSDAY,FRIDAY", LocalTime.of(9, 0), LocalTime.of(11, 0), 60,
+                LocalDate.of(2030, 1, 1), null));
+
+        List<SlotTimeResponse> slots = service.findVirtualSlots(OFFERING_ID, RESOURCE_ID, MONDAY_MORNING,
+                LocalDateTime.of(2030, 1, 8, 9, 0), 3);
+
+        assertEquals(List.of(
+                LocalDateTime.of(2030, 1, 8, 10, 0),
+                LocalDateTime.of(2030, 1, 9, 9, 0),
+                LocalDateTime.of(2030, 1, 9, 10, 0)
+        ), starts(slots));
+        // The first week from the cursor fills the page, so the rest of the horizon is not read
+        verify(slotTimeRepository).findMaterializedOccurrences(any(),
+                eq(LocalDateTime.of(2030, 1, 8, 0, 0)), eq(LocalDateTime.of(2030, 1, 15, 0, 0)));
+    }
+
+    @Test
+    void shouldRejectBookingACancelledOccurrence() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 10, 0);
+        SlotTimeEntity cancelled = SlotTimeEntity.builder().enabled(false).build();
+        when(recurrenceRepository.findByIdAndEnabledTrue(RECURRENCE_ID)).thenReturn(Optional.of(recurrence("MONDAY", LocalTime.of(9, 0),
+                LocalTime.of(10, 30), 30, LocalDate.of(2030, 1, 7), null)));
+        when(slotTimeRepository.findByRecurrenceIdAndStartDateTime(RECURRENCE_ID, start)).thenReturn(Optional.of(cancelled));
+
+        BusinessRuleException exception = assertThrows(BusinessRuleException.class, () -> service.materialize(RECURRENCE_ID, start));
+
+        assertEquals(BusinessErrorCodes.OCCURRENCE_CANCELLED.name(), exception.getMessage());
+        verify(slotTimeRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void shouldReturnNoVirtualSlotsWithoutRecurrences() {
+        when(recurrenceRepository.findByOfferingEntityIdAndResourceEntityIdAndEnabledTrue(OFFERING_ID, RESOURCE_ID)).thenReturn(List.of());
+
+        assertEquals(List.of(), service.findVirtualSlots(OFFERING_ID, RESOURCE_ID, MONDAY_MORNING, null, PAGE));
+        verify(slotTimeRepository, never()).findMaterializedOccurrences(any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectTimesThatAreNotOccurrences() {
+        SlotTimeRecurrenceEntity recurrence = recurrence("MONDAY", LocalTime.of(9, 0), LocalTime.of(10, 30), 30,
+                LocalDate.of(2030, 1, 7), LocalDate.of(2030, 1, 14));
+        when(recurrenceRepository.findByIdAndEnabledTrue(RECURRENCE_ID)).thenReturn(Optional.of(recurrence));
+
+        List<LocalDateTime> invalid = List.of(
+                LocalDateTime.of(2030, 1, 8, 9, 0),
+                LocalDateTime.of(2029, 12, 31, 9, 0),
+                LocalDateTime.of(2030, 1, 21, 9, 0),
+                LocalDateTime.of(2030, 1, 7, 9, 15),
+                LocalDateTime.of(2030, 1, 7, 8, 30),
+                LocalDateTime.of(2030, 1, 7, 10, 30),
+                LocalDateTime.of(2030, 1, 7, 9, 0, 30)
+        );
+        invalid.forEach(start -> assertThrows(IllegalArgumentException.class, () -> service.materialize(RECURRENCE_ID, start)));
+
+        verify(slotTimeRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void shouldInsertAndReadBackVirtualOccurrence() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 10, 0);
+        SlotTimeRecurrenceEntity recurrence = recurrence("MONDAY", LocalTime.of(9, 0), LocalTime.of(10, 30), 30,
+                LocalDate.of(2030, 1, 7), null);
+        SlotTimeEntity stored = SlotTimeEntity.builder().build();
+        when(recurrenceRepository.findByIdAndEnabledTrue(RECURRENCE_ID)).thenReturn(Optional.of(recurrence));
+        when(slotTimeRepository.findByRecurrenceIdAndStartDateTime(RECURRENCE_ID, start)).thenReturn(Optional.empty());
+        when(slotTimeRepository.findSlotIntervalsInWindow(OFFERING_ID, RESOURCE_ID, start, start.plusMinutes(30))).thenReturn(List.of());
+        when(slotTimeRepository.saveAndFlush(any())).thenReturn(stored);
+
+        assertSame(stored, service.materialize(RECURRENCE_ID, start));
+        ArgumentCaptor<SlotTimeEntity> occurrence = ArgumentCaptor.forClass(SlotTimeEntity.class);
+        verify(slotTimeRepository).saveAndFlush(occurrence.capture());
+        assertEquals(RECURRENCE_ID, occurrence.getValue().getRecurrenceId());
+        assertEquals(start.plusMinutes(30), occurrence.getValue().getEndDateTime());
+        assertEquals(2, occurrence.getValue().getCapacityAvailable());
+        verify(resourceAvailabilityIndex).invalidate(RESOURCE_ID);
+    }
+
+    @Test
+    void shouldInvalidateStorefrontWhenRecurrenceIsCreated() {
+        when(offeringRepository.findById(OFFERING_ID)).thenReturn(Optional.of(offeringEntity));
+        when(resourceRepositoryPort.findById(RESOURCE_ID)).thenReturn(Optional.of(resourceEntity));
+        when(recurrenceRepository.findByOfferingEntityIdAndResourceEntityIdAndEnabledTrue(OFFERING_ID, RESOURCE_ID)).thenReturn(List.of());
+        when(recurrenceRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.create(SlotTimeRecurrenceRequest.builder()
+                .offeringId(UUID.fromString(OFFERING_ID))
+                .resourceId(RESOURCE_ID)
+                .daysOfWeek(Set.of(DayOfWeek.MONDAY))
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(12, 0))
+                .slotDurationMinutes(60)
+                .validFrom(LocalDate.of(2030, 1, 7))
+                .build());
+
+        verify(storefrontCache).invalidate(USER_ID);
+    }
+
+    @Test
+    void shouldInvalidateStorefrontWhenRecurrenceIsDeleted() {
+        UUID recurrenceId = UUID.randomUUID();
+        when(recurrenceRepository.findByIdAndEnabledTrue(recurrenceId.toString()))
+                .thenReturn(Optional.of(recurrence("MONDAY", LocalTime.of(9, 0), LocalTime.of(12, 0), 60, LocalDate.of(2030, 1, 7), null)));
+
+        service.delete(recurrenceId);
+
+        verify(storefrontCache).invalidate(USER_ID);
+    }
+
+    private void givenRecurrences(SlotTimeRecurrenceEntity... recurrences) {
+        when(recurrenceRepository.findByOfferingEntityIdAndResourceEntityIdAndEnabledTrue(OFFERING_ID, RESOURCE_ID))
+                .thenReturn(List.of(recurrences));
+    }
+
+    private SlotTimeRecurrenceEntity recurrence(String days, LocalTime startTime, LocalTime endTime, int duration,
+                                                LocalDate validFrom, LocalDate validUntil) {
+        SlotTimeRecurrenceEntity recurrence = SlotTimeRecurrenceEntity.builder()
+                .enabled(true)
+                .offeringEntity(offeringEntity)
+                .resourceEntity(resourceEntity)
+                .daysOfWeek(days)
+                .startTime(startTime)
+                .endTime(endTime)
+                .slotDurationMinutes(duration)
+                .price(1000.0)
+                .validFrom(validFrom)
+                .validUntil(validUntil)
+                .build();
+        recurrence.setId(RECURRENCE_ID);
+        return recurrence;
+    }
+
+    private static ResourceInterval interval(String id, int startHour, int endHour) {
+        return new ResourceInterval(id, OFFERING_ID, LocalDateTime.of(2030, 1, 7, startHour, 0), LocalDateTime.of(2030, 1, 7, endHour, 0));
+    }
+
+    private static List<LocalDateTime> starts(List<SlotTimeResponse> slots) {
+        return slots.stream().map(SlotTimeResponse::getStartDateTime).toList();
+    }
+}
@@ -0,0 +1,151 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.adapter.input.controller.response.SlotTimeResponse;
+import com.reservalink.api.adapter.output.repository.BookingRepository;
+import com.reservalink.api.adapter.output.repository.OfferingRepository;
+import com.reservalink.api.adapter.output.repository.SlotTimeRepository;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import com.reservalink.api.application.output.ResourceRepositoryPort;
+import com.reservalink.api.application.service.offering.StorefrontCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlotTimeServiceImplAvailableSlotsTest {
+
+    private static final UUID OFFERING_ID = UUID.randomUUID();
+    private static final UUID RESOURCE_ID = UUID.randomUUID();
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    @Mock
+    private SlotTimeRepository slotTimeRepository;
+
+    @Mock
+    private OfferingRepository offeringRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ResourceRepositoryPort resourceRepositoryPort;
+
+    @Mock
+    private ResourceAvailabilityIndex resourceAvailabilityIndex;
+
+    @Mock
+    private SlotTimeRecurrenceService slotTimeRecurrenceService;
+
+    @Mock
+    private StorefrontCache storefrontCache;
+
+    private SlotTimeServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SlotTimeServiceImpl(slotTimeRepository, offeringRepository, bookingRepository, resourceRepositoryPort,
+                resourceAvailabilityIndex, slotTimeRecurrenceService, storefrontCache);
+    }
+
+    @Test
+    void shouldMergeStoredAndVirtualSlotsInStartOrder() {
+        givenVirtualSlots(virtual(10), virtual(12));
+        when(resourceAvailabilityIndex.findAvailableSlotTimesAfter(eq(OFFERING_ID.toString()), eq(RESOURCE_ID.toString()), any(), isNull(), eq(4)))
+                .thenReturn(List.of(stored(9), stored(11)));
+
+        Page<SlotTimeResponse> page = service.findAllAvailableSlotTimesByOfferingAndResourceId(OFFERING_ID, RESOURCE_ID, null, PageRequest.of(0, 3));
+
+        assertEquals(List.of(9, 10, 11), hours(page));
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    void shouldSkipTheOffsetAcrossBothSidesWithoutCursor() {
+        givenVirtualSlots(virtual(10), virtual(12));
+        when(resourceAvailabilityIndex.findAvailableSlotTimesAfter(eq(OFFERING_ID.toString()), eq(RESOURCE_ID.toString()), any(), isNull(), eq(5)))
+                .thenReturn(List.of(stored(9), stored(11)));
+
+        Page<SlotTimeResponse> page = service.findAllAvailableSlotTimesByOfferingAndResourceId(OFFERING_ID, RESOURCE_ID, null, PageRequest.of(1, 2));
+
+        assertEquals(List.of(11, 12), hours(page));
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void shouldReadBothSidesFromTheCursor() {
+        LocalDateTime after = DAY.withHour(11);
+        when(slotTimeRecurrenceService.findVirtualSlots(eq(OFFERING_ID.toString()), eq(RESOURCE_ID.toString()), any(), eq(after), eq(3)))
+                .thenReturn(List.of(virtual(12), virtual(15)));
+        when(resourceAvailabilityIndex.findAvailableSlotTimesAfter(eq(OFFERING_ID.toString()), eq(RESOURCE_ID.toString()), any(), eq(after), eq(3)))
+                .thenReturn(List.of(stored(13)));
+
+        Page<SlotTimeResponse> page = service.findAllAvailableSlotTimesByOfferingAndResourceId(OFFERING_ID, RESOURCE_ID, after, PageRequest.of(5, 2));
+
+        assertEquals(List.of(12, 13), hours(page));
+        assertEquals(0, page.getNumber());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    void shouldPageStoredSlotsByOffsetWithoutRecurrencesOrCursor() {
+        PageRequest pageable = PageRequest.of(0, 2);
+        givenVirtualSlots();
+        when(resourceAvailabilityIndex.findAvailableSlotTimes(eq(OFFERING_ID.toString()), eq(RESOURCE_ID.toString()), any(), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(stored(9)), pageable, 1));
+
+        Page<SlotTimeResponse> page = service.findAllAvailableSlotTimesByOfferingAndResourceId(OFFERING_ID, RESOURCE_ID, null, pageable);
+
+        assertEquals(List.of(9), hours(page));
+        verify(resourceAvailabilityIndex, never()).findAvailableSlotTimesAfter(any(), any(), any(), any(), anyInt());
+    }
+
+    private void givenVirtualSlots(SlotTimeResponse... slots) {
+        when(slotTimeRecurrenceService.findVirtualSlots(eq(OFFERING_ID.toString()), eq(RESOURCE_ID.toString()), any(), any(), anyInt()))
+                .thenReturn(List.of(slots));
+    }
+
+    private static SlotTimeResponse virtual(int hour) {
+        return SlotTimeResponse.builder()
+                .id("virtual-" + hour)
+                .startDateTime(DAY.withHour(hour))
+                .endDateTime(DAY.withHour(hour).plusHours(1))
+                .recurrenceId("recurrence-1")
+                .build();
+    }
+
+    private static SlotTimeEntity stored(int hour) {
+        SlotTimeEntity slot = SlotTimeEntity.builder()
+                .startDateTime(DAY.withHour(hour))
+                .endDateTime(DAY.withHour(hour).plusHours(1))
+                .capacityAvailable(1)
+                .maxCapacity(1)
+                .enabled(true)
+                .build();
+        slot.setId("stored-" + hour);
+        return slot;
+    }
+
+    private static List<Integer> hours(Page<SlotTimeResponse> page) {
+        return page.getContent().stream().map(slot -> slot.getStartDateTime().getHour()).toList();
+    }
+}
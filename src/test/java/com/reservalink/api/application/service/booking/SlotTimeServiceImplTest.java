@@ -0,0 +1,119 @@
+package com.reservalink.api.application.service.booking;
+
+import com.reservalink.api.adapter.input.controller.request.SlotTimeRequest;
+import com.reservalink.api.adapter.output.repository.BookingRepository;
+import com.reservalink.api.adapter.output.repository.OfferingRepository;
+import com.reservalink.api.adapter.output.repository.SlotTimeRepository;
+import com.reservalink.api.adapter.output.repository.entity.OfferingEntity;
+import com.reservalink.api.adapter.output.repository.entity.ResourceEntity;
+import com.reservalink.api.adapter.output.repository.entity.UserEntity;
+import com.reservalink.api.application.output.ResourceRepositoryPort;
+import com.reservalink.api.application.service.offering.StorefrontCache;
+import com.reservalink.api.domain.ResourceInterval;
+import com.reservalink.api.exception.BusinessErrorCodes;
+import com.reservalink.api.exception.BusinessRuleException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlotTimeServiceImplTest {
+
+    private static final UUID OFFERING_ID = UUID.randomUUID();
+    private static final String RESOURCE_ID = "resource-1";
+    private static final String USER_ID = "user-1";
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    @Mock
+    private SlotTimeRepository slotTimeRepository;
+
+    @Mock
+    private OfferingRepository offeringRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ResourceRepositoryPort resourceRepositoryPort;
+
+    @Mock
+    private ResourceAvailabilityIndex resourceAvailabilityIndex;
+
+    @Mock
+    private StorefrontCache storefrontCache;
+
+    @InjectMocks
+    private SlotTimeServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity userEntity = UserEntity.builder().build();
+        userEntity.setId(USER_ID);
+        OfferingEntity offeringEntity = OfferingEntity.builder().capacity(1).userEntity(userEntity).build();
+        offeringEntity.setId(OFFERING_ID.toString());
+        ResourceEntity resourceEntity = ResourceEntity.builder().build();
+        resourceEntity.setId(RESOURCE_ID);
+        when(offeringRepository.findById(OFFERING_ID.toString())).thenReturn(Optional.of(offeringEntity));
+        when(resourceRepositoryPort.findById(RESOURCE_ID)).thenReturn(Optional.of(resourceEntity));
+    }
+
+    @Test
+    void shouldRejectRequestOverlappingLongExistingSlot() {
+        List<SlotTimeRequest> requests = List.of(request(0, 30), request(30, 60), request(240, 270));
+        when(slotTimeRepository.findSlotIntervalsInWindow(OFFERING_ID.toString(), RESOURCE_ID, BASE, BASE.plusMinutes(270)))
+                .thenReturn(List.of(existing(-60, 0), existing(90, 300)));
+
+        BusinessRuleException exception = assertThrows(BusinessRuleException.class, () -> service.createList(requests));
+
+        assertEquals(BusinessErrorCodes.SLOT_TIME_OVERLAPPED.name(), exception.getCode());
+        verify(slotTimeRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void shouldCreateSlotsFittingBetweenExistingOnes() {
+        List<SlotTimeRequest> requests = new ArrayList<>();
+        List<ResourceInterval> existing = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            requests.add(request(i * 60, i * 60 + 30));
+            existing.add(existing(i * 60 + 30, i * 60 + 60));
+        }
+        when(slotTimeRepository.findSlotIntervalsInWindow(OFFERING_ID.toString(), RESOURCE_ID, BASE, BASE.plusMinutes(99 * 60 + 30)))
+                .thenReturn(existing);
+        when(slotTimeRepository.saveAll(anyList())).thenReturn(List.of());
+
+        service.createList(requests.reversed());
+
+        verify(slotTimeRepository).saveAll(anyList());
+        verify(storefrontCache).invalidate(USER_ID);
+    }
+
+    private static SlotTimeRequest request(int startMinutes, int endMinutes) {
+        return SlotTimeRequest.builder()
+                .offeringId(OFFERING_ID)
+                .resourceId(RESOURCE_ID)
+                .startDateTime(BASE.plusMinutes(startMinutes))
+                .endDateTime(BASE.plusMinutes(endMinutes))
+                .build();
+    }
+
+    private static ResourceInterval existing(int startMinutes, int endMinutes) {
+        return new ResourceInterval(UUID.randomUUID().toString(), OFFERING_ID.toString(),
+                BASE.plusMinutes(startMinutes), BASE.plusMinutes(endMinutes));
+    }
+}
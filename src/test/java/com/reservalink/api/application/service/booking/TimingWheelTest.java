@@ -0,0 +1,75 @@
+package com.reservalink.api.application.service.booking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    private static final long START = 1_700_000_000_250L;
+    private static final long TICK = 1000;
+
+    @Test
+    void shouldFireWithinOneTickOfDeadlineAcrossLevels() {
+        TimingWheel wheel = new TimingWheel(TICK, 8, 3, START);
+        Map<String, Long> deadlines = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = START + random.nextInt(500_000);
+            assertTrue(wheel.schedule("job-" + i, deadline));
+            deadlines.put("job-" + i, deadline);
+        }
+
+        long now = START;
+        while (!deadlines.isEmpty()) {
+            now += 1 + random.nextInt(1_500);
+            for (String id : wheel.advance(now)) {
+                long deadline = deadlines.remove(id);
+                assertTrue(deadline <= now, "fired early: " + id);
+            }
+            long finalNow = now;
+            assertTrue(deadlines.values().stream().allMatch(deadline -> finalNow - deadline < TICK), "fired late");
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldFireOverdueEntriesOnNextTick() {
+        TimingWheel wheel = new TimingWheel(TICK, 8, 2, START);
+
+        assertTrue(wheel.schedule("overdue", START - 60_000));
+
+        assertTrue(wheel.advance(START + 10).isEmpty());
+        assertEquals(List.of("overdue"), wheel.advance(START + TICK));
+    }
+
+    @Test
+    void shouldRejectDeadlinesBeyondCapacity() {
+        TimingWheel wheel = new TimingWheel(TICK, 8, 2, START);
+
+        assertFalse(wheel.schedule("far", START + 64 * TICK));
+        assertFalse(wheel.contains("far"));
+    }
+
+    @Test
+    void shouldRescheduleAndRemoveEntries() {
+        TimingWheel wheel = new TimingWheel(TICK, 8, 3, START);
+        wheel.schedule("moved", START + 100 * TICK);
+        wheel.schedule("moved", START + 3 * TICK);
+        wheel.schedule("removed", START + 2 * TICK);
+
+        assertTrue(wheel.remove("removed"));
+
+        List<String> fired = new ArrayList<>(wheel.advance(START + 5 * TICK));
+        fired.addAll(wheel.advance(START + 200 * TICK));
+        assertEquals(List.of("moved"), fired);
+    }
+}
@@ -0,0 +1,137 @@
+package com.reservalink.api.application.service.notification;
+
+import com.reservalink.api.application.output.NotificationOutboxRepositoryPort;
+import com.reservalink.api.application.service.notification.strategy.NotificationStrategy;
+import com.reservalink.api.application.service.notification.strategy.NotificationStrategyResolver;
+import com.reservalink.api.domain.NotificationOutboxMessage;
+import com.reservalink.api.domain.NotificationOutboxStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxWorkerTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private NotificationOutboxRepositoryPort outboxRepository;
+
+    @Mock
+    private NotificationStrategyResolver notificationStrategyResolver;
+
+    @Mock
+    private NotificationStrategy emailStrategy;
+
+    private NotificationOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new NotificationOutboxWorker(outboxRepository, notificationStrategyResolver, new SimpleMeterRegistry(),
+                10, 4, MAX_ATTEMPTS, Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofMinutes(5), "node-1");
+    }
+
+    @Test
+    void shouldMarkDeliveredMessagesAsSent() {
+        when(notificationStrategyResolver.resolve(NotificationChannel.EMAIL)).thenReturn(emailStrategy);
+        when(emailStrategy.send(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        worker.process(List.of(message("m1", 0), message("m2", 0)));
+
+        verify(outboxRepository).markSent(eq("m1"), eq("node-1"), any());
+        verify(outboxRepository).markSent(eq("m2"), eq("node-1"), any());
+        verify(outboxRepository, never()).scheduleRetry(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    void shouldRetryWithBackoffAndThenDeadLetter() {
+        when(notificationStrategyResolver.resolve(NotificationChannel.EMAIL)).thenReturn(emailStrategy);
+        when(emailStrategy.send(any(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("mailgun down")));
+        LocalDateTime before = LocalDateTime.now();
+
+        worker.process(List.of(message("retry", 1), message("dead", MAX_ATTEMPTS - 1)));
+
+        verify(outboxRepository).scheduleRetry(eq("retry"), eq("node-1"),
+                argThat(next -> !next.isBefore(before.plusSeconds(60))), eq("IllegalStateException: mailgun down"));
+        verify(outboxRepository).markDead(eq("dead"), eq("node-1"), any(), eq("IllegalStateException: mailgun down"));
+        verify(outboxRepository, never()).markSent(anyString(), anyString(), any());
+    }
+
+    @Test
+    void shouldMarkEachMessageWhenItsSendCompletes() {
+        CompletableFuture<Void> slowSend = new CompletableFuture<>();
+        when(notificationStrategyResolver.resolve(NotificationChannel.EMAIL)).thenReturn(emailStrategy);
+        when(emailStrategy.send(any(), any(), any())).thenAnswer(invocation -> {
+            NotificationTarget target = invocation.getArgument(0);
+            return "slow@test.com".equals(target.getEmail()) ? slowSend : CompletableFuture.completedFuture(null);
+        });
+        NotificationOutboxMessage slow = message("slow", 0);
+        slow.setTarget(NotificationTarget.builder().email("slow@test.com").build());
+
+        Thread processing = Thread.ofVirtual().start(() -> worker.process(List.of(slow, message("fast", 0))));
+
+        verify(outboxRepository, timeout(5000)).markSent(eq("fast"), eq("node-1"), any());
+        verify(outboxRepository, never()).markSent(eq("slow"), anyString(), any());
+        slowSend.complete(null);
+        verify(outboxRepository, timeout(5000)).markSent(eq("slow"), eq("node-1"), any());
+        assertDoesNotThrow(() -> processing.join(5000));
+    }
+
+    @Test
+    void shouldSendUnstoredNotificationWithoutWaitingForTheProvider() {
+        CompletableFuture<Void> slowSend = new CompletableFuture<>();
+        NotificationTarget target = NotificationTarget.builder().email("user@test.com").build();
+        Map<String, String> args = Map.of("recoverPasswordLink", "https://test/reset?token=raw");
+        when(notificationStrategyResolver.resolve(NotificationChannel.EMAIL)).thenReturn(emailStrategy);
+        when(emailStrategy.send(target, NotificationMotive.RESET_PASSWORD, args)).thenReturn(slowSend);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1),
+                () -> worker.sendUnstored(NotificationChannel.EMAIL, NotificationMotive.RESET_PASSWORD, target, args));
+
+        verify(emailStrategy, timeout(5000)).send(target, NotificationMotive.RESET_PASSWORD, args);
+        slowSend.complete(null);
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldCapBackoff() {
+        assertEquals(Duration.ofSeconds(30), worker.backoff(1));
+        assertEquals(Duration.ofSeconds(120), worker.backoff(3));
+        assertEquals(Duration.ofMinutes(5), worker.backoff(10));
+    }
+
+    private static NotificationOutboxMessage message(String id, int attempts) {
+        return NotificationOutboxMessage.builder()
+                .id(id)
+                .aggregateId("booking-1")
+                .channel(NotificationChannel.EMAIL)
+                .motive(NotificationMotive.BOOKING_CONFIRMED)
+                .target(NotificationTarget.builder().email("client@test.com").build())
+                .args(Map.of("clientName", "Client"))
+                .status(NotificationOutboxStatus.PENDING)
+                .attempts(attempts)
+                .build();
+    }
+}
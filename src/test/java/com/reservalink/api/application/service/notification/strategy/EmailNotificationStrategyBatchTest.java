@@ -0,0 +1,112 @@
+package com.reservalink.api.application.service.notification.strategy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.reservalink.api.application.service.notification.NotificationMotive;
+import com.reservalink.api.application.service.notification.NotificationRecipient;
+import com.reservalink.api.application.service.notification.NotificationTarget;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailNotificationStrategyBatchTest {
+
+    private static final Pattern TO_PART = Pattern.compile("name=\"to\"");
+
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private EmailNotificationStrategy strategy;
+    private int status = 200;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v3/mg.test.com/messages", exchange -> {
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            byte[] response = "{\"message\":\"Queued\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+
+        EmailTemplateRegistry registry = new EmailTemplateRegistry(new DefaultMustacheFactory(), new MockEnvironment(), false, "");
+        strategy = new EmailNotificationStrategy(registry, new RestTemplate(), new ObjectMapper(), "key", "mg.test.com",
+                "noreply@test.com", "http://localhost:" + server.getAddress().getPort(), 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldSendOneCallPerThousandRecipients() {
+        strategy.sendBatch(NotificationMotive.SUBSCRIPTION_EXPIRED, recipients(2500)).join();
+
+        assertEquals(3, receivedBodies.size());
+        assertEquals(List.of(1000, 1000, 500), receivedBodies.stream().map(EmailNotificationStrategyBatchTest::countTo).toList());
+        receivedBodies.forEach(body -> {
+            assertTrue(body.contains("name=\"recipient-variables\""));
+            assertTrue(body.contains("%recipient.name%"));
+        });
+        assertTrue(receivedBodies.get(2).contains("\"user2499@test.com\":{"));
+    }
+
+    @Test
+    void shouldEscapeRecipientValuesAndSkipRecipientsWithoutEmail() {
+        List<NotificationRecipient> recipients = List.of(
+                new NotificationRecipient(NotificationTarget.builder().email("a@test.com").build(), Map.of("name", "<b>Ana</b>")),
+                new NotificationRecipient(NotificationTarget.builder().build(), Map.of("name", "No Email")));
+
+        strategy.sendBatch(NotificationMotive.SUBSCRIPTION_EXPIRED, recipients).join();
+
+        assertEquals(1, receivedBodies.size());
+        assertEquals(1, countTo(receivedBodies.get(0)));
+        assertTrue(receivedBodies.get(0).contains("&lt;b&gt;Ana&lt;/b&gt;"));
+        assertFalse(receivedBodies.get(0).contains("No Email"));
+    }
+
+    @Test
+    void shouldAttemptEveryChunkAndFailWhenMailgunRejects() {
+        status = 500;
+
+        assertThrows(Exception.class, () -> strategy.sendBatch(NotificationMotive.SUBSCRIPTION_EXPIRED, recipients(1500)).join());
+        assertEquals(2, receivedBodies.size());
+    }
+
+    private static List<NotificationRecipient> recipients(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new NotificationRecipient(
+                        NotificationTarget.builder().email("user" + i + "@test.com").build(),
+                        Map.of("name", "User " + i, "recoverSubscriptionLink", "https://pay.test/" + i, "currentMonth", "ENERO")))
+                .toList();
+    }
+
+    private static int countTo(String body) {
+        Matcher matcher = TO_PART.matcher(body);
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,63 @@
+package com.reservalink.api.application.service.notification.strategy;
+
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.reservalink.api.application.service.notification.NotificationMotive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailTemplateRegistryTest {
+
+    private final EmailTemplateRegistry registry = new EmailTemplateRegistry(new DefaultMustacheFactory(), new MockEnvironment(), false, "");
+
+    @Test
+    void shouldRenderEveryMotive() {
+        for (NotificationMotive motive : NotificationMotive.values()) {
+            assertFalse(registry.render(motive, Map.of()).isBlank(), motive.name());
+        }
+    }
+
+    @Test
+    void shouldNotLeakContentBetweenRendersSharingABuffer() {
+        String first = registry.render(NotificationMotive.BOOKING_CONFIRMED, Map.of("clientName", "First Client", "serviceName", "Haircut"));
+        String second = registry.render(NotificationMotive.BOOKING_CONFIRMED, Map.of("clientName", "Second Client", "serviceName", "Haircut"));
+
+        assertTrue(first.contains("First Client"));
+        assertTrue(second.contains("Second Client"));
+        assertFalse(second.contains("First Client"));
+    }
+
+    @Test
+    void shouldRecompileTemplatesWhenHotReloadIsEnabled(@TempDir Path root) throws IOException {
+        Path template = root.resolve(EmailTemplateRegistry.TEMPLATE_PATH + "booking_cancelled.mustache");
+        Files.createDirectories(template.getParent());
+        Files.writeString(template, "Hola {{clientName}}, version 1");
+        EmailTemplateRegistry devRegistry = new EmailTemplateRegistry(new DefaultMustacheFactory(),
+                new MockEnvironment().withProperty("spring.profiles.active", "dev"), false, root.toString());
+
+        assertEquals("Hola Dev Client, version 1", devRegistry.render(NotificationMotive.BOOKING_CANCELLED, Map.of("clientName", "Dev Client")));
+
+        Files.writeString(template, "Hola {{clientName}}, version 2");
+
+        assertEquals("Hola Dev Client, version 2", devRegistry.render(NotificationMotive.BOOKING_CANCELLED, Map.of("clientName", "Dev Client")));
+    }
+
+    @Test
+    void shouldKeepTheStartupTemplateWithoutHotReload(@TempDir Path root) throws IOException {
+        Path template = root.resolve(EmailTemplateRegistry.TEMPLATE_PATH + "booking_cancelled.mustache");
+        Files.createDirectories(template.getParent());
+        Files.writeString(template, "Hola {{clientName}}, edited");
+        EmailTemplateRegistry prodRegistry = new EmailTemplateRegistry(new DefaultMustacheFactory(), new MockEnvironment(), false, root.toString());
+
+        assertFalse(prodRegistry.render(NotificationMotive.BOOKING_CANCELLED, Map.of("clientName", "Client")).contains("edited"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.reservalink.api.application.service.notification.strategy;
+
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.reservalink.api.application.service.notification.NotificationMotive;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders each motive's email with the templates compiled at startup, and compiled again on every
+ * render as the registry did before (and still does with hot reload).
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=EmailTemplateRenderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateRenderBenchmark {
+
+    @Param({"SUBSCRIPTION_EXPIRED", "BOOKING_CONFIRMED", "ADMIN_BOOKING_CONFIRMED", "BOOKING_CANCELLED",
+            "ADMIN_BOOKING_CANCELLED", "SUBSCRIPTION_PAYMENT_SUCCESS", "SUBSCRIPTION_PAYMENT_FAILED",
+            "SUBSCRIPTION_ABOUT_TO_EXPIRE", "SUBSCRIPTION_EXPIRED_RECOVER", "BOOKING_REMINDER", "RESET_PASSWORD",
+            "NEW_USER_REGISTERED", "APP_NEW_USER_REGISTERED"})
+    private NotificationMotive motive;
+
+    private EmailTemplateRegistry precompiled;
+    private EmailTemplateRegistry compiledPerRender;
+    private Map<String, Object> scope;
+
+    @Setup
+    public void setUp() {
+        precompiled = new EmailTemplateRegistry(new DefaultMustacheFactory(), new MockEnvironment(), false, "");
+        compiledPerRender = new EmailTemplateRegistry(new DefaultMustacheFactory(), new MockEnvironment(), true, "");
+        scope = new HashMap<>();
+        scope.put("clientName", "Juana Perez");
+        scope.put("clientEmail", "juana@example.com");
+        scope.put("clientPhoneNumber", "+5491155550000");
+        scope.put("professionalName", "Ana Lopez");
+        scope.put("serviceName", "Corte de pelo");
+        scope.put("date", "07/01/2030");
+        scope.put("time", "10:00");
+        scope.put("quantity", "1");
+        scope.put("phoneNumber", "+5491155551111");
+        scope.put("cancelLink", "https://example.com/booking/1/cancel");
+        scope.put("name", "Ana");
+        scope.put("userName", "Ana");
+        scope.put("month", "enero");
+        scope.put("currentMonth", "enero");
+        scope.put("currentYear", "2030");
+        scope.put("daysBefore", "3");
+        scope.put("daysAfter", "3");
+        scope.put("trialDaysCount", "15");
+        scope.put("success", motive == NotificationMotive.SUBSCRIPTION_PAYMENT_SUCCESS);
+        scope.put("failed", motive == NotificationMotive.SUBSCRIPTION_PAYMENT_FAILED);
+        scope.put("loginLink", "https://example.com/login");
+        scope.put("recoverPasswordLink", "https://example.com/reset");
+        scope.put("recoverSubscriptionLink", "https://example.com/subscription");
+    }
+
+    @Benchmark
+    public String precompiled() {
+        return precompiled.render(motive, scope);
+    }
+
+    @Benchmark
+    public String compiledPerRender() {
+        return compiledPerRender.render(motive, scope);
+    }
+}
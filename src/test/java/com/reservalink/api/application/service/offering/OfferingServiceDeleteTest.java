@@ -0,0 +1,101 @@
+package com.reservalink.api.application.service.offering;
+
+import com.reservalink.api.adapter.output.repository.OfferingCategoryRepositoryAdapter;
+import com.reservalink.api.adapter.output.repository.OfferingRepository;
+import com.reservalink.api.adapter.output.repository.OfferingRepositoryAdapter;
+import com.reservalink.api.adapter.output.repository.SlotTimeRecurrenceRepository;
+import com.reservalink.api.adapter.output.repository.SlotTimeRepository;
+import com.reservalink.api.adapter.output.repository.SlotTimeRepositoryAdapter;
+import com.reservalink.api.adapter.output.repository.TestData;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeEntity;
+import com.reservalink.api.adapter.output.repository.entity.SlotTimeRecurrenceEntity;
+import com.reservalink.api.adapter.output.repository.mapper.OfferingCategoryMapper;
+import com.reservalink.api.adapter.output.repository.mapper.OfferingRepositoryMapper;
+import com.reservalink.api.adapter.output.repository.mapper.SlotTimeRepositoryMapper;
+import com.reservalink.api.application.service.booking.ResourceAvailabilityIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Deletes through the OfferingService proxy with no surrounding transaction, as the controller
+ * calls it with open-in-view off.
+ */
+@DataJpaTest(properties = "spring.profiles.active=test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OfferingServiceImpl.class, OfferingRepositoryAdapter.class, OfferingRepositoryMapper.class, OfferingCategoryRepositoryAdapter.class,
+        OfferingCategoryMapper.class, SlotTimeRepositoryAdapter.class, SlotTimeRepositoryMapper.class, TestData.class,
+        OfferingServiceDeleteTest.Config.class})
+class OfferingServiceDeleteTest {
+
+    @Autowired
+    private OfferingService offeringService;
+
+    @Autowired
+    private OfferingRepository offeringRepository;
+
+    @Autowired
+    private SlotTimeRepository slotTimeRepository;
+
+    @Autowired
+    private SlotTimeRecurrenceRepository recurrenceRepository;
+
+    @Autowired
+    private ResourceAvailabilityIndex resourceAvailabilityIndex;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void shouldDisableTheActiveSlotsAndRecurrencesOfADeletedOffering() {
+        TestData.Tenant tenant = testData.tenant("offering-delete", 2);
+        SlotTimeEntity slot = testData.slot(tenant, LocalDateTime.now().plusDays(1).withNano(0), 2);
+        SlotTimeRecurrenceEntity recurrence = recurrenceRepository.save(SlotTimeRecurrenceEntity.builder()
+                .enabled(true)
+                .offeringEntity(tenant.offering())
+                .resourceEntity(tenant.resource())
+                .daysOfWeek("MONDAY")
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(12, 0))
+                .slotDurationMinutes(60)
+                .validFrom(LocalDate.now())
+                .build());
+
+        offeringService.delete(UUID.fromString(tenant.offering().getId()));
+
+        assertFalse(offeringRepository.findById(tenant.offering().getId()).orElseThrow().getEnabled());
+        assertFalse(slotTimeRepository.findById(slot.getId()).orElseThrow().getEnabled());
+        assertFalse(recurrenceRepository.findById(recurrence.getId()).orElseThrow().getEnabled());
+        verify(resourceAvailabilityIndex).invalidate(tenant.resource().getId());
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        ResourceAvailabilityIndex resourceAvailabilityIndex() {
+            return mock(ResourceAvailabilityIndex.class);
+        }
+
+        @Bean
+        StorefrontCache storefrontCache() {
+            return mock(StorefrontCache.class);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.reservalink.api.application.service.offering;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservalink.api.adapter.input.controller.response.OfferingResponse;
+import com.reservalink.api.application.output.ResourceRepositoryPort;
+import com.reservalink.api.domain.Resource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StorefrontServiceImplTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private final OfferingService offeringService = mock(OfferingService.class);
+    private final OfferingCategoryService categoryService = mock(OfferingCategoryService.class);
+    private final ResourceRepositoryPort resourceRepositoryPort = mock(ResourceRepositoryPort.class);
+    private StorefrontCache storefrontCache;
+    private StorefrontServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        storefrontCache = new StorefrontCache(new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+        service = new StorefrontServiceImpl(offeringService, categoryService, resourceRepositoryPort, storefrontCache, new ObjectMapper());
+        when(categoryService.getCategoriesInUseByUserId(USER_ID.toString())).thenReturn(List.of());
+        when(resourceRepositoryPort.findAllAvailableByUserIdGroupedByOffering(USER_ID.toString()))
+                .thenReturn(Map.of("offering-1", List.of(Resource.builder().id("resource-1").isDefault(true).build())));
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        when(offeringService.findAllByUserId(USER_ID)).thenReturn(List.of(offering("Corte")));
+
+        Storefront first = service.findByUserId(USER_ID);
+        Storefront second = service.findByUserId(USER_ID);
+
+        assertSame(first, second);
+        assertEquals("resource-1", first.response().getResourcesByOffering().get("offering-1").get(0).getId());
+        verify(offeringService, times(1)).findAllByUserId(USER_ID);
+        verify(resourceRepositoryPort, times(1)).findAllAvailableByUserIdGroupedByOffering(USER_ID.toString());
+    }
+
+    @Test
+    void shouldReloadWithNewEtagAfterInvalidation() {
+        when(offeringService.findAllByUserId(USER_ID)).thenReturn(List.of(offering("Corte")), List.of(offering("Color")));
+
+        Storefront before = service.findByUserId(USER_ID);
+        storefrontCache.invalidate(USER_ID.toString());
+        Storefront after = service.findByUserId(USER_ID);
+
+        assertNotEquals(before.etag(), after.etag());
+        assertEquals("Color", after.response().getOfferings().get(0).getName());
+    }
+
+    @Test
+    void shouldKeepEtagWhenContentIsUnchanged() {
+        when(offeringService.findAllByUserId(USER_ID)).thenReturn(List.of(offering("Corte")));
+
+        Storefront before = service.findByUserId(USER_ID);
+        storefrontCache.invalidate(USER_ID.toString());
+        Storefront after = service.findByUserId(USER_ID);
+
+        assertEquals(before.etag(), after.etag());
+    }
+
+    @Test
+    void shouldRejectMissingUserId() {
+        assertThrows(IllegalArgumentException.class, () -> service.findByUserId(null));
+    }
+
+    private static OfferingResponse offering(String name) {
+        return OfferingResponse.builder()
+                .id(UUID.nameUUIDFromBytes(name.getBytes()))
+                .userId(USER_ID)
+                .name(name)
+                .build();
+    }
+}
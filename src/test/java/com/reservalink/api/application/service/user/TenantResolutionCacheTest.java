@@ -0,0 +1,69 @@
+package com.reservalink.api.application.service.user;
+
+import com.reservalink.api.domain.Tenant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TenantResolutionCacheTest {
+
+    private final TenantResolutionCache cache = new TenantResolutionCache(new SimpleMeterRegistry(), Duration.ofMinutes(5), 100);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldResolveRepeatedVisitsWithASingleLoad() {
+        Function<String, Tenant> loader = loader(new Tenant("user-1", "a@test.com", false));
+
+        cache.get("barberia", loader);
+        Tenant tenant = cache.get("barberia", loader);
+
+        assertEquals("user-1", tenant.getUserId());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldNotCacheUnknownBrands() {
+        Function<String, Tenant> loader = loader(null);
+
+        assertNull(cache.get("unknown", loader));
+        assertNull(cache.get("unknown", loader));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldReloadAfterSubscriptionStateChange() {
+        cache.get("barberia", loader(new Tenant("user-1", "a@test.com", false)));
+        cache.get("estetica", loader(new Tenant("user-2", "b@test.com", false)));
+
+        cache.onSubscriptionStateChanged(new SubscriptionStateChangedEvent(List.of("a@test.com")));
+
+        assertTrue(cache.get("barberia", loader(new Tenant("user-1", "a@test.com", true))).isSubscriptionExpired());
+        assertFalse(cache.get("estetica", loader(new Tenant("user-2", "b@test.com", true))).isSubscriptionExpired());
+    }
+
+    @Test
+    void shouldForgetRenamedBrand() {
+        cache.get("barberia", loader(new Tenant("user-1", "a@test.com", false)));
+
+        cache.invalidateBrand("barberia");
+
+        assertNull(cache.get("barberia", loader(null)));
+    }
+
+    private Function<String, Tenant> loader(Tenant tenant) {
+        return brandName -> {
+            loads.incrementAndGet();
+            return tenant;
+        };
+    }
+}
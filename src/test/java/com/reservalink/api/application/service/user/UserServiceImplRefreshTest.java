@@ -0,0 +1,98 @@
+package com.reservalink.api.application.service.user;
+
+import com.reservalink.api.adapter.output.repository.BrandRepository;
+import com.reservalink.api.adapter.output.repository.RecoverPasswordTokenRepository;
+import com.reservalink.api.adapter.output.repository.UserRepository;
+import com.reservalink.api.adapter.output.repository.entity.SubscriptionEntity;
+import com.reservalink.api.adapter.output.repository.entity.UserEntity;
+import com.reservalink.api.application.output.OfferingCategoryServiceRepositoryPort;
+import com.reservalink.api.application.output.ResourceRepositoryPort;
+import com.reservalink.api.application.service.notification.NotificationService;
+import com.reservalink.api.application.service.payment.PaymentService;
+import com.reservalink.api.config.security.JWTUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceImplRefreshTest {
+
+    private final JWTUtils jwtUtils = new JWTUtils("test-secret-key-with-at-least-32-bytes!!", Duration.ofMinutes(15), Duration.ofDays(7));
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BrandRepository brandRepository;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private RecoverPasswordTokenRepository recoverPasswordTokenRepository;
+
+    @Mock
+    private ResourceRepositoryPort resourceRepository;
+
+    @Mock
+    private OfferingCategoryServiceRepositoryPort categoryRepository;
+
+    @Mock
+    private TenantResolutionCache tenantResolutionCache;
+
+    private UserServiceImpl userService;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserServiceImpl(userRepository, new BCryptPasswordEncoder(), jwtUtils, brandRepository, paymentService,
+                notificationService, recoverPasswordTokenRepository, resourceRepository, categoryRepository, tenantResolutionCache);
+    }
+
+    @Test
+    void shouldRefreshWithTokenOfTheCurrentVersion() {
+        UserEntity user = user(2);
+        when(userRepository.findById("user-1")).thenReturn(Optional.of(user));
+
+        assertEquals("ana@test.com", userService.refresh(jwtUtils.generateRefreshToken(user)).getEmail());
+    }
+
+    @Test
+    void shouldRejectRefreshTokenIssuedBeforeTheVersionWasBumped() {
+        String refreshToken = jwtUtils.generateRefreshToken(user(2));
+        when(userRepository.findById("user-1")).thenReturn(Optional.of(user(3)));
+
+        assertThrows(BadCredentialsException.class, () -> userService.refresh(refreshToken));
+    }
+
+    @Test
+    void shouldBumpTokenVersionOfTheRefreshTokenOwner() {
+        userService.revokeRefreshTokens(jwtUtils.generateRefreshToken(user(0)));
+
+        verify(userRepository).incrementTokenVersion("user-1");
+    }
+
+    private static UserEntity user(int tokenVersion) {
+        return UserEntity.builder()
+                .id("user-1")
+                .enabled(true)
+                .email("ana@test.com")
+                .tokenVersion(tokenVersion)
+                .subscriptionEntity(SubscriptionEntity.builder().expired(false).build())
+                .build();
+    }
+}
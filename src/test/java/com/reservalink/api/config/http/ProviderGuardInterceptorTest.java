@@ -0,0 +1,87 @@
+package com.reservalink.api.config.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProviderGuardInterceptorTest {
+
+    private final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("https://api.mailgun.net/v3/test/messages"));
+
+    @Test
+    void shouldOpenAfterConsecutiveFailuresAndRejectWithoutCallingProvider() throws IOException {
+        ProviderGuardInterceptor interceptor = new ProviderGuardInterceptor("mailgun", 4, Duration.ofSeconds(1),
+                2, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        AtomicInteger calls = new AtomicInteger();
+        ClientHttpRequestExecution failing = (req, body) -> {
+            calls.incrementAndGet();
+            return new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE);
+        };
+
+        interceptor.intercept(request, new byte[0], failing);
+        interceptor.intercept(request, new byte[0], failing);
+
+        assertThrows(IOException.class, () -> interceptor.intercept(request, new byte[0], failing));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldNotCountClientErrorsAsFailures() throws IOException {
+        ProviderGuardInterceptor interceptor = new ProviderGuardInterceptor("meta", 4, Duration.ofSeconds(1),
+                1, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        ClientHttpRequestExecution badRequest = (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.BAD_REQUEST);
+
+        interceptor.intercept(request, new byte[0], badRequest);
+
+        assertEquals(HttpStatus.BAD_REQUEST, interceptor.intercept(request, new byte[0], badRequest).getStatusCode());
+    }
+
+    @Test
+    void shouldAllowSingleTrialAfterOpenDurationAndCloseOnSuccess() {
+        AtomicLong now = new AtomicLong();
+        ProviderGuardInterceptor.CircuitBreaker breaker = new ProviderGuardInterceptor.CircuitBreaker(1, Duration.ofSeconds(30), now::get);
+
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.onFailure());
+        assertFalse(breaker.tryAcquire());
+
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onSuccess();
+        assertFalse(breaker.isOpen());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void shouldReopenWhenTrialFails() {
+        AtomicLong now = new AtomicLong();
+        ProviderGuardInterceptor.CircuitBreaker breaker = new ProviderGuardInterceptor.CircuitBreaker(3, Duration.ofSeconds(30), now::get);
+        for (int i = 0; i < 3; i++) {
+            breaker.tryAcquire();
+            breaker.onFailure();
+        }
+        assertTrue(breaker.isOpen());
+
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.onFailure());
+        assertFalse(breaker.tryAcquire());
+    }
+}
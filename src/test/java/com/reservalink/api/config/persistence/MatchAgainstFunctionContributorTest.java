@@ -0,0 +1,67 @@
+package com.reservalink.api.config.persistence;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Renders match_against through a session factory that has no database: the statement inspector
+ * sees the SQL before the query fails for want of a connection.
+ */
+class MatchAgainstFunctionContributorTest {
+
+    private static final String QUERY = "select match_against('Ana', 'ana@test.com', '+5491100', :search)";
+
+    @Test
+    void shouldRenderBooleanModePhraseSearchOnMySql() {
+        String sql = render(MySQLDialect.class);
+
+        assertTrue(sql.contains("match ('Ana', 'ana@test.com', '+5491100') against (concat('\"', "), sql);
+        assertTrue(sql.contains(", '\"') in boolean mode)"), sql);
+    }
+
+    @Test
+    void shouldRenderCaseInsensitiveLikeOnOtherDatabases() {
+        String sql = render(H2Dialect.class);
+
+        assertTrue(sql.contains("case when lower(concat(coalesce('Ana', ''), ' ', coalesce('ana@test.com', ''), ' ', coalesce('+5491100', ''))) "
+                + "like lower(concat('%', "), sql);
+        assertTrue(sql.contains(", '%')) then 1.0 else 0.0 end"), sql);
+    }
+
+    private static String render(Class<? extends Dialect> dialect) {
+        List<String> statements = new CopyOnWriteArrayList<>();
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DIALECT, dialect.getName())
+                .applySetting(AvailableSettings.ALLOW_METADATA_ON_BOOT, false)
+                .applySetting(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                    statements.add(sql);
+                    return sql;
+                })
+                .build();
+        try (SessionFactory sessionFactory = new MetadataSources(registry).buildMetadata().buildSessionFactory();
+             Session session = sessionFactory.openSession()) {
+            assertThrows(RuntimeException.class,
+                    () -> session.createSelectionQuery(QUERY, Double.class).setParameter("search", "ana").list());
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+        assertEquals(1, statements.size(), statements::toString);
+        return statements.get(0);
+    }
+}
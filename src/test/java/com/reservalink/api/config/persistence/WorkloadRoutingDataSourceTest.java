@@ -0,0 +1,82 @@
+package com.reservalink.api.config.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WorkloadRoutingDataSourceTest {
+
+    private final DataSource webDataSource = mock(DataSource.class);
+    private final DataSource jobsDataSource = mock(DataSource.class);
+    private final Connection webConnection = mock(Connection.class);
+    private final Connection jobsConnection = mock(Connection.class);
+    private WorkloadRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(webDataSource.getConnection()).thenReturn(webConnection);
+        when(jobsDataSource.getConnection()).thenReturn(jobsConnection);
+        dataSource = new WorkloadRoutingDataSource();
+        dataSource.setTargetDataSources(Map.of(Workload.WEB, webDataSource, Workload.JOBS, jobsDataSource));
+        dataSource.setDefaultTargetDataSource(webDataSource);
+        dataSource.afterPropertiesSet();
+    }
+
+    @Test
+    void shouldUseWebPoolByDefault() throws SQLException {
+        assertEquals(Workload.WEB, Workload.current());
+        assertSame(webConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void shouldUseJobsPoolInsideJobAndRestoreWebAfterwards() throws SQLException {
+        AtomicReference<Connection> connection = new AtomicReference<>();
+
+        Workload.runAsJob(() -> {
+            try {
+                connection.set(dataSource.getConnection());
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertSame(jobsConnection, connection.get());
+        assertSame(webConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void shouldKeepJobsPoolOnThreadsStartedByJob() {
+        AtomicReference<Workload> workload = new AtomicReference<>();
+
+        Workload.runAsJob(() -> {
+            Thread thread = Thread.ofVirtual().start(() -> workload.set(Workload.current()));
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertEquals(Workload.JOBS, workload.get());
+    }
+
+    @Test
+    void shouldRestoreWorkloadWhenJobFails() {
+        assertThrows(IllegalStateException.class, () -> Workload.runAsJob(() -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(Workload.WEB, Workload.current());
+    }
+}
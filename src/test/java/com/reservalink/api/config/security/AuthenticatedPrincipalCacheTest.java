@@ -0,0 +1,73 @@
+package com.reservalink.api.config.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservalink.api.application.service.user.SubscriptionStateChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AuthenticatedPrincipalCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+    private static final Instant ISSUED_AT = NOW.minusSeconds(30);
+
+    private final SubscriptionChangeRegistry subscriptionChangeRegistry = new SubscriptionChangeRegistry(
+            Caffeine.newBuilder().build(), Clock.fixed(NOW, ZoneOffset.UTC));
+    private final AuthenticatedPrincipalCache cache = new AuthenticatedPrincipalCache(
+            Caffeine.newBuilder().build(), subscriptionChangeRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void shouldReturnCachedPrincipalForSameToken() {
+        UserDetails ana = user("ana@test.com");
+        cache.put("token-ana", ana, ISSUED_AT, NOW.plusSeconds(60));
+
+        assertSame(ana, cache.get("token-ana"));
+        assertNull(cache.get("token-other"));
+    }
+
+    @Test
+    void shouldNotServeExpiredTokens() {
+        cache.put("token-ana", user("ana@test.com"), ISSUED_AT, NOW);
+
+        assertNull(cache.get("token-ana"));
+    }
+
+    @Test
+    void shouldDropEveryTokenOfUserWhenSubscriptionChanges() {
+        UserDetails bob = user("bob@test.com");
+        cache.put("token-ana-1", user("ana@test.com"), ISSUED_AT, NOW.plusSeconds(60));
+        cache.put("token-ana-2", user("ana@test.com"), ISSUED_AT, NOW.plusSeconds(60));
+        cache.put("token-bob", bob, ISSUED_AT, NOW.plusSeconds(60));
+
+        cache.onSubscriptionStateChanged(new SubscriptionStateChangedEvent(List.of("ana@test.com")));
+
+        assertNull(cache.get("token-ana-1"));
+        assertNull(cache.get("token-ana-2"));
+        assertSame(bob, cache.get("token-bob"));
+    }
+
+    @Test
+    void shouldNotServePrincipalPutAfterSubscriptionChangeFromOlderToken() {
+        SubscriptionStateChangedEvent event = new SubscriptionStateChangedEvent(List.of("ana@test.com"));
+        subscriptionChangeRegistry.onSubscriptionStateChanged(event);
+        cache.onSubscriptionStateChanged(event);
+
+        // A request that verified its token before the change puts the principal once the entries were dropped
+        cache.put("token-ana", user("ana@test.com"), ISSUED_AT, NOW.plusSeconds(60));
+
+        assertNull(cache.get("token-ana"));
+    }
+
+    private static UserDetails user(String email) {
+        return new User(email, "", List.of(new SimpleGrantedAuthority(Authority.SUBSCRIPTION_ACTIVE.name())));
+    }
+}
@@ -0,0 +1,77 @@
+package com.reservalink.api.config.security;
+
+import com.reservalink.api.adapter.output.repository.entity.SubscriptionEntity;
+import com.reservalink.api.adapter.output.repository.entity.UserEntity;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JWTUtilsTest {
+
+    private static final String SECRET = "test-secret-key-with-at-least-32-bytes!!";
+
+    private final JWTUtils jwtUtils = new JWTUtils(SECRET, Duration.ofMinutes(15), Duration.ofDays(7));
+
+    @Test
+    void shouldAuthenticateFromAccessTokenClaims() {
+        Claims claims = jwtUtils.parseVerifiedClaims(jwtUtils.generateToken(user(false)));
+        UserDetails principal = jwtUtils.toPrincipal(claims);
+
+        assertEquals("user-1", claims.get(JWTUtils.USER_ID_CLAIM, String.class));
+        assertEquals("ana@test.com", principal.getUsername());
+        assertEquals(List.of(Authority.ROLE_USER.name(), Authority.SUBSCRIPTION_ACTIVE.name()),
+                principal.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    void shouldCarryExpiredSubscriptionState() {
+        UserDetails principal = jwtUtils.toPrincipal(jwtUtils.parseVerifiedClaims(jwtUtils.generateToken(user(true))));
+
+        assertEquals(List.of(Authority.ROLE_USER.name(), Authority.SUBSCRIPTION_EXPIRED.name()),
+                principal.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    void shouldNotAcceptTokensOfTheOtherType() {
+        String refreshToken = jwtUtils.generateRefreshToken(user(false));
+        String accessToken = jwtUtils.generateToken(user(false));
+
+        assertEquals("user-1", jwtUtils.parseRefreshToken(refreshToken).userId());
+        assertThrows(JwtException.class, () -> jwtUtils.parseVerifiedClaims(refreshToken));
+        assertThrows(JwtException.class, () -> jwtUtils.parseRefreshToken(accessToken));
+    }
+
+    @Test
+    void shouldCarryTokenVersionInRefreshToken() {
+        UserEntity user = user(false);
+        user.setTokenVersion(3);
+
+        assertEquals(new JWTUtils.RefreshToken("user-1", 3), jwtUtils.parseRefreshToken(jwtUtils.generateRefreshToken(user)));
+    }
+
+    @Test
+    void shouldRejectExpiredAccessTokenButStillIdentifyItsOwner() {
+        JWTUtils expiredIssuer = new JWTUtils(SECRET, Duration.ofSeconds(-1), Duration.ofDays(7));
+        String expired = expiredIssuer.generateToken(user(false));
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtils.parseVerifiedClaims(expired));
+        assertEquals("ana@test.com", jwtUtils.getEmailFromToken(expired));
+    }
+
+    private static UserEntity user(boolean subscriptionExpired) {
+        return UserEntity.builder()
+                .id("user-1")
+                .email("ana@test.com")
+                .subscriptionEntity(SubscriptionEntity.builder().expired(subscriptionExpired).build())
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.reservalink.api.config.security;
+
+import com.reservalink.api.application.service.user.UserService;
+import io.jsonwebtoken.ExpiredJwtException;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private final JWTUtils jwtUtils = new JWTUtils("test-secret-key-with-at-least-32-bytes!!", Duration.ofMinutes(15), Duration.ofDays(7));
+    private final AuthCookies authCookies = new AuthCookies(jwtUtils);
+    private final UserService userService = mock(UserService.class);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtils, userService,
+            mock(AuthenticatedPrincipalCache.class), mock(SubscriptionChangeRegistry.class), authCookies);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldClearExpiredRefreshCookieAndContinueUnauthenticated() throws Exception {
+        when(userService.refresh("expired")).thenThrow(new ExpiredJwtException(null, null, "JWT expired"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(requestWithRefreshCookie("expired"), response, chain);
+
+        assertRefreshCookieCleared(response);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void shouldClearRefreshCookieOfDisabledUser() throws Exception {
+        when(userService.refresh("disabled")).thenThrow(new BadCredentialsException("Invalid refresh token"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(requestWithRefreshCookie("disabled"), response, new MockFilterChain());
+
+        assertRefreshCookieCleared(response);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private static void assertRefreshCookieCleared(MockHttpServletResponse response) {
+        Cookie cookie = response.getCookie(AuthCookies.REFRESH_TOKEN_COOKIE);
+        assertNotNull(cookie);
+        assertEquals(0, cookie.getMaxAge());
+        assertEquals("", cookie.getValue());
+    }
+
+    private static MockHttpServletRequest requestWithRefreshCookie(String refreshToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/booking/grid");
+        request.setCookies(new Cookie(AuthCookies.REFRESH_TOKEN_COOKIE, refreshToken));
+        return request;
+    }
+}
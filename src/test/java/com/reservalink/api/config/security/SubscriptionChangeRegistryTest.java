@@ -0,0 +1,30 @@
+package com.reservalink.api.config.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservalink.api.application.service.user.SubscriptionStateChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SubscriptionChangeRegistryTest {
+
+    private static final Instant CHANGED_AT = Instant.parse("2025-06-01T12:00:00.750Z");
+
+    private final SubscriptionChangeRegistry registry = new SubscriptionChangeRegistry(
+            Caffeine.newBuilder().build(), Clock.fixed(CHANGED_AT, ZoneOffset.UTC));
+
+    @Test
+    void shouldFlagTokensIssuedBeforeTheChange() {
+        registry.onSubscriptionStateChanged(new SubscriptionStateChangedEvent(List.of("ana@test.com")));
+
+        assertTrue(registry.isStale("ana@test.com", Instant.parse("2025-06-01T11:59:59Z")));
+        assertFalse(registry.isStale("ana@test.com", Instant.parse("2025-06-01T12:00:00Z")));
+        assertFalse(registry.isStale("bob@test.com", Instant.parse("2025-06-01T11:00:00Z")));
+    }
+}